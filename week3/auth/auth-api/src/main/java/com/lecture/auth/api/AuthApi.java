@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
  * week2: HttpServletResponse 추가 (쿠키 설정용)
  * week2: DeviceInfo 파라미터 추가 (ArgumentResolver로 주입)
  * week3: LoginResponse 추가 (Bearer 토큰 인증을 위해 Access Token 반환)
+ * week3: Rate Limit 초과 시 429 응답 (X-RateLimit-*, Retry-After 헤더)
  */
 @Tag(name = "Auth", description = "인증 관련 API")
 @RequestMapping("/api/auth")
@@ -36,6 +37,11 @@ public interface AuthApi {
             responseCode = "200",
             description = "로그인 성공",
             content = @Content(schema = @Schema(implementation = LoginResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "로그인 시도 횟수 초과 (Retry-After 헤더의 초만큼 기다린 후 재시도)",
+            content = @Content
         )
     })
     @PostMapping("/login")
@@ -4,6 +4,7 @@ import com.lecture.auth.api.AuthApi;
 import com.lecture.auth.api.LoginRequest;
 import com.lecture.auth.api.LoginResponse;
 import com.lecture.auth.infrastructure.DeviceInfo;
+import com.lecture.auth.infrastructure.RateLimitResponseWriter;
 import com.lecture.auth.orchestrator.AuthOrchestrator;
 import com.lecture.auth.orchestrator.LoginResultWithCookies;
 import jakarta.servlet.http.HttpServletResponse;
@@ -24,17 +25,24 @@ import org.springframework.web.bind.annotation.RestController;
  * 
  * week3 개선:
  * - LoginResponse 반환 (Bearer 토큰 인증을 위해 Access Token 포함)
+ * - Rate Limit 결과를 X-RateLimit-* 헤더로 설정, 차단 시 429 + Retry-After
  */
 @RestController
 @RequiredArgsConstructor
 public class AuthController implements AuthApi {
     
     private final AuthOrchestrator authOrchestrator;
+    private final RateLimitResponseWriter rateLimitResponseWriter;
     
     @Override
     public LoginResponse login(LoginRequest request, DeviceInfo deviceInfo, HttpServletResponse response) {
         LoginResultWithCookies result = authOrchestrator.login(request, deviceInfo);
         
+        // Rate Limit 헤더 설정 (차단이면 429 + Retry-After, 본문 없음)
+        if (!rateLimitResponseWriter.write(result.getRateLimitDecision(), response)) {
+            return null;
+        }
+        
         // 쿠키를 Response에 추가
         response.addCookie(result.getAccessTokenCookie());
         response.addCookie(result.getRefreshTokenCookie());
@@ -0,0 +1,19 @@
+package com.lecture.auth.domain;
+
+/**
+ * Rate Limit 알고리즘
+ *
+ * FIXED_WINDOW: 첫 요청부터 window 동안 limit회 (키당 카운터 하나)
+ *   - window 경계에서 최대 2배까지 몰릴 수 있고, 초과 시 window가 끝날 때까지 차단됩니다.
+ * SLIDING_WINDOW: 현재 window 카운트 + 이전 window 카운트 x 남은 비율 (키당 카운터 두 개)
+ *   - 경계에서 몰리는 요청을 막고, 차단은 이전 window의 비중이 줄어드는 만큼 점차 풀립니다.
+ * GCRA: window / limit 간격으로 요청 하나씩 허용, 최대 limit회까지 한 번에 허용 (키당 타임스탬프 하나)
+ *   - 한도를 다 쓰면 전체 window가 아니라 간격(window / limit)만큼만 기다리면 됩니다.
+ *
+ * 설정(auth.rate-limit.*.algorithm)과 @RateLimited에서 선택하며, 구현은 auth-service의 RateLimitStrategy에 있습니다.
+ */
+public enum RateLimitAlgorithm {
+    FIXED_WINDOW,
+    SLIDING_WINDOW,
+    GCRA
+}
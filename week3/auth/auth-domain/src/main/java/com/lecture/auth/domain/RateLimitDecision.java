@@ -0,0 +1,71 @@
+package com.lecture.auth.domain;
+
+import lombok.Getter;
+
+/**
+ * RateLimitDecision 도메인 모델
+ * 
+ * Rate Limit 판단 결과입니다. 차단도 예외가 아닌 값으로 반환합니다.
+ * 
+ * - allowed: 이번 요청 허용 여부
+ * - limit: window당 한도
+ * - remaining: 이번 요청 이후 남은 횟수
+ * - resetAt: 다시 요청할 수 있는 시각 (epoch ms, 차단 시 Retry-After 계산에 사용)
+ */
+@Getter
+public class RateLimitDecision {
+    
+    private static final RateLimitDecision UNLIMITED =
+        new RateLimitDecision(true, Long.MAX_VALUE, Long.MAX_VALUE, 0L);
+    
+    private final boolean allowed;
+    private final long limit;
+    private final long remaining;
+    private final long resetAt;
+    
+    private RateLimitDecision(boolean allowed, long limit, long remaining, long resetAt) {
+        this.allowed = allowed;
+        this.limit = limit;
+        this.remaining = remaining;
+        this.resetAt = resetAt;
+    }
+    
+    public static RateLimitDecision allowed(long limit, long remaining, long resetAt) {
+        return new RateLimitDecision(true, limit, Math.max(remaining, 0L), resetAt);
+    }
+    
+    public static RateLimitDecision rejected(long limit, long resetAt) {
+        return new RateLimitDecision(false, limit, 0L, resetAt);
+    }
+    
+    /**
+     * 한도가 적용되지 않은 결과 (체크할 키가 없을 때)
+     */
+    public static RateLimitDecision unlimited() {
+        return UNLIMITED;
+    }
+    
+    /**
+     * 한도가 적용되지 않은 결과인지 (헤더를 기록하지 않음)
+     */
+    public boolean isUnlimited() {
+        return limit == Long.MAX_VALUE;
+    }
+    
+    /**
+     * 다시 요청하기까지 남은 초 (올림, 최소 1초)
+     */
+    public long getRetryAfterSeconds(long now) {
+        return Math.max(1L, (resetAt - now + 999) / 1000);
+    }
+    
+    /**
+     * 두 결과 중 더 제한적인 결과 (차단 우선, 그다음 남은 횟수가 적은 쪽)
+     */
+    public RateLimitDecision mostRestrictive(RateLimitDecision other) {
+        if (allowed != other.allowed) {
+            return allowed ? other : this;
+        }
+        return remaining <= other.remaining ? this : other;
+    }
+}
@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     implementation(project(":auth:auth-external-api"))  // AuthUserApi 인터페이스
     implementation(project(":auth:auth-domain"))  // AuthUser 도메인
@@ -5,6 +9,22 @@ dependencies {
     
     // Feign Client
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign:4.1.0")
+    implementation("io.github.openfeign:feign-hc5:13.1")  // 커넥션 풀 (Apache HttpClient 5)
+    
+    // Bulkhead, Circuit Breaker
+    implementation("io.github.resilience4j:resilience4j-bulkhead:2.1.0")
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.1.0")
     
     implementation("org.springframework:spring-context")
+    implementation("org.springframework.boot:spring-boot-autoconfigure")  // @ConditionalOnMissingClass
+    
+    testImplementation("org.springframework.boot:spring-boot-starter-json")  // 스텁 서버 응답 역직렬화
+    
+    // 로컬 호출 vs Feign 비교 벤치마크 (같은 UserService를 두 경로로 호출)
+    jmhImplementation(project(":auth:auth-external-api-using-local"))
+    jmhImplementation(project(":user:user-service"))
+    jmhImplementation(project(":user:user-domain"))
+    jmhImplementation(project(":user:user-repository"))
+    jmhImplementation(project(":authorization:authorization-common"))
+    jmhImplementation("org.springframework.boot:spring-boot-starter-json")
 }
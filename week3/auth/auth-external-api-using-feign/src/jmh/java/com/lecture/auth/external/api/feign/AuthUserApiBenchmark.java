@@ -0,0 +1,174 @@
+package com.lecture.auth.external.api.feign;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lecture.auth.domain.AuthUser;
+import com.lecture.auth.external.api.local.AuthUserApiUsingLocal;
+import com.lecture.user.api.AuthUserResponse;
+import com.lecture.user.domain.User;
+import com.lecture.user.domain.UserNotFoundException;
+import com.lecture.user.repository.UserRepository;
+import com.lecture.user.service.UserService;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Request;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 유저 조회 처리량: AuthUserApiUsingLocal vs AuthUserApiFeign
+ *
+ * 두 경로 모두 같은 UserService(메모리 UserRepository)를 호출합니다.
+ * - local: UserService 직접 호출 + AuthUser 변환
+ * - feign: Bulkhead -> Circuit Breaker -> Feign(커넥션 풀) -> loopback HTTP -> JSON 직렬화/역직렬화
+ *   서버는 JDK HttpServer로 UserService 결과를 AuthUserResponse JSON으로 응답합니다.
+ *   번들 앱의 자기 호출은 여기에 Tomcat 워커와 Interceptor 비용이 더해지므로 실제 차이는 더 큽니다.
+ *
+ * DB 조회 시간은 포함하지 않으므로 결과는 호출 경로 자체의 비용입니다.
+ *
+ * 실행: ./gradlew :auth:auth-external-api-using-feign:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")  // JDK HttpServer 응답이 Nagle + delayed ACK로 40ms씩 지연되지 않도록
+@State(Scope.Benchmark)
+public class AuthUserApiBenchmark {
+
+    private static final String EMAIL = "user@example.com";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    private AuthUserApiUsingLocal local;
+    private AuthUserApiFeign feign;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UserService userService = new UserService(new SingleUserRepository(), event -> { });
+        local = new AuthUserApiUsingLocal(userService);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/users/by-email/", exchange -> {
+            String email = exchange.getRequestURI().getPath().substring("/api/users/by-email/".length());
+            User user = userService.getUserByEmail(email);
+            byte[] body = objectMapper.writeValueAsBytes(new AuthUserResponse(
+                user.getId(), user.getEmail(), user.getName(), user.getPassword(), user.getPhoneNumber()
+            ));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        connectionManager = new PoolingHttpClientConnectionManager();
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+        AuthUserApiFeign.UserApiFeignClient client = Feign.builder()
+            .client(new ApacheHttp5Client(HttpClients.custom().setConnectionManager(connectionManager).build()))
+            .contract(new SpringMvcContract())
+            .decoder(new ResponseEntityDecoder(new SpringDecoder(() -> new HttpMessageConverters(false, List.of(converter)))))
+            .options(new Request.Options(500, TimeUnit.MILLISECONDS, 1000, TimeUnit.MILLISECONDS, true))
+            .retryer(Retryer.NEVER_RETRY)
+            .target(AuthUserApiFeign.UserApiFeignClient.class, "http://127.0.0.1:" + server.getAddress().getPort());
+        feign = new AuthUserApiFeign(
+            client,
+            Bulkhead.of("benchmark", BulkheadConfig.custom().maxConcurrentCalls(50).build()),
+            new AuthUserApiFeignResilienceConfig().authUserApiCircuitBreaker(50, 1000, 50, 50, 20, 10000),
+            new StaticListableBeanFactory(Map.of("connectionManager", connectionManager))
+                .getBeanProvider(HttpClientConnectionManager.class)
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        connectionManager.close();
+    }
+
+    @Benchmark
+    public AuthUser local() {
+        return local.getUserByEmail(EMAIL);
+    }
+
+    @Benchmark
+    public AuthUser feign() {
+        return feign.getUserByEmail(EMAIL);
+    }
+
+    /**
+     * 유저 하나를 가진 메모리 UserRepository
+     */
+    private static class SingleUserRepository implements UserRepository {
+        private final User user = new User(1L, EMAIL, "name", "password-hash", "010-0000-0000");
+
+        @Override
+        public User findByEmail(String email) {
+            if (!user.getEmail().equals(email)) {
+                throw new UserNotFoundException();
+            }
+            return user;
+        }
+
+        @Override
+        public User findById(Long id) {
+            return user;
+        }
+
+        @Override
+        public List<User> findAllByIds(Collection<Long> ids) {
+            return List.of(user);
+        }
+
+        @Override
+        public Long findIdById(Long id) {
+            return user.getId();
+        }
+
+        @Override
+        public List<Long> findIdsByIds(Collection<Long> ids) {
+            return List.of(user.getId());
+        }
+
+        @Override
+        public User save(User user) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -2,9 +2,18 @@ package com.lecture.auth.external.api.feign;
 
 import com.lecture.auth.domain.AuthUser;
 import com.lecture.auth.external.api.AuthUserApi;
+import com.lecture.auth.external.api.AuthUserNotFoundException;
 import com.lecture.user.api.AuthUserResponse;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,19 +24,95 @@ import org.springframework.web.bind.annotation.PathVariable;
  * Auth 모듈에서 User 모듈의 API를 호출할 때 사용합니다.
  * 
  * week2: name 필드 추가
+ * 
+ * User 모듈이 같은 JVM에 없을 때(서비스 분리 배포) 사용합니다.
+ * 같은 JVM이면 AuthUserApiUsingLocal이 UserService를 직접 호출합니다.
+ * 번들 앱에서도 auth.user-api.mode=feign이면 자기 자신의 /api/users/by-email/{email}을 호출하여
+ * 분리 배포 경로(커넥션 풀, 타임아웃, Bulkhead, Circuit Breaker)를 그대로 실행합니다.
+ * 
+ * 호출은 Bulkhead -> Circuit Breaker -> Feign(커넥션 풀, 연결/읽기 타임아웃) 순서로 감쌉니다.
+ * 한도 초과(BulkheadFullException)와 차단(CallNotPermittedException)은 upstream 호출 없이 바로 실패합니다.
+ * 풀/Bulkhead/Circuit Breaker 지표는 getter로 노출합니다.
  */
 @Component
 @RequiredArgsConstructor
+@Conditional(AuthUserApiFeignCondition.class)
 public class AuthUserApiFeign implements AuthUserApi {
     
     private final UserApiFeignClient userApiFeignClient;
+    private final Bulkhead authUserApiBulkhead;
+    private final CircuitBreaker authUserApiCircuitBreaker;
+    private final ObjectProvider<HttpClientConnectionManager> connectionManager;
     
     @Override
     public AuthUser getUserByEmail(String email) {
-        AuthUserResponse authUserResponse = userApiFeignClient.getUserByEmail(email);
+        AuthUserResponse authUserResponse;
+        try {
+            authUserResponse = Bulkhead.decorateSupplier(authUserApiBulkhead,
+                CircuitBreaker.decorateSupplier(authUserApiCircuitBreaker,
+                    () -> userApiFeignClient.getUserByEmail(email)))
+                .get();
+        } catch (FeignException.NotFound e) {
+            throw new AuthUserNotFoundException();
+        }
         return toAuthUser(authUserResponse);
     }
     
+    /**
+     * 풀에서 사용 중인 커넥션 수
+     */
+    public int getPoolLeasedConnections() {
+        PoolStats stats = poolStats();
+        return stats == null ? 0 : stats.getLeased();
+    }
+    
+    /**
+     * 풀에서 재사용 대기 중인(keep-alive) 커넥션 수
+     */
+    public int getPoolAvailableConnections() {
+        PoolStats stats = poolStats();
+        return stats == null ? 0 : stats.getAvailable();
+    }
+    
+    /**
+     * 커넥션을 얻기 위해 대기 중인 요청 수
+     */
+    public int getPoolPendingRequests() {
+        PoolStats stats = poolStats();
+        return stats == null ? 0 : stats.getPending();
+    }
+    
+    public int getBulkheadAvailableConcurrentCalls() {
+        return authUserApiBulkhead.getMetrics().getAvailableConcurrentCalls();
+    }
+    
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return authUserApiCircuitBreaker.getState();
+    }
+    
+    public float getCircuitBreakerFailureRate() {
+        return authUserApiCircuitBreaker.getMetrics().getFailureRate();
+    }
+    
+    public float getCircuitBreakerSlowCallRate() {
+        return authUserApiCircuitBreaker.getMetrics().getSlowCallRate();
+    }
+    
+    public long getCircuitBreakerNotPermittedCalls() {
+        return authUserApiCircuitBreaker.getMetrics().getNumberOfNotPermittedCalls();
+    }
+    
+    /**
+     * feign-hc5가 만든 풀링 커넥션 매니저의 전체 통계 (풀이 없으면 null)
+     */
+    private PoolStats poolStats() {
+        HttpClientConnectionManager manager = connectionManager.getIfAvailable();
+        if (manager instanceof ConnPoolControl<?> pool) {
+            return pool.getTotalStats();
+        }
+        return null;
+    }
+    
     /**
      * AuthUserResponse DTO를 AuthUser Domain 객체로 변환
      */
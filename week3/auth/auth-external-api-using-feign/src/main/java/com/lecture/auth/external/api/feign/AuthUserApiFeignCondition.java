@@ -0,0 +1,27 @@
+package com.lecture.auth.external.api.feign;
+
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+/**
+ * AuthUserApiFeign 사용 조건
+ * 
+ * 다음 중 하나면 Feign 구현체를 등록합니다.
+ * - User 모듈이 같은 JVM에 없음 (서비스 분리 배포)
+ * - auth.user-api.mode=feign (User 모듈이 있어도 HTTP로 호출, 단일 앱에서 분리 배포 경로를 확인할 때 사용)
+ */
+class AuthUserApiFeignCondition extends AnyNestedCondition {
+    
+    AuthUserApiFeignCondition() {
+        super(ConfigurationPhase.REGISTER_BEAN);
+    }
+    
+    @ConditionalOnMissingClass("com.lecture.user.service.UserService")
+    static class UserModuleMissing {
+    }
+    
+    @ConditionalOnProperty(name = "auth.user-api.mode", havingValue = "feign")
+    static class FeignModeSelected {
+    }
+}
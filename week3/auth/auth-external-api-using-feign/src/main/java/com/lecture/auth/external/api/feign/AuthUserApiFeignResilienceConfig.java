@@ -0,0 +1,63 @@
+package com.lecture.auth.external.api.feign;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * AuthUserApiFeign용 Bulkhead / Circuit Breaker 설정
+ * 
+ * - Bulkhead: User 서비스로 동시에 나가는 호출 수를 제한합니다.
+ *   한도를 넘으면 max-wait-ms만 기다린 뒤 바로 실패하므로 느린 User 서비스가 로그인 스레드를 모두 붙잡지 못합니다.
+ * - Circuit Breaker: 실패율 또는 느린 호출 비율이 임계치를 넘으면 open-state-ms 동안 호출 없이 바로 실패합니다.
+ *   404(존재하지 않는 유저)는 정상 응답이므로 실패로 집계하지 않습니다.
+ * 
+ * HTTP 커넥션 풀과 연결/읽기 타임아웃은 spring.cloud.openfeign.* 설정으로 지정합니다. (application.yml 참고)
+ */
+@Configuration
+@Conditional(AuthUserApiFeignCondition.class)
+public class AuthUserApiFeignResilienceConfig {
+    
+    @Bean
+    public Bulkhead authUserApiBulkhead(
+        @Value("${auth.user-api.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+        @Value("${auth.user-api.bulkhead.max-wait-ms:0}") long maxWaitMillis)
+    {
+        BulkheadConfig config = BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+            .build();
+        return Bulkhead.of("authUserApi", config);
+    }
+    
+    @Bean
+    public CircuitBreaker authUserApiCircuitBreaker(
+        @Value("${auth.user-api.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${auth.user-api.circuit-breaker.slow-call-duration-ms:1000}") long slowCallDurationMillis,
+        @Value("${auth.user-api.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+        @Value("${auth.user-api.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+        @Value("${auth.user-api.circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+        @Value("${auth.user-api.circuit-breaker.open-state-ms:10000}") long openStateMillis)
+    {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(Duration.ofMillis(openStateMillis))
+            .permittedNumberOfCallsInHalfOpenState(5)
+            .ignoreExceptions(FeignException.NotFound.class)
+            .build();
+        return CircuitBreaker.of("authUserApi", config);
+    }
+}
@@ -0,0 +1,216 @@
+package com.lecture.auth.external.api.feign;
+
+import com.lecture.auth.domain.AuthUser;
+import com.lecture.auth.external.api.AuthUserNotFoundException;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 스텁 서버를 상대로 AuthUserApiFeign의 타임아웃, 커넥션 재사용, Bulkhead, Circuit Breaker를 확인합니다.
+ */
+class AuthUserApiFeignTest {
+
+    private static final String USER_JSON =
+        "{\"id\":1,\"email\":\"user@example.com\",\"name\":\"name\",\"password\":\"pw\",\"phoneNumber\":\"010\"}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/users/by-email/", exchange -> {
+            requests.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = status == 200 ? USER_JSON.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        connectionManager = new PoolingHttpClientConnectionManager();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        connectionManager.close();
+    }
+
+    @Test
+    void returnsUserAndReusesPooledConnection() {
+        AuthUserApiFeign api = api(defaultBulkhead(), defaultCircuitBreaker(), 1000);
+
+        for (int i = 0; i < 5; i++) {
+            AuthUser user = api.getUserByEmail("user@example.com");
+            assertThat(user.getPassword()).isEqualTo("pw");
+        }
+
+        assertThat(api.getPoolLeasedConnections()).isZero();
+        assertThat(api.getPoolAvailableConnections()).isEqualTo(1);  // keep-alive 커넥션 하나를 재사용
+    }
+
+    @Test
+    void notFoundIsMappedAndNotCountedAsFailure() {
+        status = 404;
+        CircuitBreaker circuitBreaker = defaultCircuitBreaker();
+        AuthUserApiFeign api = api(defaultBulkhead(), circuitBreaker, 1000);
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> api.getUserByEmail("missing@example.com"))
+                .isInstanceOf(AuthUserNotFoundException.class);
+        }
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowUpstreamIsCutAtReadTimeout() {
+        delayMillis = 2000;
+        AuthUserApiFeign api = api(defaultBulkhead(), defaultCircuitBreaker(), 200);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> api.getUserByEmail("user@example.com"))
+            .isInstanceOf(RetryableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondConcurrencyLimit() throws Exception {
+        release = new CountDownLatch(1);
+        Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+            .maxConcurrentCalls(2)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+        AuthUserApiFeign api = api(bulkhead, defaultCircuitBreaker(), 5000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<AuthUser>> inFlight = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                inFlight.add(callers.submit(() -> api.getUserByEmail("user@example.com")));
+            }
+            while (requests.get() < 2) {
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(() -> api.getUserByEmail("user@example.com"))
+                .isInstanceOf(BulkheadFullException.class);
+            assertThat(requests).hasValue(2);  // 거부된 호출은 upstream에 도달하지 않음
+
+            release.countDown();
+            for (Future<AuthUser> call : inFlight) {
+                assertThat(call.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void circuitBreakerOpensAfterFailuresAndStopsCallingUpstream() {
+        status = 500;
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(10)
+            .minimumNumberOfCalls(5)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .build());
+        AuthUserApiFeign api = api(defaultBulkhead(), circuitBreaker, 1000);
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> api.getUserByEmail("user@example.com"));
+        }
+        assertThat(api.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int upstreamCalls = requests.get();
+        assertThatThrownBy(() -> api.getUserByEmail("user@example.com"))
+            .isInstanceOf(CallNotPermittedException.class);
+        assertThat(requests).hasValue(upstreamCalls);
+        assertThat(api.getCircuitBreakerNotPermittedCalls()).isEqualTo(1);
+    }
+
+    private AuthUserApiFeign api(Bulkhead bulkhead, CircuitBreaker circuitBreaker, int readTimeoutMillis) {
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+        AuthUserApiFeign.UserApiFeignClient client = Feign.builder()
+            .client(new ApacheHttp5Client(HttpClients.custom().setConnectionManager(connectionManager).build()))
+            .contract(new SpringMvcContract())
+            .decoder(new ResponseEntityDecoder(new SpringDecoder(() -> new HttpMessageConverters(false, List.of(converter)))))
+            .options(new Request.Options(500, TimeUnit.MILLISECONDS, readTimeoutMillis, TimeUnit.MILLISECONDS, true))
+            .retryer(Retryer.NEVER_RETRY)
+            .target(AuthUserApiFeign.UserApiFeignClient.class, "http://127.0.0.1:" + server.getAddress().getPort());
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("connectionManager", connectionManager));
+        return new AuthUserApiFeign(
+            client,
+            bulkhead,
+            circuitBreaker,
+            beans.getBeanProvider(HttpClientConnectionManager.class)
+        );
+    }
+
+    private Bulkhead defaultBulkhead() {
+        return Bulkhead.of("test", BulkheadConfig.custom().maxConcurrentCalls(50).build());
+    }
+
+    private CircuitBreaker defaultCircuitBreaker() {
+        return new AuthUserApiFeignResilienceConfig().authUserApiCircuitBreaker(50, 1000, 50, 50, 20, 10000);
+    }
+}
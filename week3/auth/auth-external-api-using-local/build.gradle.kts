@@ -0,0 +1,17 @@
+dependencies {
+    implementation(project(":auth:auth-external-api"))  // AuthUserApi 인터페이스
+    implementation(project(":auth:auth-domain"))  // AuthUser 도메인
+    
+    // User 모듈이 같은 JVM에 있을 때만 사용하므로 compileOnly로 선언
+    compileOnly(project(":user:user-service"))
+    compileOnly(project(":user:user-domain"))
+    compileOnly(project(":authorization:authorization-common"))  // User가 구현하는 ResourceOwnership
+    
+    implementation("org.springframework:spring-context")
+    implementation("org.springframework.boot:spring-boot-autoconfigure")  // @ConditionalOnClass
+    
+    testImplementation(project(":user:user-service"))
+    testImplementation(project(":user:user-domain"))
+    testImplementation(project(":user:user-repository"))  // 메모리 UserRepository
+    testImplementation(project(":authorization:authorization-common"))
+}
@@ -0,0 +1,59 @@
+package com.lecture.auth.external.api.local;
+
+import com.lecture.auth.domain.AuthUser;
+import com.lecture.auth.external.api.AuthUserApi;
+import com.lecture.auth.external.api.AuthUserNotFoundException;
+import com.lecture.user.domain.User;
+import com.lecture.user.domain.UserNotFoundException;
+import com.lecture.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * AuthUserApi의 로컬 구현체
+ * 
+ * Auth 모듈과 User 모듈이 같은 JVM에 있을 때 UserService를 직접 호출합니다.
+ * Feign으로 자기 자신의 /api/users/by-email/{email}을 호출할 때 생기는
+ * 직렬화, 소켓 왕복, Tomcat 워커, Interceptor 비용이 없습니다.
+ * 
+ * User 모듈이 클래스패스에 있으면 자동으로 선택되고,
+ * 없으면(서비스 분리 배포) AuthUserApiFeign이 사용됩니다.
+ * auth.user-api.mode=feign이면 User 모듈이 있어도 AuthUserApiFeign을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(name = "com.lecture.user.service.UserService")
+@ConditionalOnProperty(name = "auth.user-api.mode", havingValue = "local", matchIfMissing = true)
+public class AuthUserApiUsingLocal implements AuthUserApi {
+    
+    private final UserService userService;
+    
+    @Override
+    public AuthUser getUserByEmail(String email) {
+        User user;
+        try {
+            user = userService.getUserByEmail(email);
+        } catch (UserNotFoundException e) {
+            throw new AuthUserNotFoundException();
+        }
+        return toAuthUser(user);
+    }
+    
+    /**
+     * User Domain 객체를 AuthUser Domain 객체로 변환
+     */
+    private AuthUser toAuthUser(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new AuthUser(
+            user.getId(),
+            user.getEmail(),
+            user.getName(),
+            user.getPassword(),
+            user.getPhoneNumber()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.lecture.auth.external.api.local;
+
+import com.lecture.auth.external.api.CachingAuthUserApi;
+import com.lecture.user.domain.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 생성/수정 시 AuthUser 캐시 무효화
+ * 
+ * User 모듈이 같은 JVM에 있을 때 UserService가 발행하는 UserChangedEvent를 받아
+ * CachingAuthUserApi에서 해당 이메일의 엔트리(네거티브 엔트리 포함)를 제거합니다.
+ * 캐시가 구성되지 않은 경우 아무 동작도 하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(name = "com.lecture.user.service.UserService")
+public class AuthUserCacheInvalidator {
+    
+    private final ObjectProvider<CachingAuthUserApi> cachingAuthUserApi;
+    
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        cachingAuthUserApi.ifAvailable(cache -> cache.invalidate(event.getEmail()));
+    }
+}
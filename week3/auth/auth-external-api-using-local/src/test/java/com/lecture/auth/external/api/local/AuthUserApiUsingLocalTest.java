@@ -0,0 +1,118 @@
+package com.lecture.auth.external.api.local;
+
+import com.lecture.auth.domain.AuthUser;
+import com.lecture.auth.external.api.AuthUserNotFoundException;
+import com.lecture.auth.external.api.CachingAuthUserApi;
+import com.lecture.user.domain.User;
+import com.lecture.user.domain.UserNotFoundException;
+import com.lecture.user.repository.UserRepository;
+import com.lecture.user.service.UserService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UserService 직접 호출 결과의 변환과, 존재하지 않는 유저가 네거티브 캐시로 이어지는지 확인합니다.
+ */
+class AuthUserApiUsingLocalTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String MISSING = "missing@example.com";
+
+    private final InMemoryUserRepository repository = new InMemoryUserRepository();
+    private final AuthUserApiUsingLocal api = new AuthUserApiUsingLocal(new UserService(repository, event -> { }));
+
+    @Test
+    void userIsMappedToAuthUser() {
+        repository.users.put(EMAIL, new User(1L, EMAIL, "name", "pw", "010"));
+
+        AuthUser user = api.getUserByEmail(EMAIL);
+
+        assertThat(user.getId()).isEqualTo(1L);
+        assertThat(user.getName()).isEqualTo("name");
+        assertThat(user.getPassword()).isEqualTo("pw");
+        assertThat(user.getPhoneNumber()).isEqualTo("010");
+    }
+
+    @Test
+    void missingUserIsCachedAsNegativeEntry() {
+        CachingAuthUserApi cache = new CachingAuthUserApi(api, 60_000, 60_000, 10_000, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> cache.getUserByEmail(MISSING)).isInstanceOf(AuthUserNotFoundException.class);
+        }
+
+        // UserNotFoundException -> AuthUserNotFoundException 변환으로 첫 조회만 UserService까지 감
+        assertThat(repository.findByEmailCalls).isEqualTo(1);
+        assertThat(cache.getNegativeHitCount()).isEqualTo(2);
+        assertThat(cache.getUpstreamFailureCount()).isZero();
+    }
+
+    @Test
+    void lookupFailureIsNotCachedAsMissingUser() {
+        CachingAuthUserApi cache = new CachingAuthUserApi(api, 60_000, 60_000, 10_000, 100);
+        repository.failure = new IllegalStateException("connection refused");
+
+        assertThatThrownBy(() -> cache.getUserByEmail(EMAIL)).isInstanceOf(IllegalStateException.class);
+
+        // 장애가 끝나면 바로 조회됨 (네거티브 엔트리 없음)
+        repository.failure = null;
+        repository.users.put(EMAIL, new User(1L, EMAIL, "name", "pw", "010"));
+        assertThat(cache.getUserByEmail(EMAIL).getId()).isEqualTo(1L);
+        assertThat(cache.getNegativeHitCount()).isZero();
+        assertThat(cache.getUpstreamFailureCount()).isEqualTo(1);
+    }
+
+    /**
+     * 이메일로만 조회하는 메모리 UserRepository (없으면 UserNotFoundException)
+     */
+    private static class InMemoryUserRepository implements UserRepository {
+        final Map<String, User> users = new HashMap<>();
+        volatile RuntimeException failure;
+        int findByEmailCalls;
+
+        @Override
+        public User findByEmail(String email) {
+            findByEmailCalls++;
+            if (failure != null) {
+                throw failure;
+            }
+            User user = users.get(email);
+            if (user == null) {
+                throw new UserNotFoundException();
+            }
+            return user;
+        }
+
+        @Override
+        public User findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<User> findAllByIds(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Long findIdById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Long> findIdsByIds(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User save(User user) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.lecture.auth.domain.AuthUser;
  * 
  * 구조:
  * - AuthOrchestrator -> AuthUserApi (인터페이스) -> AuthUserApiFeign (Feign 구현체)
+ * - 같은 JVM에 User 모듈이 있으면 AuthUserApiUsingLocal (UserService 직접 호출)
  * 
  * 장점:
  * 1. 인터페이스로 정의하여 구현체를 유연하게 교체 가능
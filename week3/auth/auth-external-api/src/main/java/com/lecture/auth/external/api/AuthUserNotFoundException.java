@@ -0,0 +1,14 @@
+package com.lecture.auth.external.api;
+
+/**
+ * 이메일에 해당하는 유저가 없을 때 AuthUserApi가 던지는 예외
+ * 
+ * 존재하지 않는 이메일로의 로그인 시도(크리덴셜 스터핑)는 흔한 경로이므로
+ * 스택 트레이스를 만들지 않습니다.
+ */
+public class AuthUserNotFoundException extends RuntimeException {
+    
+    public AuthUserNotFoundException() {
+        super("User not found", null, false, false);
+    }
+}
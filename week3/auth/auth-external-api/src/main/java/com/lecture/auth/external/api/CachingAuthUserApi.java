@@ -0,0 +1,224 @@
+package com.lecture.auth.external.api;
+
+import com.lecture.auth.domain.AuthUser;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CachingAuthUserApi
+ *
+ * 다른 AuthUserApi 구현체 앞에 두는 유저 조회 캐시 데코레이터입니다.
+ * 로그인마다 수행되는 getUserByEmail을 메모리 조회로 처리합니다.
+ *
+ * 동작:
+ * - 조회된 유저는 positiveTtl 동안 그대로 반환합니다.
+ *   캐시 값에는 비밀번호가 포함되므로, 유저 변경 시 invalidate가 호출되는 배포(같은 JVM, UserChangedEvent)에서만 사용합니다.
+ *   무효화 경로가 없는 배포(Feign)에서는 positiveTtl을 0으로 두어 항상 upstream을 조회합니다. (AuthUserApiConfig)
+ * - positiveTtl이 지나면 upstream을 다시 조회합니다. upstream 호출이 실패(타임아웃, Bulkhead/Circuit Breaker 거부 포함)한
+ *   경우에만 staleTtl 안의 기존 값을 반환합니다. (stale-if-error, 정상 응답이 가능하면 오래된 비밀번호를 사용하지 않음)
+ * - 존재하지 않는 이메일(AuthUserNotFoundException)은 negativeTtl 동안 기록하여 upstream 호출 없이 바로 실패시킵니다.
+ * - 유저 생성/수정 시 invalidate로 해당 이메일의 엔트리를 제거합니다.
+ * - 최대 크기에 도달하면 만료된 엔트리를 정리하고, 그래도 가득 차 있으면 새 엔트리는 저장하지 않습니다.
+ *
+ * upstream 호출 시간은 구현체가 제한합니다. (Feign 연결/읽기 타임아웃)
+ */
+public class CachingAuthUserApi implements AuthUserApi {
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000L;
+
+    private final AuthUserApi delegate;
+    private final long positiveTtlMillis;
+    private final long staleTtlMillis;
+    private final long negativeTtlMillis;
+    private final int maximumSize;
+
+    private final ConcurrentHashMap<String, CachedUser> users = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();  // 조회 중 무효화된 값을 넣지 않기 위한 세대
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder staleHitCount = new LongAdder();
+    private final LongAdder negativeHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder upstreamFailureCount = new LongAdder();
+
+    public CachingAuthUserApi(
+        AuthUserApi delegate,
+        long positiveTtlMillis,
+        long staleTtlMillis,
+        long negativeTtlMillis,
+        int maximumSize)
+    {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (positiveTtlMillis < 0 || staleTtlMillis < 0 || negativeTtlMillis < 0) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        this.delegate = delegate;
+        this.positiveTtlMillis = positiveTtlMillis;
+        this.staleTtlMillis = staleTtlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public AuthUser getUserByEmail(String email) {
+        long now = System.currentTimeMillis();
+        CachedUser cached = users.get(email);
+        if (cached != null) {
+            if (now < cached.getFreshUntil()) {
+                if (cached.isNegative()) {
+                    negativeHitCount.increment();
+                    throw new AuthUserNotFoundException();
+                }
+                hitCount.increment();
+                return cached.getUser();
+            }
+            if (cached.isNegative() || now >= cached.getStaleUntil()) {
+                users.remove(email, cached);
+                cached = null;
+            }
+        }
+
+        missCount.increment();
+        try {
+            return load(email);
+        } catch (AuthUserNotFoundException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            upstreamFailureCount.increment();
+            if (cached == null) {
+                throw e;
+            }
+            // upstream 장애: staleUntil까지 기존 값 사용
+            staleHitCount.increment();
+            return cached.getUser();
+        }
+    }
+
+    /**
+     * 해당 이메일의 엔트리를 제거합니다. (유저 생성/수정 시 호출)
+     */
+    public void invalidate(String email) {
+        invalidationCount.incrementAndGet();
+        users.remove(email);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getStaleHitCount() {
+        return staleHitCount.sum();
+    }
+
+    public long getNegativeHitCount() {
+        return negativeHitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getUpstreamFailureCount() {
+        return upstreamFailureCount.sum();
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    /**
+     * upstream에서 조회해 캐시에 넣습니다.
+     * 조회 도중 invalidate가 호출되었으면 (변경 전 값일 수 있으므로) 넣지 않습니다.
+     */
+    private AuthUser load(String email) {
+        long generation = invalidationCount.get();
+        AuthUser user;
+        try {
+            user = delegate.getUserByEmail(email);
+        } catch (AuthUserNotFoundException e) {
+            putIfNotInvalidated(email, CachedUser.negative(System.currentTimeMillis() + negativeTtlMillis), generation);
+            throw e;
+        }
+        if (user != null) {
+            putIfNotInvalidated(email, positive(user), generation);
+        }
+        return user;
+    }
+
+    private void putIfNotInvalidated(String email, CachedUser entry, long generation) {
+        if (invalidationCount.get() != generation) {
+            return;
+        }
+        put(email, entry);
+        if (invalidationCount.get() != generation) {
+            users.remove(email, entry);
+        }
+    }
+
+    private CachedUser positive(AuthUser user) {
+        long freshUntil = System.currentTimeMillis() + positiveTtlMillis;
+        return new CachedUser(user, freshUntil, freshUntil + staleTtlMillis);
+    }
+
+    private void put(String email, CachedUser entry) {
+        if (users.size() >= maximumSize && !users.containsKey(email)) {
+            evictExpired(System.currentTimeMillis());
+            if (users.size() >= maximumSize) {
+                return;
+            }
+        }
+        users.put(email, entry);
+    }
+
+    /**
+     * staleUntil이 지난 엔트리를 제거합니다.
+     * 가득 찬 상태에서 미스가 몰려도 전체 순회는 SWEEP_INTERVAL_MILLIS에 한 번만 수행합니다.
+     */
+    private void evictExpired(long now) {
+        long sweepAt = nextSweepAt.get();
+        if (now < sweepAt || !nextSweepAt.compareAndSet(sweepAt, now + SWEEP_INTERVAL_MILLIS)) {
+            return;
+        }
+        users.entrySet().removeIf(entry -> now >= entry.getValue().getStaleUntil());
+    }
+
+    /**
+     * 캐시 엔트리 (user가 null이면 존재하지 않는 이메일)
+     */
+    private static class CachedUser {
+        private final AuthUser user;
+        private final long freshUntil;
+        private final long staleUntil;
+
+        CachedUser(AuthUser user, long freshUntil, long staleUntil) {
+            this.user = user;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+
+        static CachedUser negative(long expiresAt) {
+            return new CachedUser(null, expiresAt, expiresAt);
+        }
+
+        AuthUser getUser() {
+            return user;
+        }
+
+        long getFreshUntil() {
+            return freshUntil;
+        }
+
+        long getStaleUntil() {
+            return staleUntil;
+        }
+
+        boolean isNegative() {
+            return user == null;
+        }
+    }
+}
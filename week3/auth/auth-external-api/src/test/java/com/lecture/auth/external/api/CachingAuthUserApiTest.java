@@ -0,0 +1,108 @@
+package com.lecture.auth.external.api;
+
+import com.lecture.auth.domain.AuthUser;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingAuthUserApiTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final AtomicReference<AuthUser> stored = new AtomicReference<>(user("old-password"));
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final AuthUserApi upstream = email -> {
+        calls.incrementAndGet();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return stored.get();
+    };
+
+    @Test
+    void positiveTtlZeroAlwaysReadsUpstream() {
+        CachingAuthUserApi cache = new CachingAuthUserApi(upstream, 0, 60_000, 10_000, 100);
+
+        assertThat(cache.getUserByEmail(EMAIL).getPassword()).isEqualTo("old-password");
+        stored.set(user("new-password"));
+
+        assertThat(cache.getUserByEmail(EMAIL).getPassword()).isEqualTo("new-password");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void staleValueIsServedOnlyWhenUpstreamFails() {
+        CachingAuthUserApi cache = new CachingAuthUserApi(upstream, 0, 60_000, 10_000, 100);
+        cache.getUserByEmail(EMAIL);
+
+        failure.set(new IllegalStateException("timeout"));
+        assertThat(cache.getUserByEmail(EMAIL).getPassword()).isEqualTo("old-password");
+        assertThat(cache.getStaleHitCount()).isEqualTo(1);
+        assertThat(cache.getUpstreamFailureCount()).isEqualTo(1);
+
+        failure.set(null);
+        stored.set(user("new-password"));
+        assertThat(cache.getUserByEmail(EMAIL).getPassword()).isEqualTo("new-password");
+    }
+
+    @Test
+    void failureWithoutCachedValueIsRethrown() {
+        CachingAuthUserApi cache = new CachingAuthUserApi(upstream, 0, 60_000, 10_000, 100);
+        failure.set(new IllegalStateException("timeout"));
+
+        assertThatThrownBy(() -> cache.getUserByEmail(EMAIL)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void freshValueIsServedWithoutUpstreamUntilInvalidated() {
+        CachingAuthUserApi cache = new CachingAuthUserApi(upstream, 60_000, 60_000, 10_000, 100);
+        cache.getUserByEmail(EMAIL);
+        stored.set(user("new-password"));
+
+        assertThat(cache.getUserByEmail(EMAIL).getPassword()).isEqualTo("old-password");
+        assertThat(calls).hasValue(1);
+
+        cache.invalidate(EMAIL);
+        assertThat(cache.getUserByEmail(EMAIL).getPassword()).isEqualTo("new-password");
+    }
+
+    @Test
+    void valueLoadedDuringInvalidationIsNotCached() {
+        AtomicReference<CachingAuthUserApi> self = new AtomicReference<>();
+        AuthUserApi racing = email -> {
+            AuthUser before = stored.get();
+            // 조회 도중 비밀번호 변경 + 무효화
+            stored.set(user("new-password"));
+            self.get().invalidate(email);
+            return before;
+        };
+        CachingAuthUserApi cache = new CachingAuthUserApi(racing, 60_000, 60_000, 10_000, 100);
+        self.set(cache);
+
+        assertThat(cache.getUserByEmail(EMAIL).getPassword()).isEqualTo("old-password");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void missingEmailIsCachedAsNegativeEntry() {
+        AuthUserApi missing = email -> {
+            calls.incrementAndGet();
+            throw new AuthUserNotFoundException();
+        };
+        CachingAuthUserApi cache = new CachingAuthUserApi(missing, 0, 60_000, 10_000, 100);
+
+        assertThatThrownBy(() -> cache.getUserByEmail(EMAIL)).isInstanceOf(AuthUserNotFoundException.class);
+        assertThatThrownBy(() -> cache.getUserByEmail(EMAIL)).isInstanceOf(AuthUserNotFoundException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    private static AuthUser user(String password) {
+        return new AuthUser(1L, EMAIL, "name", password, "010-0000-0000");
+    }
+}
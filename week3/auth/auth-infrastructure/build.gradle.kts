@@ -1,6 +1,17 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
+    implementation(project(":auth:auth-domain"))  // RateLimitDecision
+    
     implementation("org.springframework:spring-web")
     implementation("org.springframework:spring-webmvc")
     
     compileOnly("jakarta.servlet:jakarta.servlet-api:6.0.0")
+    
+    testImplementation("jakarta.servlet:jakarta.servlet-api:6.0.0")  // MockHttpServletResponse
+    
+    jmhImplementation("jakarta.servlet:jakarta.servlet-api:6.0.0")
+    jmhImplementation("org.springframework:spring-test")  // MockHttpServletResponse
 }
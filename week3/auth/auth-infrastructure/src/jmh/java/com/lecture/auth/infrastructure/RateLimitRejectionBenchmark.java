@@ -0,0 +1,104 @@
+package com.lecture.auth.infrastructure;
+
+import com.lecture.auth.domain.RateLimitDecision;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차단 응답 처리량: RateLimitDecision 반환 vs 예외
+ *
+ * - decision: 차단 결과를 값으로 depth 단계 위로 반환하고 RateLimitResponseWriter로 429를 기록합니다. (현재 방식)
+ * - exception: 이전 방식처럼 depth 단계 아래에서 RateLimitExceededException을 던지고,
+ *   맨 위에서 잡아 같은 헤더와 429를 기록합니다. (스택 트레이스 생성 포함)
+ *
+ * depth는 Controller에서 Repository까지의 호출 깊이입니다. (Spring 프록시, Filter 포함 시 60 이상)
+ *
+ * 실행: ./gradlew :auth:auth-infrastructure:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RateLimitRejectionBenchmark {
+
+    private static final long LIMIT = 5;
+
+    @Param({"10", "60"})
+    public int depth;
+
+    private RateLimitResponseWriter writer;
+    private long resetAt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = new RateLimitResponseWriter();
+        resetAt = System.currentTimeMillis() + 60_000;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse decision() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(decide(depth), response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse exception() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            throwRejected(depth);
+        } catch (RateLimitExceededException e) {
+            response.setHeader(RateLimitResponseWriter.LIMIT_HEADER, Long.toString(e.limit));
+            response.setHeader(RateLimitResponseWriter.REMAINING_HEADER, "0");
+            response.setHeader(RateLimitResponseWriter.RESET_HEADER, Long.toString((e.resetAt + 999) / 1000));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1L, (e.resetAt - System.currentTimeMillis() + 999) / 1000)));
+        }
+        return response;
+    }
+
+    private RateLimitDecision decide(int remainingDepth) {
+        if (remainingDepth == 0) {
+            return RateLimitDecision.rejected(LIMIT, resetAt);
+        }
+        return decide(remainingDepth - 1);
+    }
+
+    private void throwRejected(int remainingDepth) {
+        if (remainingDepth == 0) {
+            throw new RateLimitExceededException(LIMIT, resetAt);
+        }
+        throwRejected(remainingDepth - 1);
+    }
+
+    /**
+     * 값 반환 전의 차단 예외 (비교용)
+     */
+    static class RateLimitExceededException extends RuntimeException {
+        final long limit;
+        final long resetAt;
+
+        RateLimitExceededException(long limit, long resetAt) {
+            super("Rate limit exceeded");
+            this.limit = limit;
+            this.resetAt = resetAt;
+        }
+    }
+}
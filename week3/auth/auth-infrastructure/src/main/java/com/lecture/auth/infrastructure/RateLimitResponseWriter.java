@@ -0,0 +1,50 @@
+package com.lecture.auth.infrastructure;
+
+import com.lecture.auth.domain.RateLimitDecision;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * RateLimitResponseWriter
+ * 
+ * RateLimitDecision을 HTTP 응답 헤더와 상태 코드로 변환합니다.
+ * 예외 없이 응답에 직접 기록하므로 차단 경로에서 예외 처리 비용이 들지 않습니다.
+ * 
+ * - X-RateLimit-Limit: window당 한도
+ * - X-RateLimit-Remaining: 남은 횟수
+ * - X-RateLimit-Reset: 다시 요청할 수 있는 시각 (epoch seconds)
+ * - 차단 시 429 Too Many Requests + Retry-After (초)
+ */
+@Component
+public class RateLimitResponseWriter {
+    
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+    
+    /**
+     * 헤더를 기록하고, 차단이면 429 상태를 설정합니다.
+     * 
+     * @return 요청이 허용되었으면 true (차단이면 false, 호출자는 본문 없이 반환)
+     */
+    public boolean write(RateLimitDecision decision, HttpServletResponse response) {
+        if (decision.isUnlimited()) {
+            return true;
+        }
+        
+        long now = System.currentTimeMillis();
+        response.setHeader(LIMIT_HEADER, Long.toString(decision.getLimit()));
+        response.setHeader(REMAINING_HEADER, Long.toString(decision.getRemaining()));
+        response.setHeader(RESET_HEADER, Long.toString((decision.getResetAt() + 999) / 1000));
+        
+        if (decision.isAllowed()) {
+            return true;
+        }
+        
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.getRetryAfterSeconds(now)));
+        return false;
+    }
+}
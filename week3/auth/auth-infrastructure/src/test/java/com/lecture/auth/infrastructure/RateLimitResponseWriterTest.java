@@ -0,0 +1,63 @@
+package com.lecture.auth.infrastructure;
+
+import com.lecture.auth.domain.RateLimitDecision;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimitDecision이 헤더, 429 상태, Retry-After로 기록되는지 확인합니다.
+ */
+class RateLimitResponseWriterTest {
+
+    private final RateLimitResponseWriter writer = new RateLimitResponseWriter();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void allowedDecisionWritesHeadersWithoutRetryAfter() {
+        long resetAt = 1_700_000_000_001L;
+
+        boolean allowed = writer.write(RateLimitDecision.allowed(10, 7, resetAt), response);
+
+        assertThat(allowed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(RateLimitResponseWriter.LIMIT_HEADER)).isEqualTo("10");
+        assertThat(response.getHeader(RateLimitResponseWriter.REMAINING_HEADER)).isEqualTo("7");
+        assertThat(response.getHeader(RateLimitResponseWriter.RESET_HEADER)).isEqualTo("1700000001");  // 초 단위 올림
+        assertThat(response.containsHeader(HttpHeaders.RETRY_AFTER)).isFalse();
+    }
+
+    @Test
+    void rejectedDecisionAnswers429WithRetryAfterRoundedUp() {
+        long resetAt = System.currentTimeMillis() + 30_500;
+
+        boolean allowed = writer.write(RateLimitDecision.rejected(10, resetAt), response);
+
+        assertThat(allowed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(RateLimitResponseWriter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("31");
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() {
+        long resetAt = System.currentTimeMillis() - 5_000;
+
+        writer.write(RateLimitDecision.rejected(10, resetAt), response);
+
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void unlimitedDecisionWritesNothing() {
+        assertThat(RateLimitDecision.unlimited().isUnlimited()).isTrue();
+        assertThat(RateLimitDecision.allowed(10, 9, 0L).isUnlimited()).isFalse();
+
+        assertThat(writer.write(RateLimitDecision.unlimited(), response)).isTrue();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderNames()).isEmpty();
+    }
+}
@@ -9,4 +9,7 @@ dependencies {
     compileOnly("jakarta.servlet:jakarta.servlet-api:6.0.0")
     
     implementation("org.springframework:spring-context")
+    
+    testImplementation(project(":auth:auth-repository"))  // 메모리 RateLimitingRepository 대역
+    testImplementation("jakarta.servlet:jakarta.servlet-api:6.0.0")
 }
@@ -3,7 +3,9 @@ package com.lecture.auth.orchestrator;
 import com.lecture.auth.api.LoginRequest;
 import com.lecture.auth.domain.AuthUser;
 import com.lecture.auth.domain.LoginResult;
+import com.lecture.auth.domain.RateLimitDecision;
 import com.lecture.auth.external.api.AuthUserApi;
+import com.lecture.auth.external.api.AuthUserNotFoundException;
 import com.lecture.auth.infrastructure.DeviceInfo;
 import com.lecture.auth.service.RateLimitingService;
 import com.lecture.auth.service.AuthService;
@@ -25,6 +27,11 @@ import org.springframework.stereotype.Component;
  * - DeviceInfo 파라미터 추가
  * - 쿠키 생성 및 반환
  * - 유저 조회 로직을 Orchestrator로 이동
+ * 
+ * 유저 조회 전에 Device ID, IP 한도를 읽기만 해서 확인하므로
+ * 차단된 클라이언트는 저장소 조회 한 번만 발생시킵니다.
+ * 
+ * Rate Limit 차단은 예외가 아닌 LoginResultWithCookies.rateLimited로 반환합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -39,11 +46,30 @@ public class AuthOrchestrator {
      * 로그인 유스케이스: 여러 Service를 조율하여 DTO 조립
      */
     public LoginResultWithCookies login(LoginRequest request, DeviceInfo deviceInfo) {
+        // 0. Device ID, IP Rate Limit 확인 (읽기만, 이미 차단된 클라이언트는 유저 조회 없이 거절)
+        RateLimitDecision precheck = rateLimitingService.precheckDeviceRateLimit(deviceInfo);
+        if (!precheck.isAllowed()) {
+            return LoginResultWithCookies.rateLimited(precheck);
+        }
+        
         // 1. 유저 조회 (email로 조회)
-        AuthUser authUser = authUserApi.getUserByEmail(request.getEmail());
+        AuthUser authUser;
+        try {
+            authUser = authUserApi.getUserByEmail(request.getEmail());
+        } catch (AuthUserNotFoundException e) {
+            // 존재하지 않는 이메일 시도도 Device ID, IP 한도에 기록 (한도를 넘었으면 429로 응답)
+            RateLimitDecision deviceDecision = rateLimitingService.checkDeviceRateLimit(deviceInfo);
+            if (!deviceDecision.isAllowed()) {
+                return LoginResultWithCookies.rateLimited(deviceDecision);
+            }
+            throw e;
+        }
         
-        // 2. Rate Limit 체크 (유저 조회 후 phoneNumber로 체크)
-        rateLimitingService.checkRateLimit(authUser.getPhoneNumber(), deviceInfo);
+        // 2. Rate Limit 체크 (유저 조회 후 phoneNumber로 체크, Device ID, IP도 함께 기록)
+        RateLimitDecision rateLimitDecision = rateLimitingService.checkRateLimit(authUser.getPhoneNumber(), deviceInfo);
+        if (!rateLimitDecision.isAllowed()) {
+            return LoginResultWithCookies.rateLimited(rateLimitDecision);
+        }
         
         // 3. AuthService를 통해 로그인 처리 (비즈니스 로직: 비밀번호 검증, 토큰 생성)
         LoginResult loginResult = authService.login(authUser, request.getPassword());
@@ -64,7 +90,8 @@ public class AuthOrchestrator {
             accessTokenCookie,
             refreshTokenCookie,
             loginResult.getAccessToken(),
-            loginResult.getRefreshToken()
+            loginResult.getRefreshToken(),
+            rateLimitDecision
         );
     }
 }
@@ -1,6 +1,7 @@
 package com.lecture.auth.orchestrator;
 
 import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.domain.RateLimitDecision;
 import jakarta.servlet.http.Cookie;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,9 @@ import lombok.RequiredArgsConstructor;
  * 
  * 쿠키와 토큰 정보를 반환하기 위한 래퍼 클래스입니다.
  * Response Body에 토큰을 포함하고 쿠키도 설정합니다.
+ * 
+ * Rate Limit 판단 결과(rateLimitDecision)를 함께 담습니다.
+ * 차단된 경우 쿠키와 토큰은 null입니다. (rateLimited)
  */
 @Getter
 @RequiredArgsConstructor
@@ -18,4 +22,13 @@ public class LoginResultWithCookies {
     private final Cookie refreshTokenCookie;
     private final AuthToken accessToken;
     private final AuthToken refreshToken;
+    private final RateLimitDecision rateLimitDecision;
+    
+    public static LoginResultWithCookies rateLimited(RateLimitDecision decision) {
+        return new LoginResultWithCookies(null, null, null, null, decision);
+    }
+    
+    public boolean isRateLimited() {
+        return !rateLimitDecision.isAllowed();
+    }
 }
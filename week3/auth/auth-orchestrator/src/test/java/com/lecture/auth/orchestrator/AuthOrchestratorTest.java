@@ -0,0 +1,178 @@
+package com.lecture.auth.orchestrator;
+
+import com.lecture.auth.api.LoginRequest;
+import com.lecture.auth.domain.AuthUser;
+import com.lecture.auth.external.api.AuthUserApi;
+import com.lecture.auth.external.api.AuthUserNotFoundException;
+import com.lecture.auth.infrastructure.DeviceInfo;
+import com.lecture.auth.repository.RateLimitingRepository;
+import com.lecture.auth.service.RateLimitingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 차단된 클라이언트는 유저 조회 없이 거절되고, 존재하지 않는 이메일 시도도 Device ID, IP 한도에 기록되는지 확인합니다.
+ */
+class AuthOrchestratorTest {
+
+    private static final long DEVICE_LIMIT = 3;
+    private static final long IP_LIMIT = 5;
+    private static final String DEVICE_KEY = "rate_limit:login:device:device-1";
+    private static final String IP_KEY = "rate_limit:login:ip:1.2.3.4";
+
+    private final InMemoryRateLimitingRepository repository = new InMemoryRateLimitingRepository();
+    private final CountingAuthUserApi authUserApi = new CountingAuthUserApi();
+    private AnnotationConfigApplicationContext context;
+    private AuthOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        // @Value 기본값(FIXED_WINDOW, 3600초)을 그대로 쓰고 한도만 낮춤
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+            "auth.rate-limit.device.limit", DEVICE_LIMIT,
+            "auth.rate-limit.ip.limit", IP_LIMIT
+        )));
+        context.registerBean(RateLimitingRepository.class, () -> repository);
+        context.registerBean(RateLimitingService.class);
+        context.refresh();
+
+        // 차단/존재하지 않는 이메일 경로는 AuthService, CookieService까지 가지 않음
+        orchestrator = new AuthOrchestrator(context.getBean(RateLimitingService.class), null, null, authUserApi);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void blockedDeviceIsRejectedWithoutUserLookup() {
+        fill(DEVICE_KEY, DEVICE_LIMIT);
+
+        LoginResultWithCookies result = orchestrator.login(new LoginRequest(), device("device-1", "1.2.3.4"));
+
+        assertThat(result.isRateLimited()).isTrue();
+        assertThat(result.getAccessTokenCookie()).isNull();
+        assertThat(authUserApi.calls.get()).isZero();
+        assertThat(repository.getCount(DEVICE_KEY)).isEqualTo(DEVICE_LIMIT);  // 거절은 기록하지 않음
+    }
+
+    @Test
+    void blockedIpIsRejectedWithoutUserLookup() {
+        fill(IP_KEY, IP_LIMIT);
+
+        LoginResultWithCookies result = orchestrator.login(new LoginRequest(), device("device-new", "1.2.3.4"));
+
+        assertThat(result.isRateLimited()).isTrue();
+        assertThat(authUserApi.calls.get()).isZero();
+    }
+
+    @Test
+    void unknownEmailCountsAgainstDeviceAndIp() {
+        DeviceInfo deviceInfo = device("device-1", "1.2.3.4");
+
+        for (long i = 1; i <= DEVICE_LIMIT; i++) {
+            assertThatThrownBy(() -> orchestrator.login(new LoginRequest(), deviceInfo))
+                .isInstanceOf(AuthUserNotFoundException.class);
+            assertThat(repository.getCount(DEVICE_KEY)).isEqualTo(i);
+            assertThat(repository.getCount(IP_KEY)).isEqualTo(i);
+        }
+        assertThat(authUserApi.calls.get()).isEqualTo((int) DEVICE_LIMIT);
+
+        // 한도를 채운 뒤에는 유저 조회 없이 거절
+        LoginResultWithCookies result = orchestrator.login(new LoginRequest(), deviceInfo);
+
+        assertThat(result.isRateLimited()).isTrue();
+        assertThat(authUserApi.calls.get()).isEqualTo((int) DEVICE_LIMIT);
+    }
+
+    @Test
+    void unknownEmailsFromRotatingDevicesExhaustIpQuota() {
+        for (int i = 0; i < IP_LIMIT; i++) {
+            DeviceInfo deviceInfo = device("device-" + i, "1.2.3.4");
+            assertThatThrownBy(() -> orchestrator.login(new LoginRequest(), deviceInfo))
+                .isInstanceOf(AuthUserNotFoundException.class);
+        }
+        assertThat(repository.getCount(IP_KEY)).isEqualTo(IP_LIMIT);
+
+        // Device ID를 바꿔도 IP 한도로 거절
+        LoginResultWithCookies result = orchestrator.login(new LoginRequest(), device("device-new", "1.2.3.4"));
+
+        assertThat(result.isRateLimited()).isTrue();
+        assertThat(authUserApi.calls.get()).isEqualTo((int) IP_LIMIT);
+    }
+
+    private void fill(String key, long count) {
+        for (long i = 0; i < count; i++) {
+            repository.incrementAndGet(key, 3600);
+        }
+    }
+
+    private static DeviceInfo device(String deviceId, String clientIp) {
+        return new DeviceInfo(deviceId, clientIp, "test-agent");
+    }
+
+    /**
+     * 유저가 없는 AuthUserApi 대역: 조회 횟수를 세고 항상 AuthUserNotFoundException을 던집니다.
+     */
+    private static class CountingAuthUserApi implements AuthUserApi {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public AuthUser getUserByEmail(String email) {
+            calls.incrementAndGet();
+            throw new AuthUserNotFoundException();
+        }
+    }
+
+    /**
+     * 만료 없는 메모리 RateLimitingRepository 대역 (FIXED_WINDOW 경로만 사용)
+     */
+    private static class InMemoryRateLimitingRepository implements RateLimitingRepository {
+        final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+        @Override
+        public Long incrementAndGet(String key, long ttlSeconds) {
+            return counts.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+
+        @Override
+        public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+            List<Long> result = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                result.add(counts.computeIfAbsent(keys.get(i), k -> new AtomicLong()).addAndGet(deltas.get(i)));
+            }
+            return result;
+        }
+
+        @Override
+        public long getCount(String key) {
+            AtomicLong count = counts.get(key);
+            return count != null ? count.get() : 0L;
+        }
+
+        @Override
+        public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String key) {
+            counts.remove(key);
+        }
+    }
+}
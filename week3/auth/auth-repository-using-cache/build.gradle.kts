@@ -0,0 +1,4 @@
+dependencies {
+    implementation(project(":auth:auth-repository"))
+    implementation(project(":auth:auth-domain"))
+}
@@ -0,0 +1,278 @@
+package com.lecture.auth.repository.cache;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.repository.AuthRepository;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AuthRepositoryUsingCache
+ *
+ * 다른 AuthRepository 구현체 앞에 두는 토큰 캐시 데코레이터입니다.
+ * 매 요청마다 수행되는 findUserIdByToken을 메모리 조회로 처리하여 DB 왕복을 없앱니다.
+ *
+ * 동작:
+ * - 엔트리는 토큰 자체의 expiresAt에 만료됩니다. (만료 순서 인덱스로 관리)
+ * - 최대 크기를 넘으면 가장 먼저 만료될 엔트리부터 제거합니다.
+ * - deleteAccessTokenByUserId / deleteRefreshTokenByUserId / rotateTokens 호출 시 해당 유저의 엔트리를 모두 무효화합니다.
+ * - 미스 시 저장소 조회 전에 무효화 세대를 읽어 두고, 조회 중 그 유저가 무효화되었으면 캐시에 넣지 않습니다.
+ *   (조회와 동시에 폐기된 토큰이 다시 캐시되어 만료까지 통과하지 않음)
+ *   세대는 유저 ID를 해시한 고정 개수의 슬롯에 기록하므로, 같은 슬롯의 다른 유저가 무효화되어도 캐시를 건너뛸 뿐입니다.
+ * - 히트/미스/제거 횟수를 노출하여 캐시 크기 산정에 사용합니다.
+ */
+public class AuthRepositoryUsingCache implements AuthRepository {
+
+    private static final int INVALIDATION_STRIPES = 1024;
+    private static final long SWEEP_INTERVAL_MILLIS = 1000L;
+
+    private static final Comparator<CachedToken> EXPIRY_ORDER = Comparator
+        .comparingLong(CachedToken::getExpiresAt)
+        .thenComparing(CachedToken::getToken);
+
+    private final AuthRepository delegate;
+    private final int maximumSize;
+
+    private final ConcurrentHashMap<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<String>> tokensByUserId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<CachedToken> expiryOrder = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+
+    private final AtomicLong nextSweepAt = new AtomicLong();
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(INVALIDATION_STRIPES);  // 슬롯별 마지막 무효화 세대
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public AuthRepositoryUsingCache(AuthRepository delegate, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public void saveRefreshToken(AuthToken refreshToken) {
+        delegate.saveRefreshToken(refreshToken);
+    }
+
+    @Override
+    public void saveAccessToken(AuthToken accessToken) {
+        delegate.saveAccessToken(accessToken);
+        put(accessToken);
+    }
+
+    @Override
+    public void deleteRefreshTokenByUserId(Long userId) {
+        delegate.deleteRefreshTokenByUserId(userId);
+        invalidate(userId);
+    }
+
+    @Override
+    public void deleteAccessTokenByUserId(Long userId) {
+        delegate.deleteAccessTokenByUserId(userId);
+        invalidate(userId);
+    }
+
+    @Override
+    public void rotateTokens(Long userId, AuthToken accessToken, AuthToken refreshToken) {
+        delegate.rotateTokens(userId, accessToken, refreshToken);
+        invalidate(userId);
+        if (accessToken != null) {
+            put(accessToken);
+        }
+    }
+
+    @Override
+    public Optional<Long> findUserIdByToken(String token) {
+        return findByToken(token).map(AuthToken::getUserId);
+    }
+
+    @Override
+    public Optional<AuthToken> findByToken(String token) {
+        CachedToken cached = tokens.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                hitCount.increment();
+                return Optional.of(cached.toAuthToken());
+            }
+            if (discard(cached)) {
+                evictionCount.increment();
+            }
+        }
+
+        missCount.increment();
+        long generation = invalidationSequence.get();
+        Optional<AuthToken> loaded = delegate.findByToken(token);
+        loaded.ifPresent(authToken -> putIfNotInvalidated(authToken, generation));
+        return loaded;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private void put(AuthToken authToken) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+
+        CachedToken entry = new CachedToken(authToken.getToken(), authToken.getUserId(), authToken.getExpiresAt());
+        if (entry.isExpired(now)) {
+            return;
+        }
+
+        CachedToken previous = tokens.put(entry.getToken(), entry);
+        if (previous != null) {
+            expiryOrder.remove(previous);
+        }
+        expiryOrder.add(entry);
+        tokensByUserId.computeIfAbsent(entry.getUserId(), k -> ConcurrentHashMap.newKeySet())
+            .add(entry.getToken());
+
+        // 최대 크기를 넘으면 가장 먼저 만료될 엔트리부터 제거
+        while (tokens.size() > maximumSize) {
+            CachedToken eldest = expiryOrder.pollFirst();
+            if (eldest == null) {
+                break;
+            }
+            if (discard(eldest)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * generation 이후 유저가 무효화되지 않았을 때만 캐시에 넣습니다.
+     * 넣은 뒤에도 다시 확인하여, 확인과 put 사이에 무효화되었으면 넣은 엔트리를 제거합니다.
+     * (invalidate는 세대를 올린 뒤 엔트리를 지우므로, 둘 중 하나는 반드시 늦게 넣은 엔트리를 봅니다)
+     */
+    private void putIfNotInvalidated(AuthToken authToken, long generation) {
+        if (isInvalidatedSince(authToken.getUserId(), generation)) {
+            return;
+        }
+        put(authToken);
+        if (isInvalidatedSince(authToken.getUserId(), generation)) {
+            CachedToken cached = tokens.get(authToken.getToken());
+            if (cached != null) {
+                discard(cached);
+            }
+        }
+    }
+
+    private boolean isInvalidatedSince(Long userId, long generation) {
+        return invalidatedAt.get(stripeOf(userId)) > generation;
+    }
+
+    private int stripeOf(Long userId) {
+        return Long.hashCode(userId) & (INVALIDATION_STRIPES - 1);
+    }
+
+    /**
+     * 만료 시각이 지난 엔트리를 만료 순서대로 제거합니다.
+     * put마다 인덱스를 훑지 않도록 SWEEP_INTERVAL_MILLIS에 한 번만 수행합니다.
+     * (그 사이 만료된 엔트리는 조회 시 제거되고, 최대 크기 초과 시에도 가장 먼저 제거됨)
+     */
+    private void evictExpired(long now) {
+        long sweepAt = nextSweepAt.get();
+        if (now < sweepAt || !nextSweepAt.compareAndSet(sweepAt, now + SWEEP_INTERVAL_MILLIS)) {
+            return;
+        }
+        Iterator<CachedToken> iterator = expiryOrder.iterator();
+        while (iterator.hasNext()) {
+            CachedToken eldest = iterator.next();
+            if (!eldest.isExpired(now)) {
+                break;
+            }
+            if (discard(eldest)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private void invalidate(Long userId) {
+        long generation = invalidationSequence.incrementAndGet();
+        invalidatedAt.accumulateAndGet(stripeOf(userId), generation, Math::max);
+
+        Set<String> userTokens = tokensByUserId.remove(userId);
+        if (userTokens == null) {
+            return;
+        }
+        for (String token : userTokens) {
+            CachedToken removed = tokens.remove(token);
+            if (removed != null) {
+                expiryOrder.remove(removed);
+            }
+        }
+    }
+
+    /**
+     * 엔트리를 모든 인덱스에서 제거합니다. 이 호출로 실제 제거되었으면 true를 반환합니다.
+     */
+    private boolean discard(CachedToken entry) {
+        expiryOrder.remove(entry);
+        if (!tokens.remove(entry.getToken(), entry)) {
+            return false;
+        }
+        tokensByUserId.computeIfPresent(entry.getUserId(), (userId, userTokens) -> {
+            userTokens.remove(entry.getToken());
+            return userTokens.isEmpty() ? null : userTokens;
+        });
+        return true;
+    }
+
+    /**
+     * 캐시 엔트리
+     */
+    private static class CachedToken {
+        private final String token;
+        private final Long userId;
+        private final long expiresAt;
+
+        CachedToken(String token, Long userId, long expiresAt) {
+            this.token = token;
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+
+        String getToken() {
+            return token;
+        }
+
+        Long getUserId() {
+            return userId;
+        }
+
+        long getExpiresAt() {
+            return expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        AuthToken toAuthToken() {
+            return new AuthToken(token, userId, expiresAt);
+        }
+    }
+}
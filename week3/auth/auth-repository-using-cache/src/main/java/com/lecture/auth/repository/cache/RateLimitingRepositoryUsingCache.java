@@ -0,0 +1,367 @@
+package com.lecture.auth.repository.cache;
+
+import com.lecture.auth.repository.RateLimitingRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RateLimitingRepositoryUsingCache
+ *
+ * 원격 RateLimitingRepository(Redis) 앞에 두는 2단 카운터 데코레이터입니다.
+ * 한도가 큰 키(IP 100회/시간 등)의 증가를 로컬에서 모아 주기적으로 한 번에 반영하여 원격 호출을 줄입니다.
+ *
+ * 동작 (incrementAndGetAll):
+ * - 키마다 마지막으로 확인한 원격 값(base)과 아직 반영하지 않은 로컬 증가분(pending)을 유지합니다.
+ * - base + pending <= limit - flushThreshold 이고 pending < flushThreshold이면 로컬에서 허용합니다.
+ * - 그 외(한도에 가까워졌거나 pending이 flushThreshold에 도달)에는 pending을 원격에 바로 더하고 정확한 값으로 판단합니다.
+ * - 원격 값이 이미 한도를 넘은 키는 로컬에서 바로 차단합니다. (차단 중인 트래픽은 주기적 반영에만 포함)
+ * - limit <= flushThreshold인 키(전화번호 5회 등)는 항상 원격에서 정확히 판단합니다.
+ *   연속된 이런 키(전화번호 + Device 등)는 원격 incrementAndGetAll 한 번으로 보냅니다. (한도를 넘은 키에서 멈추는 순서 유지)
+ * - flushInterval마다 모든 키의 pending을 addAndGetAll 한 번(키 500개 단위)으로 반영하고 base를 갱신합니다.
+ *
+ * 초과 허용 한계:
+ * - 인스턴스 하나는 원격 값을 확인하지 않고 같은 키에 최대 flushThreshold회만 허용합니다.
+ *   원격 확인 결과가 limit - flushThreshold 이상이면 그 window가 끝날 때까지 매번 원격에서 판단합니다.
+ * - 따라서 인스턴스 N개일 때 키 하나의 window당 초과 허용은 최대 N x flushThreshold회입니다.
+ *   (인스턴스가 하나이면 로컬 추정치가 곧 정확한 값이므로 초과 허용이 없습니다)
+ * - 원격 반영 전 프로세스가 죽으면 최대 flushInterval 동안의 로컬 증가분이 유실됩니다.
+ *
+ * 그 외 연산(getCount, getCounts 제외)은 원격 구현체에 그대로 위임합니다.
+ */
+public class RateLimitingRepositoryUsingCache implements RateLimitingRepository {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final long NOT_SYNCED = Long.MAX_VALUE;
+
+    private final RateLimitingRepository delegate;
+    private final long flushThreshold;
+    private final long idleMillis;
+    private final int maximumSize;
+
+    private final ConcurrentHashMap<String, LocalCounter> counters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    private final LongAdder localCount = new LongAdder();
+    private final LongAdder remoteSyncCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+
+    public RateLimitingRepositoryUsingCache(
+        RateLimitingRepository delegate,
+        long flushIntervalMillis,
+        long flushThreshold,
+        int maximumSize)
+    {
+        if (flushThreshold <= 0 || maximumSize <= 0) {
+            throw new IllegalArgumentException(
+                "flushThreshold and maximumSize must be positive: " + flushThreshold + ", " + maximumSize
+            );
+        }
+        this.delegate = delegate;
+        this.flushThreshold = flushThreshold;
+        this.idleMillis = flushIntervalMillis * 10;
+        this.maximumSize = maximumSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 한도를 알 수 없으므로 원격에서 바로 증가시킵니다.
+     */
+    @Override
+    public Long incrementAndGet(String key, long ttlSeconds) {
+        return delegate.incrementAndGet(key, ttlSeconds);
+    }
+
+    @Override
+    public List<Long> incrementAndGetAll(List<String> keys, List<Long> limits, long ttlSeconds) {
+        List<Long> counts = new ArrayList<>(keys.size());
+        int remoteFrom = -1;  // 원격에 바로 보낼 연속 구간의 시작 (없으면 -1)
+        for (int i = 0; i < keys.size(); i++) {
+            long limit = limits.get(i);
+            if (isRemoteOnly(keys.get(i), limit)) {
+                if (remoteFrom < 0) {
+                    remoteFrom = i;
+                }
+                continue;
+            }
+            // 앞 구간이 한도를 넘었으면 이 키는 증가시키지 않음
+            if (remoteFrom >= 0 && !incrementRemotely(keys, limits, remoteFrom, i, ttlSeconds, counts)) {
+                return counts;
+            }
+            remoteFrom = -1;
+
+            long count = increment(keys.get(i), limit, ttlSeconds);
+            counts.add(count);
+            if (count > limit) {
+                return counts;
+            }
+        }
+        if (remoteFrom >= 0) {
+            incrementRemotely(keys, limits, remoteFrom, keys.size(), ttlSeconds, counts);
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+        return delegate.addAndGetAll(keys, deltas, ttlSeconds);
+    }
+
+    /**
+     * 원격 값에 아직 반영하지 않은 로컬 증가분을 더해 반환합니다.
+     */
+    @Override
+    public long getCount(String key) {
+        LocalCounter counter = counters.get(key);
+        long pending = counter != null ? counter.pending.get() : 0L;
+        return delegate.getCount(key) + pending;
+    }
+
+    @Override
+    public List<Long> getCounts(List<String> keys) {
+        List<Long> counts = new ArrayList<>(delegate.getCounts(keys));
+        for (int i = 0; i < keys.size(); i++) {
+            LocalCounter counter = counters.get(keys.get(i));
+            if (counter != null) {
+                counts.set(i, counts.get(i) + counter.pending.get());
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public long incrementAndGetWeighted(String currentKey, String previousKey, double previousWeight, long ttlSeconds) {
+        return delegate.incrementAndGetWeighted(currentKey, previousKey, previousWeight, ttlSeconds);
+    }
+
+    @Override
+    public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+        return delegate.acquireGcra(key, emissionIntervalMillis, burstToleranceMillis, nowMillis);
+    }
+
+    @Override
+    public void delete(String key) {
+        counters.remove(key);
+        delegate.delete(key);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        for (String key : keys) {
+            counters.remove(key);
+        }
+        delegate.deleteAll(keys);
+    }
+
+    /**
+     * 원격 확인 없이 로컬에서 판단한 횟수 (허용 + 차단)
+     */
+    public long getLocalCount() {
+        return localCount.sum();
+    }
+
+    /**
+     * 한도 근처라서 원격에서 바로 판단한 횟수
+     */
+    public long getRemoteSyncCount() {
+        return remoteSyncCount.sum();
+    }
+
+    /**
+     * 주기적 반영에 사용한 원격 호출 횟수
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 남은 로컬 증가분을 반영하고 반영 스레드를 종료합니다. (Bean 종료 시 호출)
+     */
+    public void shutdown() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    /**
+     * 로컬 카운터 없이 원격에서 바로 판단할 키인지 확인합니다.
+     * (한도가 작은 키, 또는 카운터가 가득 차서 새 키를 받을 수 없는 경우)
+     */
+    private boolean isRemoteOnly(String key, long limit) {
+        return limit <= flushThreshold || (counters.size() >= maximumSize && !counters.containsKey(key));
+    }
+
+    /**
+     * keys[from, to)를 원격에서 한 번에 증가시키고 결과를 counts에 더합니다.
+     * 구간 안에서 한도를 넘은 키가 있으면 false를 반환합니다. (원격 구현체가 그 키에서 멈춤)
+     */
+    private boolean incrementRemotely(
+        List<String> keys,
+        List<Long> limits,
+        int from,
+        int to,
+        long ttlSeconds,
+        List<Long> counts)
+    {
+        List<Long> remoteCounts =
+            delegate.incrementAndGetAll(keys.subList(from, to), limits.subList(from, to), ttlSeconds);
+        counts.addAll(remoteCounts);
+        int last = remoteCounts.size() - 1;
+        return remoteCounts.size() == to - from && remoteCounts.get(last) <= limits.get(from + last);
+    }
+
+    private long increment(String key, long limit, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        LocalCounter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maximumSize) {
+                return delegate.incrementAndGet(key, ttlSeconds);
+            }
+            counter = counters.computeIfAbsent(key, k -> new LocalCounter(ttlSeconds));
+        }
+        counter.limit = limit;
+        counter.lastAccessAt = now;
+
+        long pending = counter.pending.incrementAndGet();
+        long base = counter.base;
+        long estimated = base + pending;
+        // 이미 한도를 넘은 키는 원격 확인 없이 차단 (window가 바뀌면 주기적 반영에서 base가 갱신됨)
+        if (base > limit || (estimated <= limit - flushThreshold && pending < flushThreshold)) {
+            localCount.increment();
+            return estimated;
+        }
+
+        remoteSyncCount.increment();
+        return sync(key, counter, now);
+    }
+
+    /**
+     * 키의 pending을 원격에 바로 더하고 정확한 값을 반환합니다.
+     */
+    private long sync(String key, LocalCounter counter, long now) {
+        long delta = counter.pending.getAndSet(0);
+        long count;
+        try {
+            count = delegate.addAndGetAll(List.of(key), List.of(delta), counter.ttlSeconds).get(0);
+        } catch (RuntimeException e) {
+            counter.pending.addAndGet(delta);
+            throw e;
+        }
+        counter.onSynced(count, now);
+        return count;
+    }
+
+    /**
+     * 모든 키의 pending을 원격에 반영하고, 오래 사용하지 않은 키를 정리합니다.
+     * 한도 근처였던 키는 window가 끝날 때까지 정리하지 않습니다. (초과 허용 한계 유지)
+     */
+    private void flush() {
+        long now = System.currentTimeMillis();
+        Map<Long, List<Map.Entry<String, LocalCounter>>> byTtl = new HashMap<>();
+        Map<LocalCounter, Long> deltas = new HashMap<>();
+
+        for (Map.Entry<String, LocalCounter> entry : counters.entrySet()) {
+            LocalCounter counter = entry.getValue();
+            long delta = counter.pending.getAndSet(0);
+            if (delta == 0 && counter.isRemovable(now, idleMillis, flushThreshold)
+                && counters.remove(entry.getKey(), counter)) {
+                // 제거 직전에 들어온 증가분은 이번에 반영
+                delta = counter.pending.getAndSet(0);
+            }
+            if (delta > 0) {
+                deltas.put(counter, delta);
+                byTtl.computeIfAbsent(counter.ttlSeconds, ttl -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        for (Map.Entry<Long, List<Map.Entry<String, LocalCounter>>> group : byTtl.entrySet()) {
+            List<Map.Entry<String, LocalCounter>> entries = group.getValue();
+            for (int from = 0; from < entries.size(); from += FLUSH_BATCH_SIZE) {
+                List<Map.Entry<String, LocalCounter>> batch =
+                    entries.subList(from, Math.min(from + FLUSH_BATCH_SIZE, entries.size()));
+                flushBatch(batch, deltas, group.getKey(), now);
+            }
+        }
+    }
+
+    private void flushBatch(
+        List<Map.Entry<String, LocalCounter>> batch,
+        Map<LocalCounter, Long> deltas,
+        long ttlSeconds,
+        long now)
+    {
+        List<String> keys = new ArrayList<>(batch.size());
+        List<Long> batchDeltas = new ArrayList<>(batch.size());
+        for (Map.Entry<String, LocalCounter> entry : batch) {
+            keys.add(entry.getKey());
+            batchDeltas.add(deltas.get(entry.getValue()));
+        }
+
+        List<Long> counts;
+        try {
+            counts = delegate.addAndGetAll(keys, batchDeltas, ttlSeconds);
+            flushCount.increment();
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영
+            for (Map.Entry<String, LocalCounter> entry : batch) {
+                entry.getValue().pending.addAndGet(deltas.get(entry.getValue()));
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).getValue().onSynced(counts.get(i), now);
+        }
+    }
+
+    /**
+     * 키 하나의 로컬 카운터
+     */
+    private static class LocalCounter {
+        final long ttlSeconds;
+        final AtomicLong pending = new AtomicLong();
+        volatile long base;
+        volatile long limit = Long.MAX_VALUE;
+        volatile long lastAccessAt;
+        volatile long windowEndsAt = NOT_SYNCED;
+
+        LocalCounter(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+
+        /**
+         * 원격 값으로 base를 갱신합니다.
+         * 원격 window는 확인 시점 이전에 시작되었으므로 (window가 바뀐 뒤) 첫 확인 + ttl 이전에 끝납니다.
+         */
+        void onSynced(long count, long now) {
+            base = count;
+            if (windowEndsAt == NOT_SYNCED || now > windowEndsAt) {
+                windowEndsAt = now + ttlSeconds * 1000;
+            }
+        }
+
+        boolean isRemovable(long now, long idleMillis, long flushThreshold) {
+            if (now - lastAccessAt < idleMillis) {
+                return false;
+            }
+            return base + flushThreshold < limit || now > windowEndsAt;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.lecture.auth.repository.cache;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.repository.AuthRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 대역으로 히트/미스, 토큰 만료, 최대 크기 제거, 조회 중 무효화를 확인합니다.
+ */
+class AuthRepositoryUsingCacheTest {
+
+    private static final long USER_ID = 7L;
+
+    private final TokenStore store = new TokenStore();
+
+    @Test
+    void savedTokenIsServedFromCacheAndMissIsLoadedOnce() {
+        AuthRepositoryUsingCache cache = new AuthRepositoryUsingCache(store, 100);
+        cache.saveAccessToken(token("saved", USER_ID, 60_000));
+        store.tokens.put("stored-only", token("stored-only", USER_ID, 60_000));
+
+        assertThat(cache.findUserIdByToken("saved")).contains(USER_ID);
+        assertThat(cache.findUserIdByToken("stored-only")).contains(USER_ID);
+        assertThat(cache.findUserIdByToken("stored-only")).contains(USER_ID);
+        assertThat(cache.findUserIdByToken("unknown")).isEmpty();
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(store.findCalls).hasValue(2);
+    }
+
+    @Test
+    void entryExpiresWithTheToken() throws Exception {
+        AuthRepositoryUsingCache cache = new AuthRepositoryUsingCache(store, 100);
+        cache.saveAccessToken(token("short", USER_ID, 100));
+        assertThat(cache.findUserIdByToken("short")).contains(USER_ID);
+
+        Thread.sleep(150);
+
+        // 만료된 엔트리는 제거되고 저장소 조회로 넘어감 (저장소도 만료된 토큰은 반환하지 않음)
+        assertThat(cache.findUserIdByToken("short")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(store.findCalls).hasValue(1);
+    }
+
+    @Test
+    void earliestExpiringEntryIsEvictedAtMaximumSize() {
+        AuthRepositoryUsingCache cache = new AuthRepositoryUsingCache(store, 2);
+        cache.saveAccessToken(token("later", 1L, 120_000));
+        cache.saveAccessToken(token("earliest", 2L, 60_000));
+        cache.saveAccessToken(token("latest", 3L, 180_000));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        cache.findUserIdByToken("later");
+        cache.findUserIdByToken("latest");
+        assertThat(store.findCalls).hasValue(0);
+        cache.findUserIdByToken("earliest");
+        assertThat(store.findCalls).hasValue(1);
+    }
+
+    @Test
+    void deletingUserTokensInvalidatesCachedEntries() {
+        AuthRepositoryUsingCache cache = new AuthRepositoryUsingCache(store, 100);
+        cache.saveAccessToken(token("first", USER_ID, 60_000));
+        cache.saveAccessToken(token("second", USER_ID, 60_000));
+        cache.saveAccessToken(token("other", 8L, 60_000));
+
+        cache.deleteAccessTokenByUserId(USER_ID);
+
+        assertThat(cache.findUserIdByToken("first")).isEmpty();
+        assertThat(cache.findUserIdByToken("second")).isEmpty();
+        assertThat(cache.findUserIdByToken("other")).contains(8L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenLoadedWhileUserIsInvalidatedIsNotCached() throws Exception {
+        AuthRepositoryUsingCache cache = new AuthRepositoryUsingCache(store, 100);
+        store.tokens.put("revoked", token("revoked", USER_ID, 60_000));
+        store.loading = new CountDownLatch(1);
+        store.release = new CountDownLatch(1);
+
+        ExecutorService loader = Executors.newSingleThreadExecutor();
+        try {
+            // 저장소에서 읽은 직후(폐기 전 값), 캐시에 넣기 전에 멈춤
+            Future<Optional<Long>> load = loader.submit(() -> cache.findUserIdByToken("revoked"));
+            assertThat(store.loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            cache.deleteAccessTokenByUserId(USER_ID);
+            store.release.countDown();
+
+            assertThat(load.get(5, TimeUnit.SECONDS)).contains(USER_ID);
+        } finally {
+            loader.shutdownNow();
+        }
+
+        // 무효화 전에 읽은 토큰은 캐시에 남지 않아 다음 조회는 저장소에서 폐기를 확인
+        store.loading = null;
+        assertThat(cache.size()).isZero();
+        assertThat(cache.findUserIdByToken("revoked")).isEmpty();
+    }
+
+    @Test
+    void rotationReplacesCachedAccessToken() {
+        AuthRepositoryUsingCache cache = new AuthRepositoryUsingCache(store, 100);
+        cache.saveAccessToken(token("old", USER_ID, 60_000));
+
+        cache.rotateTokens(USER_ID, token("new", USER_ID, 60_000), token("refresh", USER_ID, 120_000));
+
+        assertThat(cache.findUserIdByToken("new")).contains(USER_ID);
+        assertThat(cache.findUserIdByToken("old")).isEmpty();
+        assertThat(store.findCalls).hasValue(1);  // old만 저장소 조회
+    }
+
+    private static AuthToken token(String token, long userId, long validityMillis) {
+        return new AuthToken(token, userId, System.currentTimeMillis() + validityMillis);
+    }
+
+    /**
+     * 메모리 토큰 저장소 대역 (loading이 있으면 조회 결과를 읽은 뒤 release까지 멈춤)
+     */
+    private static class TokenStore implements AuthRepository {
+        final Map<String, AuthToken> tokens = new ConcurrentHashMap<>();
+        final AtomicInteger findCalls = new AtomicInteger();
+        volatile CountDownLatch loading;
+        volatile CountDownLatch release;
+
+        @Override
+        public void saveRefreshToken(AuthToken refreshToken) {
+            tokens.put(refreshToken.getToken(), refreshToken);
+        }
+
+        @Override
+        public void saveAccessToken(AuthToken accessToken) {
+            tokens.put(accessToken.getToken(), accessToken);
+        }
+
+        @Override
+        public void deleteRefreshTokenByUserId(Long userId) {
+            tokens.values().removeIf(token -> token.getUserId().equals(userId));
+        }
+
+        @Override
+        public void deleteAccessTokenByUserId(Long userId) {
+            tokens.values().removeIf(token -> token.getUserId().equals(userId));
+        }
+
+        @Override
+        public Optional<Long> findUserIdByToken(String token) {
+            return findByToken(token).map(AuthToken::getUserId);
+        }
+
+        @Override
+        public Optional<AuthToken> findByToken(String token) {
+            findCalls.incrementAndGet();
+            AuthToken found = tokens.get(token);
+            CountDownLatch current = loading;
+            if (current != null) {
+                current.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (found == null || found.getExpiresAt() <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(found);
+        }
+
+        @Override
+        public void rotateTokens(Long userId, AuthToken accessToken, AuthToken refreshToken) {
+            deleteAccessTokenByUserId(userId);
+            if (accessToken != null) {
+                saveAccessToken(accessToken);
+            }
+            saveRefreshToken(refreshToken);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.lecture.auth.repository.cache;
+
+import com.lecture.auth.repository.RateLimitingRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitingRepositoryUsingCacheTest {
+
+    private static final long TTL_SECONDS = 3600;
+    private static final long FLUSH_THRESHOLD = 10;
+    private static final long NO_PERIODIC_FLUSH = TimeUnit.HOURS.toMillis(1);
+
+    private final SharedStore remote = new SharedStore();
+
+    @Test
+    void consecutiveRemoteOnlyKeysGoInOneRoundTrip() {
+        RateLimitingRepositoryUsingCache cache = instance();
+
+        List<Long> counts = cache.incrementAndGetAll(
+            List.of("phone", "device", "ip"), List.of(5L, 5L, 100L), TTL_SECONDS);
+
+        assertThat(counts).containsExactly(1L, 1L, 1L);
+        assertThat(remote.incrementAllCalls).hasValue(1);
+        assertThat(remote.lastIncrementedKeys).containsExactly("phone", "device");
+        assertThat(remote.singleIncrementCalls).hasValue(0);
+        cache.shutdown();
+    }
+
+    @Test
+    void stopsAtFirstKeyOverLimit() {
+        RateLimitingRepositoryUsingCache cache = instance();
+        for (int i = 0; i < 5; i++) {
+            cache.incrementAndGetAll(List.of("phone", "device", "ip"), List.of(5L, 5L, 100L), TTL_SECONDS);
+        }
+
+        List<Long> counts = cache.incrementAndGetAll(
+            List.of("phone", "device", "ip"), List.of(5L, 5L, 100L), TTL_SECONDS);
+
+        assertThat(counts).containsExactly(6L);
+        assertThat(cache.getCount("device")).isEqualTo(5L);
+        assertThat(cache.getCount("ip")).isEqualTo(5L);
+        cache.shutdown();
+    }
+
+    @Test
+    void remoteOnlyKeysAfterLocalKeyAreNotIncrementedWhenLocalKeyIsOverLimit() {
+        RateLimitingRepositoryUsingCache cache = instance();
+        remote.addAndGetAll(List.of("ip"), List.of(200L), TTL_SECONDS);
+        for (int i = 0; i < FLUSH_THRESHOLD; i++) {
+            cache.incrementAndGetAll(List.of("ip"), List.of(100L), TTL_SECONDS);  // pending이 flushThreshold에 도달하면 원격 값 확인
+        }
+        long remoteCalls = remote.incrementAllCalls.get();
+
+        List<Long> counts = cache.incrementAndGetAll(
+            List.of("ip", "phone"), List.of(100L, 5L), TTL_SECONDS);
+
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0)).isGreaterThan(100L);
+        assertThat(remote.getCount("phone")).isZero();
+        assertThat(remote.incrementAllCalls).hasValue((int) remoteCalls);  // 로컬에서 차단, 원격 호출 없음
+        cache.shutdown();
+    }
+
+    /**
+     * 인스턴스 N개가 같은 키를 동시에 증가시켜도 허용 횟수는 limit + N x flushThreshold를 넘지 않습니다.
+     */
+    @Test
+    void overAdmissionIsBoundedByInstancesTimesFlushThreshold() throws Exception {
+        int instances = 4;
+        int threadsPerInstance = 4;
+        int requestsPerThread = 500;
+        long limit = 100;
+
+        List<RateLimitingRepositoryUsingCache> caches = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            caches.add(instance());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(instances * threadsPerInstance);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> allowedPerThread = new ArrayList<>();
+        for (RateLimitingRepositoryUsingCache cache : caches) {
+            for (int t = 0; t < threadsPerInstance; t++) {
+                allowedPerThread.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int r = 0; r < requestsPerThread; r++) {
+                        List<Long> counts = cache.incrementAndGetAll(List.of("ip"), List.of(limit), TTL_SECONDS);
+                        if (counts.get(0) <= limit) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+        }
+        start.countDown();
+
+        int allowed = 0;
+        for (Future<Integer> future : allowedPerThread) {
+            allowed += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+        caches.forEach(RateLimitingRepositoryUsingCache::shutdown);
+
+        assertThat(allowed).isGreaterThanOrEqualTo((int) limit);
+        assertThat(allowed).isLessThanOrEqualTo((int) (limit + instances * FLUSH_THRESHOLD));
+        // 모든 요청이 결국 원격 카운트에 반영됨
+        assertThat(remote.getCount("ip")).isEqualTo((long) instances * threadsPerInstance * requestsPerThread);
+    }
+
+    private RateLimitingRepositoryUsingCache instance() {
+        return new RateLimitingRepositoryUsingCache(remote, NO_PERIODIC_FLUSH, FLUSH_THRESHOLD, 1000);
+    }
+
+    /**
+     * 인스턴스들이 공유하는 원격 저장소(Redis) 대역
+     */
+    private static class SharedStore implements RateLimitingRepository {
+        final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+        final AtomicInteger incrementAllCalls = new AtomicInteger();
+        final AtomicInteger singleIncrementCalls = new AtomicInteger();
+        volatile List<String> lastIncrementedKeys = List.of();
+
+        @Override
+        public Long incrementAndGet(String key, long ttlSeconds) {
+            singleIncrementCalls.incrementAndGet();
+            return counter(key).incrementAndGet();
+        }
+
+        @Override
+        public synchronized List<Long> incrementAndGetAll(List<String> keys, List<Long> limits, long ttlSeconds) {
+            incrementAllCalls.incrementAndGet();
+            lastIncrementedKeys = List.copyOf(keys);
+            List<Long> result = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                long count = counter(keys.get(i)).incrementAndGet();
+                result.add(count);
+                if (count > limits.get(i)) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+            List<Long> result = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                result.add(counter(keys.get(i)).addAndGet(deltas.get(i)));
+            }
+            return result;
+        }
+
+        @Override
+        public long getCount(String key) {
+            AtomicLong count = counts.get(key);
+            return count != null ? count.get() : 0L;
+        }
+
+        @Override
+        public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String key) {
+            counts.remove(key);
+        }
+
+        private AtomicLong counter(String key) {
+            return counts.computeIfAbsent(key, k -> new AtomicLong());
+        }
+    }
+}
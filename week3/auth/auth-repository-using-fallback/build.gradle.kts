@@ -0,0 +1,8 @@
+dependencies {
+    implementation(project(":auth:auth-repository"))
+    
+    // Circuit Breaker
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.1.0")
+    
+    testImplementation(project(":auth:auth-repository-using-local-cache"))  // 장애 시 로컬 저장소
+}
@@ -0,0 +1,365 @@
+package com.lecture.auth.repository.fallback;
+
+import com.lecture.auth.repository.RateLimitingRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * RateLimitingRepositoryWithFallback
+ *
+ * 원격 RateLimitingRepository(Redis)를 Circuit Breaker로 감싸고,
+ * 원격이 느리거나 장애일 때 로컬 구현체(RateLimitingRepositoryUsingLocalCache)로 대신 판단하는 데코레이터입니다.
+ *
+ * 동작:
+ * - Circuit Breaker가 허용하면 원격을 호출합니다. 실패하면 그 요청은 로컬에서 처리합니다.
+ *   (원격 호출 시간은 Redis command timeout으로 제한하고, 느린 호출도 실패율에 포함)
+ * - 실패율 또는 느린 호출 비율이 임계치를 넘으면 open 동안 원격을 호출하지 않고 바로 로컬에서 처리합니다.
+ *   Redis가 멈춰도 로그인 스레드가 timeout만큼 붙잡히지 않습니다.
+ * - 로컬로 처리한 카운터 키와 삭제한 키를 기록해 두고, Circuit Breaker가 닫혀 있는 동안
+ *   reconcileInterval마다(그리고 닫히는 즉시) 삭제를 원격에 반영한 뒤 로컬 카운트를 addAndGetAll로 더하고
+ *   더한 만큼 로컬 카운트에서 뺍니다. (reconcile, 로컬 저장소는 subtractAll을 지원해야 함)
+ *   장애 동안의 시도와, 닫힌 상태에서 간헐적으로 실패한 시도가 원격 카운트에서 사라지지 않습니다.
+ * - 원격 호출이 timeout 등으로 실패하면 원격에서 실행되었을 수 있으므로, 그 요청의 증가분은 로컬 판단에만 쓰고
+ *   reconcile에서 제외합니다. (같은 요청을 두 번 세지 않음)
+ *   연결 자체가 실패한 경우(ConnectException)만 원격에서 실행되지 않은 것으로 보고 반영합니다.
+ *
+ * 한계:
+ * - 장애 동안 한도는 인스턴스별로 적용됩니다. (인스턴스 N개면 최대 N배 허용)
+ * - GCRA의 TAT는 더할 수 없으므로 reconcile하지 않습니다. (로컬 TAT는 만료되어 사라짐)
+ * - 기록하는 키는 maximumTrackedKeys개까지이며, 넘는 키의 로컬 카운트는 원격에 반영하지 않습니다.
+ * - timeout으로 실패한 요청이 실제로는 원격에서 실행되지 않았다면 그 한 번은 원격 카운트에 빠집니다.
+ *
+ * 지표: 로컬 처리 수, 원격 실패 수, reconcile한 키 수, reconcile 실패 수, Circuit Breaker 상태
+ */
+public class RateLimitingRepositoryWithFallback implements RateLimitingRepository {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final RateLimitingRepository primary;
+    private final RateLimitingRepository fallback;
+    private final CircuitBreaker circuitBreaker;
+    private final int maximumTrackedKeys;
+
+    private final ConcurrentHashMap<String, Long> fallbackCounterKeys = new ConcurrentHashMap<>();  // 키 -> ttlSeconds
+    private final ConcurrentHashMap<String, Long> unreconciledDeltas = new ConcurrentHashMap<>();  // 키 -> 원격에 반영하지 않을 증가분
+    private final Set<String> fallbackDeletedKeys = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService reconciler;
+
+    private final LongAdder fallbackCallCount = new LongAdder();
+    private final LongAdder primaryFailureCount = new LongAdder();
+    private final LongAdder reconciledKeyCount = new LongAdder();
+    private final LongAdder reconcileFailureCount = new LongAdder();
+
+    public RateLimitingRepositoryWithFallback(
+        RateLimitingRepository primary,
+        RateLimitingRepository fallback,
+        CircuitBreaker circuitBreaker,
+        int maximumTrackedKeys,
+        long reconcileIntervalMillis)
+    {
+        if (maximumTrackedKeys <= 0) {
+            throw new IllegalArgumentException("maximumTrackedKeys must be positive: " + maximumTrackedKeys);
+        }
+        this.primary = primary;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+        this.maximumTrackedKeys = maximumTrackedKeys;
+        this.reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                reconciler.execute(this::reconcileIfClosed);
+            }
+        });
+        this.reconciler.scheduleWithFixedDelay(
+            this::reconcileIfClosed,
+            reconcileIntervalMillis,
+            reconcileIntervalMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public Long incrementAndGet(String key, long ttlSeconds) {
+        return call(
+            repository -> repository.incrementAndGet(key, ttlSeconds),
+            count -> Map.of(key, 1L),
+            ttlSeconds
+        );
+    }
+
+    @Override
+    public List<Long> incrementAndGetAll(List<String> keys, List<Long> limits, long ttlSeconds) {
+        return call(
+            repository -> repository.incrementAndGetAll(keys, limits, ttlSeconds),
+            counts -> deltasOf(keys.subList(0, counts.size()), null),  // 한도를 넘은 키 뒤는 증가하지 않음
+            ttlSeconds
+        );
+    }
+
+    @Override
+    public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+        return call(
+            repository -> repository.addAndGetAll(keys, deltas, ttlSeconds),
+            counts -> deltasOf(keys, deltas),
+            ttlSeconds
+        );
+    }
+
+    @Override
+    public long getCount(String key) {
+        return call(repository -> repository.getCount(key), null, 0L);
+    }
+
+    @Override
+    public List<Long> getCounts(List<String> keys) {
+        return call(repository -> repository.getCounts(keys), null, 0L);
+    }
+
+    @Override
+    public long incrementAndGetWeighted(String currentKey, String previousKey, double previousWeight, long ttlSeconds) {
+        return call(
+            repository -> repository.incrementAndGetWeighted(currentKey, previousKey, previousWeight, ttlSeconds),
+            estimated -> Map.of(currentKey, 1L),
+            ttlSeconds
+        );
+    }
+
+    @Override
+    public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+        return call(
+            repository -> repository.acquireGcra(key, emissionIntervalMillis, burstToleranceMillis, nowMillis),
+            null,
+            0L
+        );
+    }
+
+    @Override
+    public void delete(String key) {
+        deleteAll(List.of(key));
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        boolean deletedFromPrimary = call(repository -> {
+            repository.deleteAll(keys);
+            return repository == primary;
+        }, null, 0L);
+
+        if (!deletedFromPrimary) {
+            // 복구 후 원격에서도 삭제
+            fallbackDeletedKeys.addAll(keys);
+        } else if (!fallbackCounterKeys.isEmpty()) {
+            // 아직 reconcile하지 않은 로컬 카운트도 삭제
+            fallback.deleteAll(keys);
+        }
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    public long getFallbackCallCount() {
+        return fallbackCallCount.sum();
+    }
+
+    public long getPrimaryFailureCount() {
+        return primaryFailureCount.sum();
+    }
+
+    public long getReconciledKeyCount() {
+        return reconciledKeyCount.sum();
+    }
+
+    public long getReconcileFailureCount() {
+        return reconcileFailureCount.sum();
+    }
+
+    /**
+     * reconcile 스레드를 종료합니다. (Bean 종료 시 호출)
+     */
+    public void shutdown() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * Circuit Breaker가 허용하면 원격을 호출하고, 허용하지 않거나 실패하면 로컬에서 처리합니다.
+     * 로컬에서 처리한 카운터 키(appliedDeltas: 결과 -> 키별 증가분)는 복구 후 원격에 더하기 위해 기록합니다.
+     * 원격에서 실행되었을 수 있는 요청의 증가분은 reconcile에서 뺄 값으로 기록합니다.
+     */
+    private <T> T call(
+        Function<RateLimitingRepository, T> operation,
+        Function<T, Map<String, Long>> appliedDeltas,
+        long ttlSeconds)
+    {
+        boolean mayHaveReachedPrimary = false;
+        if (circuitBreaker.tryAcquirePermission()) {
+            long start = System.nanoTime();
+            try {
+                T result = operation.apply(primary);
+                circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                primaryFailureCount.increment();
+                mayHaveReachedPrimary = !isConnectFailure(e);
+            }
+        }
+
+        fallbackCallCount.increment();
+        T result = operation.apply(fallback);
+        if (appliedDeltas != null) {
+            // 로컬 증가 뒤에 기록 (reconcile이 기록을 지운 뒤 들어온 증가분은 다시 기록됨)
+            for (Map.Entry<String, Long> applied : appliedDeltas.apply(result).entrySet()) {
+                String key = applied.getKey();
+                if (fallbackCounterKeys.size() < maximumTrackedKeys || fallbackCounterKeys.containsKey(key)) {
+                    if (mayHaveReachedPrimary) {
+                        unreconciledDeltas.merge(key, applied.getValue(), Long::sum);
+                    }
+                    fallbackCounterKeys.put(key, ttlSeconds);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Circuit Breaker가 닫혀 있고 반영할 키가 있으면 reconcile합니다. (주기적 실행, 닫히는 즉시 실행)
+     */
+    private void reconcileIfClosed() {
+        if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        if (fallbackCounterKeys.isEmpty() && fallbackDeletedKeys.isEmpty()) {
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * 로컬에서 처리한 삭제와 카운트를 원격에 반영합니다.
+     * 실패하면 남은 키는 다음 주기에 다시 반영합니다.
+     */
+    private void reconcile() {
+        try {
+            if (!fallbackDeletedKeys.isEmpty()) {
+                List<String> deleted = new ArrayList<>(fallbackDeletedKeys);
+                primary.deleteAll(deleted);
+                fallbackDeletedKeys.removeAll(deleted);
+            }
+
+            Map<Long, List<String>> keysByTtl = new HashMap<>();
+            for (Map.Entry<String, Long> entry : fallbackCounterKeys.entrySet()) {
+                keysByTtl.computeIfAbsent(entry.getValue(), ttl -> new ArrayList<>()).add(entry.getKey());
+            }
+            for (Map.Entry<Long, List<String>> group : keysByTtl.entrySet()) {
+                List<String> keys = group.getValue();
+                for (int from = 0; from < keys.size(); from += RECONCILE_BATCH_SIZE) {
+                    List<String> batch = keys.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, keys.size()));
+                    reconcileBatch(batch, group.getKey());
+                }
+            }
+        } catch (RuntimeException e) {
+            reconcileFailureCount.increment();
+        }
+    }
+
+    /**
+     * 로컬 카운트에서 원격에 반영하지 않을 증가분을 뺀 만큼 원격에 더하고, 읽은 로컬 카운트만큼 로컬에서 뺍니다.
+     * (읽은 뒤 들어온 로컬 증가분은 남아서 다음 reconcile에 반영됨)
+     */
+    private void reconcileBatch(List<String> batch, long ttlSeconds) {
+        Map<String, Long> skipped = new HashMap<>();
+        for (String key : batch) {
+            Long delta = unreconciledDeltas.remove(key);
+            if (delta != null) {
+                skipped.put(key, delta);
+            }
+        }
+
+        List<Long> counts;
+        List<String> keys = new ArrayList<>(batch.size());
+        List<Long> deltas = new ArrayList<>(batch.size());
+        try {
+            counts = fallback.getCounts(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                long delta = counts.get(i) - skipped.getOrDefault(batch.get(i), 0L);
+                if (delta > 0) {
+                    keys.add(batch.get(i));
+                    deltas.add(delta);
+                }
+            }
+            if (!keys.isEmpty()) {
+                primary.addAndGetAll(keys, deltas, ttlSeconds);
+            }
+        } catch (RuntimeException e) {
+            skipped.forEach((key, delta) -> unreconciledDeltas.merge(key, delta, Long::sum));
+            throw e;
+        }
+
+        // 읽은 뒤 만료/삭제된 키는 빼지 않음 (음수 카운트 엔트리를 만들지 않도록 subtractAll 사용)
+        List<String> readKeys = new ArrayList<>(batch.size());
+        List<Long> readCounts = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (counts.get(i) > 0) {
+                readKeys.add(batch.get(i));
+                readCounts.add(counts.get(i));
+            }
+        }
+        if (!readKeys.isEmpty()) {
+            fallback.subtractAll(readKeys, readCounts);
+        }
+
+        for (String key : batch) {
+            fallbackCounterKeys.remove(key, ttlSeconds);
+        }
+        // 기록을 지우기 전에 들어온 로컬 증가분이 남아 있으면 다시 기록
+        List<Long> remaining = fallback.getCounts(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            if (remaining.get(i) > 0) {
+                fallbackCounterKeys.putIfAbsent(batch.get(i), ttlSeconds);
+            }
+        }
+        reconciledKeyCount.add(keys.size());
+    }
+
+    /**
+     * 키별 증가분 (deltas가 null이면 1씩)
+     */
+    private static Map<String, Long> deltasOf(List<String> keys, List<Long> deltas) {
+        Map<String, Long> applied = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            applied.merge(keys.get(i), deltas != null ? deltas.get(i) : 1L, Long::sum);
+        }
+        return applied;
+    }
+
+    /**
+     * 연결 자체가 실패했는지 (원격에서 실행되지 않았음이 확실한 경우)
+     */
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
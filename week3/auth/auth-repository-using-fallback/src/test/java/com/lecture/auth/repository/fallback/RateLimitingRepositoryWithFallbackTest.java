@@ -0,0 +1,297 @@
+package com.lecture.auth.repository.fallback;
+
+import com.lecture.auth.repository.RateLimitingRepository;
+import com.lecture.auth.repository.local.RateLimitingRepositoryUsingLocalCache;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연/장애를 주입한 Redis 대역으로 Circuit Breaker 전환, 로컬 판단 지연, reconcile 결과를 확인합니다.
+ */
+class RateLimitingRepositoryWithFallbackTest {
+
+    private static final String KEY = "rate_limit:login:ip:1.2.3.4";
+    private static final long TTL_SECONDS = 3600;
+
+    private final RedisStandIn redis = new RedisStandIn();
+    private final RateLimitingRepositoryUsingLocalCache local = new RateLimitingRepositoryUsingLocalCache(10_000, 1000);
+    private RateLimitingRepositoryWithFallback repository;
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+        local.destroy();
+    }
+
+    @Test
+    void slowRedisOpensCircuitAndLocalDecisionsStayFast() throws Exception {
+        repository = new RateLimitingRepositoryWithFallback(redis, local, circuitBreaker(5, Duration.ofMillis(300)), 1000, 50);
+        redis.latencyMillis = 200;
+
+        int primaryCalls = 0;
+        while (repository.getState() == CircuitBreaker.State.CLOSED) {
+            repository.incrementAndGet(KEY, TTL_SECONDS);
+            primaryCalls++;
+        }
+        assertThat(repository.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // open 동안은 Redis를 호출하지 않고 로컬에서 바로 판단
+        List<Long> latencies = new ArrayList<>();
+        int fallbackCalls = 200;
+        for (int i = 0; i < fallbackCalls; i++) {
+            long start = System.nanoTime();
+            repository.incrementAndGet(KEY, TTL_SECONDS);
+            latencies.add(System.nanoTime() - start);
+        }
+        Collections.sort(latencies);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(latencies.get(fallbackCalls * 99 / 100))).isLessThan(20);
+        assertThat(repository.getFallbackCallCount()).isEqualTo(fallbackCalls);
+
+        // 복구: half-open에서 성공하면 닫히고, 로컬 카운트가 Redis에 반영됨
+        redis.latencyMillis = 0;
+        Thread.sleep(350);
+        while (repository.getState() != CircuitBreaker.State.CLOSED) {
+            repository.incrementAndGet(KEY, TTL_SECONDS);
+            primaryCalls++;
+        }
+        long total = primaryCalls + fallbackCalls;
+        awaitTrue(() -> redis.getCount(KEY) == total);
+        assertThat(local.getCount(KEY)).isZero();
+    }
+
+    @Test
+    void timedOutCallThatRanOnRedisIsNotCountedTwice() throws Exception {
+        repository = new RateLimitingRepositoryWithFallback(redis, local, circuitBreaker(1000, Duration.ofMinutes(1)), 1000, 50);
+        redis.failure = RedisStandIn.Failure.TIMEOUT_AFTER_EXECUTE;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(repository.incrementAndGet(KEY, TTL_SECONDS)).isEqualTo(i + 1L);  // 로컬 판단
+        }
+        assertThat(repository.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        redis.failure = null;
+        awaitTrue(() -> local.getCount(KEY) == 0);
+        assertThat(redis.getCount(KEY)).isEqualTo(3L);
+    }
+
+    @Test
+    void refusedConnectionIsReconciledWhileCircuitStaysClosed() throws Exception {
+        repository = new RateLimitingRepositoryWithFallback(redis, local, circuitBreaker(1000, Duration.ofMinutes(1)), 1000, 50);
+        redis.failure = RedisStandIn.Failure.CONNECTION_REFUSED;
+
+        repository.incrementAndGetAll(List.of(KEY, KEY + ":device"), List.of(100L, 100L), TTL_SECONDS);
+        assertThat(repository.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(redis.getCount(KEY)).isZero();
+
+        // Circuit Breaker 상태가 바뀌지 않아도 주기적으로 반영
+        redis.failure = null;
+        awaitTrue(() -> redis.getCount(KEY) == 1 && redis.getCount(KEY + ":device") == 1);
+        assertThat(local.getCount(KEY)).isZero();
+        assertThat(repository.getReconciledKeyCount()).isEqualTo(2);
+    }
+
+    @Test
+    void incrementsDuringReconcileAreKeptForNextRun() throws Exception {
+        repository = new RateLimitingRepositoryWithFallback(redis, local, circuitBreaker(1000, Duration.ofMinutes(1)), 1000, 5);
+
+        // 실패와 reconcile(5ms 주기)이 겹치도록 실패를 섞어 호출
+        int total = 300;
+        for (int i = 0; i < total; i++) {
+            redis.failure = i % 2 == 0 ? RedisStandIn.Failure.CONNECTION_REFUSED : null;
+            repository.incrementAndGet(KEY, TTL_SECONDS);
+            Thread.sleep(1);
+        }
+        redis.failure = null;
+        assertThat(repository.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        awaitTrue(() -> redis.getCount(KEY) == total);
+        assertThat(local.getCount(KEY)).isZero();
+    }
+
+    @Test
+    void keyDeletedBetweenReadAndSubtractLeavesNoLocalEntry() throws Exception {
+        DeletingAfterRead fallback = new DeletingAfterRead(local, KEY);
+        repository = new RateLimitingRepositoryWithFallback(redis, fallback, circuitBreaker(1000, Duration.ofMinutes(1)), 1000, 50);
+        redis.failure = RedisStandIn.Failure.CONNECTION_REFUSED;
+
+        for (int i = 0; i < 3; i++) {
+            repository.incrementAndGet(KEY, TTL_SECONDS);
+        }
+        redis.failure = null;
+        awaitTrue(() -> repository.getReconciledKeyCount() == 1);
+
+        // 읽은 카운트를 뺄 때 키가 없으면 음수 카운트 엔트리를 만들지 않음 (만료 버킷 밖 누수, 다음 장애 때 추가 허용)
+        assertThat(redis.getCount(KEY)).isEqualTo(3L);
+        assertThat(local.size()).isZero();
+        assertThat(local.incrementAndGet(KEY, TTL_SECONDS)).isEqualTo(1L);
+    }
+
+    /**
+     * 실패율이 100%가 되어야 열리고, 느린 호출 비율 50% 이상이면 열리는 설정
+     */
+    private CircuitBreaker circuitBreaker(int minimumNumberOfCalls, Duration openState) {
+        return CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+            .failureRateThreshold(100)
+            .slowCallDurationThreshold(Duration.ofMillis(50))
+            .slowCallRateThreshold(50)
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(Math.max(10, minimumNumberOfCalls))
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(openState)
+            .permittedNumberOfCallsInHalfOpenState(3)
+            .build());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * 로컬 저장소 대역: 처음 key를 읽은 직후 key를 삭제합니다. (reconcile이 읽은 뒤 만료/삭제된 경우)
+     */
+    private static class DeletingAfterRead implements RateLimitingRepository {
+        private final RateLimitingRepository delegate;
+        private final String key;
+        private volatile boolean deleted;
+
+        DeletingAfterRead(RateLimitingRepository delegate, String key) {
+            this.delegate = delegate;
+            this.key = key;
+        }
+
+        @Override
+        public Long incrementAndGet(String key, long ttlSeconds) {
+            return delegate.incrementAndGet(key, ttlSeconds);
+        }
+
+        @Override
+        public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+            return delegate.addAndGetAll(keys, deltas, ttlSeconds);
+        }
+
+        @Override
+        public void subtractAll(List<String> keys, List<Long> amounts) {
+            delegate.subtractAll(keys, amounts);
+        }
+
+        @Override
+        public long getCount(String key) {
+            return delegate.getCount(key);
+        }
+
+        @Override
+        public List<Long> getCounts(List<String> keys) {
+            List<Long> counts = delegate.getCounts(keys);
+            if (!deleted && keys.contains(key)) {
+                delegate.delete(key);
+                deleted = true;
+            }
+            return counts;
+        }
+
+        @Override
+        public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+            return delegate.acquireGcra(key, emissionIntervalMillis, burstToleranceMillis, nowMillis);
+        }
+
+        @Override
+        public void delete(String key) {
+            delegate.delete(key);
+        }
+    }
+
+    /**
+     * Redis 대역: 호출마다 latencyMillis만큼 지연하고, failure에 따라 실패합니다.
+     */
+    private static class RedisStandIn implements RateLimitingRepository {
+
+        enum Failure {
+            TIMEOUT_AFTER_EXECUTE,  // 명령은 실행되었지만 클라이언트가 응답 전에 timeout
+            CONNECTION_REFUSED  // 명령이 전송되지 않음
+        }
+
+        final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+        volatile long latencyMillis;
+        volatile Failure failure;
+
+        @Override
+        public Long incrementAndGet(String key, long ttlSeconds) {
+            return execute(() -> counter(key).incrementAndGet());
+        }
+
+        @Override
+        public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+            return execute(() -> {
+                List<Long> result = new ArrayList<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    result.add(counter(keys.get(i)).addAndGet(deltas.get(i)));
+                }
+                return result;
+            });
+        }
+
+        @Override
+        public long getCount(String key) {
+            AtomicLong count = counts.get(key);
+            return count != null ? count.get() : 0L;
+        }
+
+        @Override
+        public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String key) {
+            execute(() -> counts.remove(key));
+        }
+
+        private <T> T execute(Supplier<T> command) {
+            Failure current = failure;
+            if (current == Failure.CONNECTION_REFUSED) {
+                throw new IllegalStateException("Unable to connect", new ConnectException("Connection refused"));
+            }
+            sleep(latencyMillis);
+            T result = command.get();
+            if (current == Failure.TIMEOUT_AFTER_EXECUTE) {
+                throw new IllegalStateException("Command timed out");
+            }
+            return result;
+        }
+
+        private AtomicLong counter(String key) {
+            return counts.computeIfAbsent(key, k -> new AtomicLong());
+        }
+
+        private static void sleep(long millis) {
+            if (millis <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -3,48 +3,114 @@ package com.lecture.auth.repository.jpa;
 import com.lecture.auth.domain.AuthToken;
 import com.lecture.auth.repository.AuthRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * AuthRepositoryUsingJpa
+ * 
+ * auth_tokens 테이블을 사용하는 AuthRepository 구현체입니다. (auth.token-store=jpa, 기본값)
+ * 
+ * 유저당 Access/Refresh Token은 (user_id, kind) 유니크 제약으로 하나씩만 저장됩니다.
+ */
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.token-store", havingValue = "jpa", matchIfMissing = true)
 public class AuthRepositoryUsingJpa implements AuthRepository {
     
+    private static final int ROTATE_MAX_ATTEMPTS = 3;
+    
     private final AuthTokenJpaRepository authTokenJpaRepository;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 유저의 기존 Refresh Token을 지우고 저장합니다. (유저당 하나)
+     */
     @Override
+    @Transactional
     public void saveRefreshToken(AuthToken refreshToken) {
-        AuthTokenEntity entity = new AuthTokenEntity(
+        authTokenJpaRepository.deleteByUserIdAndKind(refreshToken.getUserId(), AuthTokenEntity.Kind.REFRESH);
+        authTokenJpaRepository.save(new AuthTokenEntity(
             refreshToken.getUserId(),
+            AuthTokenEntity.Kind.REFRESH,
             refreshToken.getToken(),
             refreshToken.getExpiresAt()
-        );
-        authTokenJpaRepository.save(entity);
+        ));
     }
 
+    /**
+     * 유저의 기존 Access Token을 지우고 저장합니다. (유저당 하나)
+     */
     @Override
+    @Transactional
     public void saveAccessToken(AuthToken accessToken) {
-        AuthTokenEntity entity = new AuthTokenEntity(
+        authTokenJpaRepository.deleteByUserIdAndKind(accessToken.getUserId(), AuthTokenEntity.Kind.ACCESS);
+        authTokenJpaRepository.save(new AuthTokenEntity(
             accessToken.getUserId(),
+            AuthTokenEntity.Kind.ACCESS,
             accessToken.getToken(),
             accessToken.getExpiresAt()
-        );
-        authTokenJpaRepository.save(entity);
+        ));
     }
 
     @Override
     public void deleteRefreshTokenByUserId(Long userId) {
-        AuthTokenEntity entity = authTokenJpaRepository.findByUserId(userId);
-        if (entity != null) {
-            authTokenJpaRepository.delete(entity);
-        }
+        // Access/Refresh Token이 같은 테이블에 있으므로 유저의 토큰을 모두 삭제
+        authTokenJpaRepository.deleteAllByUserId(userId);
     }
 
     @Override
     public void deleteAccessTokenByUserId(Long userId) {
-        // Access Token도 동일한 방식으로 삭제
-        deleteRefreshTokenByUserId(userId);
+        authTokenJpaRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * 하나의 트랜잭션에서 벌크 DELETE 1회 + 배치 INSERT 1회로 토큰을 교체합니다.
+     * 
+     * READ_COMMITTED에서 지울 행이 없는 DELETE는 잠금을 잡지 않으므로, 같은 유저의 교체가 동시에 실행되면
+     * 둘 다 INSERT까지 진행할 수 있습니다. 이때 (user_id, kind) 유니크 제약으로 늦게 커밋하는 쪽이 실패하고,
+     * 새 트랜잭션에서 다시 교체합니다. (먼저 저장된 토큰을 지우고 저장, 유저당 토큰 쌍은 항상 하나)
+     */
+    @Override
+    public void rotateTokens(Long userId, AuthToken accessToken, AuthToken refreshToken) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> replaceTokens(userId, accessToken, refreshToken));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= ROTATE_MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    private void replaceTokens(Long userId, AuthToken accessToken, AuthToken refreshToken) {
+        authTokenJpaRepository.deleteAllByUserId(userId);
+        
+        List<AuthTokenEntity> entities = new ArrayList<>(2);
+        if (accessToken != null) {
+            entities.add(new AuthTokenEntity(
+                userId,
+                AuthTokenEntity.Kind.ACCESS,
+                accessToken.getToken(),
+                accessToken.getExpiresAt()
+            ));
+        }
+        entities.add(new AuthTokenEntity(
+            userId,
+            AuthTokenEntity.Kind.REFRESH,
+            refreshToken.getToken(),
+            refreshToken.getExpiresAt()
+        ));
+        authTokenJpaRepository.saveAll(entities);
     }
 
     @Override
@@ -53,4 +119,11 @@ public class AuthRepositoryUsingJpa implements AuthRepository {
             .filter(entity -> entity.getExpiresAt() > System.currentTimeMillis())
             .map(AuthTokenEntity::getUserId);
     }
+
+    @Override
+    public Optional<AuthToken> findByToken(String token) {
+        return authTokenJpaRepository.findByToken(token)
+            .filter(entity -> entity.getExpiresAt() > System.currentTimeMillis())
+            .map(entity -> new AuthToken(entity.getToken(), entity.getUserId(), entity.getExpiresAt()));
+    }
 }
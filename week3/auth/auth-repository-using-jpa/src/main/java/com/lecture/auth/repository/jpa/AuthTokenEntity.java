@@ -2,24 +2,55 @@ package com.lecture.auth.repository.jpa;
 
 import jakarta.persistence.*;
 
+/**
+ * auth_tokens 테이블 엔티티
+ * 
+ * expiryBucket: 만료 시각을 1시간 단위로 묶은 값입니다.
+ * 이미 닫힌 버킷의 토큰은 모두 만료되었으므로 버킷 단위로 인덱스 범위 삭제가 가능합니다.
+ * 
+ * kind: Access/Refresh Token 구분입니다. (user_id, kind) 유니크 제약으로 유저당 토큰 쌍은 하나만 존재합니다.
+ * (동시에 토큰을 교체해도 둘 다 INSERT에 성공하지 못함, user_id 조회도 이 인덱스 사용)
+ */
 @Entity
-@Table(name = "auth_tokens")
+@Table(
+    name = "auth_tokens",
+    indexes = {
+        @Index(name = "idx_auth_tokens_token", columnList = "token"),
+        @Index(name = "idx_auth_tokens_expiry_bucket", columnList = "expiry_bucket")
+    },
+    uniqueConstraints = @UniqueConstraint(name = "uk_auth_tokens_user_id_kind", columnNames = {"user_id", "kind"})
+)
 public class AuthTokenEntity {
+    public static final long EXPIRY_BUCKET_MILLIS = 60 * 60 * 1000L; // 1시간
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auth_tokens_seq")
+    @SequenceGenerator(name = "auth_tokens_seq", sequenceName = "auth_tokens_seq", allocationSize = 50)
+    private Long id;  // IDENTITY는 JDBC 배치 INSERT를 막으므로 시퀀스(미리 할당) 사용
     
     private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;
+    
     private String token;
     private Long expiresAt;
+    private Long expiryBucket;
     
     public AuthTokenEntity() {
     }
     
-    public AuthTokenEntity(Long userId, String token, Long expiresAt) {
+    public AuthTokenEntity(Long userId, Kind kind, String token, Long expiresAt) {
         this.userId = userId;
+        this.kind = kind;
         this.token = token;
         this.expiresAt = expiresAt;
+        this.expiryBucket = toExpiryBucket(expiresAt);
+    }
+    
+    public static long toExpiryBucket(long epochMillis) {
+        return epochMillis / EXPIRY_BUCKET_MILLIS;
     }
     
     public Long getId() {
@@ -38,6 +69,14 @@ public class AuthTokenEntity {
         this.userId = userId;
     }
     
+    public Kind getKind() {
+        return kind;
+    }
+    
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+    
     public String getToken() {
         return token;
     }
@@ -52,5 +91,15 @@ public class AuthTokenEntity {
     
     public void setExpiresAt(Long expiresAt) {
         this.expiresAt = expiresAt;
+        this.expiryBucket = toExpiryBucket(expiresAt);
+    }
+    
+    public Long getExpiryBucket() {
+        return expiryBucket;
+    }
+    
+    public enum Kind {
+        ACCESS,
+        REFRESH
     }
 }
@@ -1,9 +1,38 @@
 package com.lecture.auth.repository.jpa;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthTokenJpaRepository extends JpaRepository<AuthTokenEntity, Long> {
     AuthTokenEntity findByUserId(Long userId);
     Optional<AuthTokenEntity> findByToken(String token);
+    
+    /**
+     * 유저의 토큰을 한 번의 벌크 DELETE로 삭제합니다. (조회 후 삭제하지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from AuthTokenEntity t where t.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 유저의 한 종류(Access/Refresh) 토큰을 벌크 DELETE로 삭제합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from AuthTokenEntity t where t.userId = :userId and t.kind = :kind")
+    int deleteByUserIdAndKind(@Param("userId") Long userId, @Param("kind") AuthTokenEntity.Kind kind);
+    
+    /**
+     * 닫힌 만료 버킷(expiryBucket < bucket)에 속한 토큰 ID를 한 배치만큼 조회합니다.
+     */
+    @Query("select t.id from AuthTokenEntity t where t.expiryBucket < :bucket")
+    List<Long> findIdsByExpiryBucketLessThan(@Param("bucket") Long bucket, Pageable pageable);
 }
@@ -0,0 +1,86 @@
+package com.lecture.auth.repository.jpa;
+
+import com.lecture.auth.domain.AuthToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=50")
+class AuthRepositoryUsingJpaTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(AuthRepositoryUsingJpa.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private AuthRepositoryUsingJpa authRepository;
+
+    @Autowired
+    private AuthTokenJpaRepository authTokenJpaRepository;
+
+    @Test
+    void concurrentRotationsLeaveOneTokenPairPerUser() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (long userId = 1; userId <= 30; userId++) {
+                long user = userId;
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                List<Future<?>> rotations = List.of(
+                    executor.submit(() -> rotate(barrier, user, "a")),
+                    executor.submit(() -> rotate(barrier, user, "b"))
+                );
+                for (Future<?> rotation : rotations) {
+                    rotation.get();
+                }
+
+                List<AuthTokenEntity> tokens = authTokenJpaRepository.findAll().stream()
+                    .filter(token -> token.getUserId().equals(user))
+                    .toList();
+                assertThat(tokens).hasSize(2);
+                assertThat(tokens).extracting(AuthTokenEntity::getKind)
+                    .containsExactlyInAnyOrder(AuthTokenEntity.Kind.ACCESS, AuthTokenEntity.Kind.REFRESH);
+                // 두 토큰은 같은 교체에서 저장된 쌍
+                assertThat(tokens).extracting(token -> token.getToken().substring(0, 1)).containsOnly(
+                    tokens.get(0).getToken().substring(0, 1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rotationReplacesExistingTokens() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        authRepository.rotateTokens(100L, new AuthToken("a-old", 100L, expiresAt), new AuthToken("r-old", 100L, expiresAt));
+        authRepository.rotateTokens(100L, new AuthToken("a-new", 100L, expiresAt), new AuthToken("r-new", 100L, expiresAt));
+
+        assertThat(authRepository.findUserIdByToken("a-old")).isEmpty();
+        assertThat(authRepository.findUserIdByToken("r-old")).isEmpty();
+        assertThat(authRepository.findUserIdByToken("a-new")).contains(100L);
+        assertThat(authRepository.findUserIdByToken("r-new")).contains(100L);
+    }
+
+    private Void rotate(CyclicBarrier barrier, long userId, String prefix) throws Exception {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        barrier.await();
+        authRepository.rotateTokens(
+            userId,
+            new AuthToken(prefix + "-access-" + userId, userId, expiresAt),
+            new AuthToken(prefix + "-refresh-" + userId, userId, expiresAt)
+        );
+        return null;
+    }
+}
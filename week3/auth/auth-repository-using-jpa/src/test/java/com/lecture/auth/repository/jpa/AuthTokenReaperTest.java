@@ -0,0 +1,90 @@
+package com.lecture.auth.repository.jpa;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 닫힌 만료 버킷의 토큰만 batch-size, max-batches-per-run 단위로 삭제하는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+    "auth.token-reaper.batch-size=3",
+    "auth.token-reaper.max-batches-per-run=2"
+})
+class AuthTokenReaperTest {
+
+    private static final long BUCKET = AuthTokenEntity.EXPIRY_BUCKET_MILLIS;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(AuthTokenReaper.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private AuthTokenReaper reaper;
+
+    @Autowired
+    private AuthTokenJpaRepository authTokenJpaRepository;
+
+    private long nextUserId = 1;
+
+    @BeforeEach
+    void setUp() {
+        authTokenJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void runStopsAfterMaxBatches() {
+        long purgedBefore = reaper.getPurgedRowCount();
+        saveTokens(10, currentBucketStart() - BUCKET);
+
+        // 3개씩 2배치까지만 삭제하고 다음 실행에 나머지를 삭제
+        reaper.purgeExpiredTokens();
+        assertThat(authTokenJpaRepository.count()).isEqualTo(4);
+        assertThat(reaper.getPurgedRowCount() - purgedBefore).isEqualTo(6);
+
+        reaper.purgeExpiredTokens();
+        assertThat(authTokenJpaRepository.count()).isZero();
+        assertThat(reaper.getPurgedRowCount() - purgedBefore).isEqualTo(10);
+    }
+
+    @Test
+    void onlyClosedBucketsArePurged() {
+        long purgedBefore = reaper.getPurgedRowCount();
+        saveTokens(2, currentBucketStart() - 3 * BUCKET);
+        // 이미 만료되었지만 현재 버킷은 아직 닫히지 않았으므로 남김
+        List<AuthTokenEntity> kept = new ArrayList<>();
+        kept.addAll(saveTokens(1, currentBucketStart()));
+        kept.addAll(saveTokens(1, System.currentTimeMillis() + 60_000));
+        kept.addAll(saveTokens(1, currentBucketStart() + 2 * BUCKET));
+
+        reaper.purgeExpiredTokens();
+
+        assertThat(authTokenJpaRepository.findAll()).extracting(AuthTokenEntity::getId)
+            .containsExactlyInAnyOrderElementsOf(kept.stream().map(AuthTokenEntity::getId).toList());
+        assertThat(reaper.getPurgedRowCount() - purgedBefore).isEqualTo(2);
+    }
+
+    private List<AuthTokenEntity> saveTokens(int count, long expiresAt) {
+        List<AuthTokenEntity> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long userId = nextUserId++;
+            tokens.add(new AuthTokenEntity(userId, AuthTokenEntity.Kind.ACCESS, "token-" + userId, expiresAt));
+        }
+        return authTokenJpaRepository.saveAll(tokens);
+    }
+
+    private static long currentBucketStart() {
+        return AuthTokenEntity.toExpiryBucket(System.currentTimeMillis()) * BUCKET;
+    }
+}
@@ -0,0 +1,102 @@
+package com.lecture.auth.repository.local;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitingRepositoryUsingLocalCache.incrementAndGet 처리량
+ *
+ * - hotKey: 모든 스레드가 한 키를 증가 (NAT 뒤 IP 등)
+ * - coldKeys: 스레드마다 여러 키에 흩어서 증가
+ *
+ * 스레드 수(1, 8, 32)별로 메서드를 나눴습니다.
+ * 할당량은 -prof gc로 확인합니다. (정상 상태의 증가는 gc.alloc.rate.norm이 0에 가까워야 함)
+ *
+ * 실행: ./gradlew :auth:auth-repository-using-local-cache:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitingRepositoryUsingLocalCacheBenchmark {
+
+    private static final String HOT_KEY = "rate_limit:device:hot";
+    private static final int COLD_KEYS = 10_000;
+    private static final long TTL_SECONDS = 3600;
+
+    @State(Scope.Benchmark)
+    public static class Store {
+        RateLimitingRepositoryUsingLocalCache repository;
+        String[] coldKeys;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            repository = new RateLimitingRepositoryUsingLocalCache(COLD_KEYS * 2, 1000);
+            coldKeys = new String[COLD_KEYS];
+            for (int i = 0; i < COLD_KEYS; i++) {
+                coldKeys[i] = "rate_limit:ip:" + i;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            repository.destroy();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long hotKey1(Store store) {
+        return store.repository.incrementAndGet(HOT_KEY, TTL_SECONDS);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Long hotKey8(Store store) {
+        return store.repository.incrementAndGet(HOT_KEY, TTL_SECONDS);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Long hotKey32(Store store) {
+        return store.repository.incrementAndGet(HOT_KEY, TTL_SECONDS);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long coldKeys1(Store store) {
+        return incrementRandomColdKey(store);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Long coldKeys8(Store store) {
+        return incrementRandomColdKey(store);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Long coldKeys32(Store store) {
+        return incrementRandomColdKey(store);
+    }
+
+    private static Long incrementRandomColdKey(Store store) {
+        String key = store.coldKeys[ThreadLocalRandom.current().nextInt(COLD_KEYS)];
+        return store.repository.incrementAndGet(key, TTL_SECONDS);
+    }
+}
@@ -1,52 +1,315 @@
 package com.lecture.auth.repository.local;
 
 import com.lecture.auth.repository.RateLimitingRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * RateLimitingRepositoryUsingLocalCache
- * 
+ *
  * 로컬 캐시를 사용한 Rate Limiting Repository 구현체입니다.
  * Redis 대신 사용할 수 있는 간단한 구현체입니다.
+ *
+ * 메모리 상한:
+ * - 윈도우가 새로 시작될 때 키를 만료 시각(초 단위) 버킷에 등록합니다.
+ * - 백그라운드 스레드가 만료 시각이 지난 버킷을 통째로 꺼내 해당 키들을 제거합니다.
+ *   (키마다 한 번만 처리하므로 상각 O(1), 다시 접근되지 않는 키도 회수됩니다)
+ * - 키 수가 maximum-size에 도달하면 가장 먼저 만료될 버킷의 키부터 제거하고 새 키를 받습니다.
+ *   IP/Device를 바꿔 가며 들어오는 요청이 몰려도 키 수는 maximum-size를 넘지 않습니다.
+ *
+ * 카운터:
+ * - 같은 윈도우 안의 증가는 맵 락(compute) 없이 엔트리의 AtomicLong을 증가시킵니다.
+ *   한 키에 요청이 몰려도(NAT 뒤 IP 등) 스레드가 bin 락에서 직렬화되지 않고, 증가마다 객체를 만들지 않습니다.
+ * - 윈도우가 없거나 만료된 경우에만 compute로 새 엔트리를 설치합니다.
+ *
+ * GCRA(acquireGcra)는 같은 엔트리에 카운트 대신 TAT를 저장합니다.
+ *
+ * 지표: 현재 키 수, 만료 제거 수, 용량 초과 제거 수
  */
 @Repository
-public class RateLimitingRepositoryUsingLocalCache implements RateLimitingRepository {
-    
+public class RateLimitingRepositoryUsingLocalCache implements RateLimitingRepository, DisposableBean {
+
+    private static final long BUCKET_MILLIS = 1000L;
+    private static final long NO_TAT = Long.MIN_VALUE;
+
+    private final int maximumSize;
+
     private final ConcurrentHashMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
-    
+    private final ConcurrentSkipListMap<Long, ConcurrentLinkedQueue<String>> expiryBuckets = new ConcurrentSkipListMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public RateLimitingRepositoryUsingLocalCache(
+        @Value("${auth.rate-limit.local.maximum-size:100000}") int maximumSize,
+        @Value("${auth.rate-limit.local.sweep-interval-ms:1000}") long sweepIntervalMillis)
+    {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-local-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper.scheduleWithFixedDelay(
+            this::sweepExpired,
+            sweepIntervalMillis,
+            sweepIntervalMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
     @Override
     public Long incrementAndGet(String key, long ttlSeconds) {
-        CacheEntry entry = cache.compute(key, (k, v) -> {
-            if (v == null || v.isExpired()) {
-                return new CacheEntry(1L, System.currentTimeMillis() + (ttlSeconds * 1000));
+        return addAndGet(key, 1L, ttlSeconds);
+    }
+
+    @Override
+    public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+        List<Long> counts = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            counts.add(addAndGet(keys.get(i), deltas.get(i), ttlSeconds));
+        }
+        return counts;
+    }
+
+    /**
+     * 엔트리가 있을 때만 CAS로 빼고(0 아래로 내려가지 않음), 0이 되면 엔트리를 제거합니다.
+     * 엔트리를 새로 만들지 않으므로 만료 버킷에 없는 엔트리나 음수 카운트가 생기지 않습니다.
+     */
+    @Override
+    public void subtractAll(List<String> keys, List<Long> amounts) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < keys.size(); i++) {
+            subtract(keys.get(i), amounts.get(i), now);
+        }
+    }
+
+    @Override
+    public long getCount(String key) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return 0L;
+        }
+        return entry.value.get();
+    }
+
+    /**
+     * 엔트리의 value에 TAT를 저장하고 CAS로 갱신합니다.
+     * 만료 시각은 TAT로 늘어나며, 스위퍼가 아직 만료되지 않은 엔트리를 새 버킷에 다시 등록합니다.
+     */
+    @Override
+    public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null || entry.isExpired(nowMillis)) {
+            entry = cache.compute(key, (k, v) ->
+                v == null || v.isExpired(nowMillis)
+                    ? new CacheEntry(nowMillis + burstToleranceMillis + emissionIntervalMillis, NO_TAT)
+                    : v);
+        }
+
+        while (true) {
+            long tat = entry.value.get();
+            long newTat = Math.max(tat, nowMillis) + emissionIntervalMillis;
+            if (newTat - nowMillis > burstToleranceMillis + emissionIntervalMillis) {
+                return newTat;
             }
-            return new CacheEntry(v.count + 1, v.expiresAt);
-        });
-        
-        return entry.count;
+            if (entry.value.compareAndSet(tat, newTat)) {
+                entry.expiresAt.accumulateAndGet(newTat, Math::max);  // 동시 갱신이 만료 시각을 되돌리지 않도록 CAS
+                if (tat == NO_TAT) {
+                    onEntryCreated(key, entry);
+                }
+                return newTat;
+            }
+        }
     }
-    
+
     @Override
     public void delete(String key) {
         cache.remove(key);
     }
 
+    public int size() {
+        return cache.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+
+    private long addAndGet(String key, long delta, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        return addAndGet(key, delta, now, now + (ttlSeconds * 1000));
+    }
+
+    private long addAndGet(String key, long delta, long now, long expiresAt) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            // 윈도우 시작/교체만 compute로 처리하고, 카운트는 엔트리 안에서 증가
+            entry = cache.compute(key, (k, v) ->
+                v == null || v.isExpired(now) ? new CacheEntry(expiresAt, 0L) : v);
+        }
+        long count = entry.value.addAndGet(delta);
+
+        // 이 호출이 새 윈도우의 첫 증가인 경우(이전 값 0)에만 만료 버킷에 등록
+        if (delta > 0 && count == delta) {
+            onEntryCreated(key, entry);
+        }
+
+        return count;
+    }
+
+    private void subtract(String key, long amount, long now) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            return;
+        }
+        while (true) {
+            long count = entry.value.get();
+            long next = Math.max(0L, count - amount);
+            if (count == next) {
+                return;
+            }
+            if (entry.value.compareAndSet(count, next)) {
+                break;
+            }
+        }
+        if (entry.value.get() == 0L && cache.remove(key, entry)) {
+            // 제거 직전에 이 엔트리로 들어온 증가분은 같은 윈도우의 새 엔트리로 옮김
+            long late = entry.value.getAndSet(0L);
+            if (late > 0) {
+                addAndGet(key, late, now, entry.expiresAt.get());
+            }
+        }
+    }
+
+    /**
+     * 새 엔트리를 만료 버킷에 등록하고, 용량을 넘었으면 하나를 제거합니다.
+     */
+    private void onEntryCreated(String key, CacheEntry entry) {
+        long bucket = toBucket(entry.expiresAt.get());
+        entry.registeredBucket = bucket;
+        registerExpiry(key, bucket);
+        if (cache.size() > maximumSize) {
+            evictEarliest();
+        }
+    }
+
+    /**
+     * 키를 만료 시각 버킷에 등록합니다.
+     * 등록 직후 버킷이 제거(sweep/evict)되었으면 새 버킷에 다시 등록합니다. (중복 등록은 무해)
+     */
+    private void registerExpiry(String key, long bucket) {
+        while (true) {
+            ConcurrentLinkedQueue<String> queue =
+                expiryBuckets.computeIfAbsent(bucket, b -> new ConcurrentLinkedQueue<>());
+            queue.add(key);
+            if (expiryBuckets.get(bucket) == queue) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 용량 초과 시 가장 먼저 만료될 버킷의 키 하나를 제거합니다.
+     */
+    private void evictEarliest() {
+        for (Map.Entry<Long, ConcurrentLinkedQueue<String>> bucket : expiryBuckets.entrySet()) {
+            ConcurrentLinkedQueue<String> queue = bucket.getValue();
+            String key;
+            while ((key = queue.poll()) != null) {
+                if (cache.remove(key) != null) {
+                    evictionCount.increment();
+                    return;
+                }
+            }
+            expiryBuckets.remove(bucket.getKey(), queue);
+        }
+    }
+
+    /**
+     * 만료 시각이 지난 버킷을 꺼내 해당 키를 제거합니다.
+     * 같은 키로 새 윈도우가 시작되었으면(만료되지 않은 엔트리) 제거하지 않습니다.
+     * 만료 시각이 늘어난 엔트리(GCRA)는 자신이 등록된 버킷에서 꺼낸 경우에만 새 버킷에 다시 등록합니다.
+     */
+    private void sweepExpired() {
+        long now = System.currentTimeMillis();
+        Map.Entry<Long, ConcurrentLinkedQueue<String>> bucket;
+        while ((bucket = expiryBuckets.firstEntry()) != null && bucket.getKey() * BUCKET_MILLIS < now) {
+            if (!expiryBuckets.remove(bucket.getKey(), bucket.getValue())) {
+                continue;
+            }
+            for (String key : bucket.getValue()) {
+                CacheEntry entry = cache.get(key);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.isExpired(now)) {
+                    if (cache.remove(key, entry)) {
+                        expiredCount.increment();
+                    }
+                } else if (entry.registeredBucket == bucket.getKey()) {
+                    long nextBucket = toBucket(entry.expiresAt.get());
+                    entry.registeredBucket = nextBucket;
+                    registerExpiry(key, nextBucket);
+                }
+            }
+        }
+    }
+
+    /**
+     * 만료 시각을 올림한 초 단위 버킷 (버킷의 모든 엔트리는 bucket * BUCKET_MILLIS 이전에 만료)
+     */
+    private static long toBucket(long expiresAt) {
+        return (expiresAt + BUCKET_MILLIS - 1) / BUCKET_MILLIS;
+    }
+
     /**
      * 캐시 엔트리
+     * value는 카운터(윈도우 안의 요청 수) 또는 GCRA의 TAT이며, 엔트리를 새로 만들지 않고 CAS로 갱신합니다.
+     * expiresAt은 GCRA에서 여러 스레드가 늘리므로 CAS로 최댓값만 반영합니다.
      */
     private static class CacheEntry {
-        final Long count;
-        final long expiresAt;
-        
-        CacheEntry(Long count, long expiresAt) {
-            this.count = count;
-            this.expiresAt = expiresAt;
-        }
-        
-        boolean isExpired() {
-            return System.currentTimeMillis() > expiresAt;
+        final AtomicLong value;
+        final AtomicLong expiresAt;
+        volatile long registeredBucket;
+
+        CacheEntry(long expiresAt, long initialValue) {
+            this.value = new AtomicLong(initialValue);
+            this.expiresAt = new AtomicLong(expiresAt);
+        }
+
+        boolean isExpired(long now) {
+            return now > expiresAt.get();
         }
     }
 }
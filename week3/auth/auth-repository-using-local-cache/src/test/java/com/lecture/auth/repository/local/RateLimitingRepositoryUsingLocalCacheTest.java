@@ -0,0 +1,148 @@
+package com.lecture.auth.repository.local;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키를 바꿔 가며 요청을 몰아넣어(IP/Device 로테이션) 키 수가 maximum-size에서 멈추고
+ * 만료된 윈도우가 회수되는지 확인합니다.
+ */
+class RateLimitingRepositoryUsingLocalCacheTest {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private RateLimitingRepositoryUsingLocalCache repository;
+
+    @AfterEach
+    void tearDown() {
+        repository.destroy();
+    }
+
+    @Test
+    void keyFloodIsCappedAtMaximumSize() {
+        repository = new RateLimitingRepositoryUsingLocalCache(MAXIMUM_SIZE, 60_000);
+        int keys = 500_000;
+
+        for (int i = 0; i < keys; i++) {
+            repository.incrementAndGet("rate_limit:ip:" + i, 3600);
+            assertThat(repository.size()).isLessThanOrEqualTo(MAXIMUM_SIZE);
+        }
+
+        assertThat(repository.getEvictionCount()).isEqualTo(keys - MAXIMUM_SIZE);
+        // 가장 최근 키는 남아 있고 가장 오래된 키는 제거됨
+        assertThat(repository.getCount("rate_limit:ip:" + (keys - 1))).isEqualTo(1L);
+        assertThat(repository.getCount("rate_limit:ip:0")).isZero();
+    }
+
+    @Test
+    void concurrentKeyFloodStaysBoundedWithoutBlockingIncrements() throws Exception {
+        repository = new RateLimitingRepositoryUsingLocalCache(MAXIMUM_SIZE, 60_000);
+        int threads = 8;
+        int keysPerThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> peaks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                peaks.add(executor.submit(() -> {
+                    start.await();
+                    int peak = 0;
+                    for (int i = 0; i < keysPerThread; i++) {
+                        repository.incrementAndGet("rate_limit:device:" + thread + ":" + i, 3600);
+                        peak = Math.max(peak, repository.size());
+                    }
+                    return peak;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> peak : peaks) {
+                // 새 키를 넣은 스레드가 각자 하나씩 제거하므로 동시 삽입 수만큼만 넘을 수 있음
+                assertThat(peak.get(60, TimeUnit.SECONDS)).isLessThanOrEqualTo(MAXIMUM_SIZE + threads);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(repository.size()).isLessThanOrEqualTo(MAXIMUM_SIZE + threads);
+        assertThat(repository.getEvictionCount())
+            .isGreaterThanOrEqualTo((long) threads * keysPerThread - MAXIMUM_SIZE - threads);
+    }
+
+    @Test
+    void expiredWindowsAreReclaimedWithoutBeingTouchedAgain() throws Exception {
+        repository = new RateLimitingRepositoryUsingLocalCache(MAXIMUM_SIZE, 50);
+        int keys = 5_000;
+
+        for (int i = 0; i < keys; i++) {
+            repository.incrementAndGet("rate_limit:ip:" + i, 1);
+        }
+        assertThat(repository.size()).isEqualTo(keys);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (repository.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(repository.size()).isZero();
+        assertThat(repository.getExpiredCount()).isEqualTo(keys);
+        assertThat(repository.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void sameWindowIncrementsAccumulate() {
+        repository = new RateLimitingRepositoryUsingLocalCache(MAXIMUM_SIZE, 60_000);
+
+        for (int i = 1; i <= 5; i++) {
+            assertThat(repository.incrementAndGet("rate_limit:phone:010", 3600)).isEqualTo(i);
+        }
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentGcraAcquisitionsKeepTheLatestExpiry() throws Exception {
+        repository = new RateLimitingRepositoryUsingLocalCache(MAXIMUM_SIZE, 50);
+        String key = "rate_limit:gcra:phone:010";
+        long emission = 100;
+        long burst = 400;
+        long start = System.currentTimeMillis();
+        repository.acquireGcra(key, emission, burst, start);  // 만료 시각 start + 500
+
+        // 만료 전에 더 늦은 시각으로 동시에 획득 -> 만료 시각은 가장 큰 TAT까지 늘어나야 함
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Long>> tats = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long now = start + 1_000 + t * 10L;
+            tats.add(executor.submit(() -> {
+                ready.await();
+                long tat = repository.acquireGcra(key, emission, burst, now);
+                return tat - now <= burst + emission ? tat : Long.MIN_VALUE;  // 거부된 요청의 TAT는 저장되지 않음
+            }));
+        }
+        ready.countDown();
+        long maxTat = Long.MIN_VALUE;
+        for (Future<Long> tat : tats) {
+            maxTat = Math.max(maxTat, tat.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(maxTat).isGreaterThan(start + 1_000);
+        executor.shutdownNow();
+
+        // 첫 만료 시각(start + 500)이 지나 스위퍼가 버킷을 처리한 뒤에도 엔트리가 남아 있음
+        Thread.sleep(Math.max(0, start + 800 - System.currentTimeMillis()));
+        assertThat(repository.size()).isEqualTo(1);
+        assertThat(repository.getCount(key)).isEqualTo(maxTat);
+    }
+}
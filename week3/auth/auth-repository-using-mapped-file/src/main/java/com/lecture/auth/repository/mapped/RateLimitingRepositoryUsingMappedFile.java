@@ -0,0 +1,317 @@
+package com.lecture.auth.repository.mapped;
+
+import com.lecture.auth.repository.RateLimitingRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RateLimitingRepositoryUsingMappedFile
+ *
+ * Rate Limiting 카운터를 메모리 매핑 파일에 저장하는 Repository 구현체입니다.
+ * RateLimitingRepositoryUsingLocalCache는 재시작(배포)마다 비워져 공격자가 새 한도를 얻지만,
+ * 이 구현체는 파일에 남은 카운터를 재시작 후 그대로 사용합니다. (Redis 없이 재시작 내구성)
+ *
+ * 파일 구조:
+ * - 헤더: MAGIC, 슬롯 수, 해시 seed
+ * - 슬롯(32바이트) x slotCount: 키 해시(64비트), 값(카운트 또는 GCRA TAT), 만료 시각(epoch ms), 예약
+ * - 키 문자열은 저장하지 않습니다. (고정 크기, 64비트 해시 충돌은 무시)
+ * - 해시는 파일을 만들 때 정한 임의의 seed를 섞습니다. 같은 버킷에 몰리는 키를 외부에서 만들어
+ *   다른 사용자의 슬롯을 밀어내는 것을 막고, seed는 헤더에 저장해 재시작 후에도 같은 슬롯을 찾습니다.
+ *
+ * 테이블:
+ * - 슬롯 BUCKET_SIZE개를 한 버킷으로 묶고, 키는 해시로 정한 버킷 안에만 저장합니다. (버킷을 넘는 탐색 없음)
+ * - 만료된 슬롯은 빈 슬롯으로 재사용합니다. 버킷이 가득 차면 가장 먼저 만료될 슬롯을 교체합니다. (evictionCount)
+ *   따라서 키 수와 관계없이 파일 크기가 고정이며, 만료 키를 정리하는 스레드가 없습니다.
+ *
+ * 동시성:
+ * - 살아 있는 키의 증가는 락 없이 VarHandle getAndAdd로 처리합니다. (객체 생성 없음)
+ * - 슬롯 할당, window 교체, GCRA 갱신, 삭제는 버킷별 락(stripe)에서 처리합니다.
+ * - 교체 직전 슬롯에 락 없이 더한 증가분은 새 window(또는 교체한 키)에 더해질 수 있습니다. (과대 추정, 차단 쪽으로 안전)
+ *
+ * 시작/종료:
+ * - 시작 시 헤더만 확인하고 파일을 매핑합니다. (읽기/역직렬화 없음, 키 수와 무관한 O(1))
+ *   크기가 다르면 새 파일로 만들고, 헤더가 다르면(다른 바이트 순서 등) 비웁니다.
+ * - 종료 시 force하지 않습니다. 프로세스가 종료되어도 변경된 페이지는 OS가 파일에 기록합니다.
+ *   (OS 장애 시 최근 변경은 유실될 수 있음)
+ * - 만료 시각은 epoch ms이므로 재시작 동안 지난 window는 자연히 만료됩니다.
+ *
+ * 지표: 슬롯 수, 파일 크기, 교체(evict) 수
+ */
+public class RateLimitingRepositoryUsingMappedFile implements RateLimitingRepository {
+
+    private static final long MAGIC = 0x524C4D4150463032L;  // "RLMAPF02" (seed 없는 01 파일은 비우고 새로 만듦)
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 32;
+    private static final int BUCKET_SIZE = 8;
+    private static final int LOCK_STRIPES = 256;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int SLOT_COUNT_OFFSET = 8;
+    private static final int SEED_OFFSET = 16;
+
+    private static final int HASH_OFFSET = 0;
+    private static final int VALUE_OFFSET = 8;
+    private static final int EXPIRES_AT_OFFSET = 16;
+
+    private static final long EMPTY = 0L;
+    private static final long NO_TAT = Long.MIN_VALUE;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final int slotCount;
+    private final int bucketMask;
+    private final MappedByteBuffer buffer;
+    private final FileChannel channel;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final long seed;
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param path 카운터 파일 경로 (없으면 생성)
+     * @param slotCount 슬롯 수 (2의 거듭제곱, BUCKET_SIZE 이상, 파일 크기 = 64 + slotCount x 32바이트)
+     */
+    public RateLimitingRepositoryUsingMappedFile(Path path, int slotCount) {
+        if (slotCount < BUCKET_SIZE || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount must be a power of two >= " + BUCKET_SIZE + ": " + slotCount);
+        }
+        this.slotCount = slotCount;
+        this.bucketMask = slotCount / BUCKET_SIZE - 1;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+
+        long fileSize = HEADER_BYTES + (long) slotCount * SLOT_BYTES;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("slotCount is too large for a single mapping: " + slotCount);
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean sameSize = channel.size() == fileSize;
+            if (!sameSize) {
+                channel.truncate(0);  // 크기가 다르면 이전 카운터를 버리고 새로 만듦 (새 영역은 0으로 채워짐)
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (!sameSize) {
+                writeHeader();
+            } else if ((long) LONGS.get(buffer, MAGIC_OFFSET) != MAGIC
+                || (long) LONGS.get(buffer, SLOT_COUNT_OFFSET) != slotCount) {
+                clear();
+                writeHeader();
+            }
+            this.seed = (long) LONGS.get(buffer, SEED_OFFSET);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map rate limit file " + path, e);
+        }
+    }
+
+    @Override
+    public Long incrementAndGet(String key, long ttlSeconds) {
+        return addAndGet(key, 1L, ttlSeconds);
+    }
+
+    @Override
+    public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+        List<Long> counts = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            counts.add(addAndGet(keys.get(i), deltas.get(i), ttlSeconds));
+        }
+        return counts;
+    }
+
+    @Override
+    public long getCount(String key) {
+        long now = System.currentTimeMillis();
+        long hash = hash(key);
+        int slot = find(hash, now);
+        return slot < 0 ? 0L : (long) LONGS.getVolatile(buffer, slot + VALUE_OFFSET);
+    }
+
+    /**
+     * 슬롯의 값에 TAT를 저장하고, 만료 시각을 TAT로 늘립니다.
+     */
+    @Override
+    public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+        long hash = hash(key);
+        synchronized (lockOf(hash)) {
+            int slot = find(hash, nowMillis);
+            long tat = slot < 0 ? NO_TAT : (long) LONGS.getVolatile(buffer, slot + VALUE_OFFSET);
+            long newTat = Math.max(tat, nowMillis) + emissionIntervalMillis;
+            if (newTat - nowMillis > burstToleranceMillis + emissionIntervalMillis) {
+                return newTat;
+            }
+            if (slot < 0) {
+                slot = claim(hash, nowMillis);
+                LONGS.setVolatile(buffer, slot + HASH_OFFSET, hash);
+            }
+            LONGS.setVolatile(buffer, slot + VALUE_OFFSET, newTat);
+            LONGS.setVolatile(buffer, slot + EXPIRES_AT_OFFSET, newTat);
+            return newTat;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        long now = System.currentTimeMillis();
+        long hash = hash(key);
+        synchronized (lockOf(hash)) {
+            int slot = find(hash, now);
+            if (slot >= 0) {
+                LONGS.setVolatile(buffer, slot + EXPIRES_AT_OFFSET, 0L);  // 만료 처리 (빈 슬롯으로 재사용)
+            }
+        }
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public long getFileBytes() {
+        return HEADER_BYTES + (long) slotCount * SLOT_BYTES;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 파일을 닫습니다. (Bean 종료 시 호출, force하지 않음)
+     */
+    public void shutdown() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 매핑된 페이지는 채널과 관계없이 OS가 기록
+        }
+    }
+
+    private long addAndGet(String key, long delta, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        long hash = hash(key);
+
+        int slot = find(hash, now);
+        if (slot >= 0) {
+            return (long) LONGS.getAndAdd(buffer, slot + VALUE_OFFSET, delta) + delta;
+        }
+
+        synchronized (lockOf(hash)) {
+            slot = find(hash, now);
+            if (slot >= 0) {
+                return (long) LONGS.getAndAdd(buffer, slot + VALUE_OFFSET, delta) + delta;
+            }
+            // 새 window: 같은 키의 만료된 슬롯이나 빈 슬롯을 사용 (값 -> 만료 시각 순서로 기록)
+            slot = claim(hash, now);
+            LONGS.setVolatile(buffer, slot + HASH_OFFSET, hash);
+            LONGS.setVolatile(buffer, slot + VALUE_OFFSET, delta);
+            LONGS.setVolatile(buffer, slot + EXPIRES_AT_OFFSET, now + ttlSeconds * 1000);
+            return delta;
+        }
+    }
+
+    /**
+     * 버킷에서 만료되지 않은 키의 슬롯 오프셋을 찾습니다. 없으면 -1
+     */
+    private int find(long hash, long now) {
+        int base = bucketOffset(hash);
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = base + i * SLOT_BYTES;
+            if ((long) LONGS.getVolatile(buffer, slot + HASH_OFFSET) == hash
+                && (long) LONGS.getVolatile(buffer, slot + EXPIRES_AT_OFFSET) >= now) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 새 키에 줄 슬롯을 고릅니다. (버킷 락 안에서 호출)
+     * 같은 키의 만료된 슬롯 > 빈(만료된) 슬롯 > 가장 먼저 만료될 슬롯(교체) 순서입니다.
+     */
+    private int claim(long hash, long now) {
+        int base = bucketOffset(hash);
+        int free = -1;
+        int earliest = base;
+        long earliestExpiresAt = Long.MAX_VALUE;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = base + i * SLOT_BYTES;
+            long expiresAt = (long) LONGS.getVolatile(buffer, slot + EXPIRES_AT_OFFSET);
+            if (expiresAt < now) {
+                if ((long) LONGS.getVolatile(buffer, slot + HASH_OFFSET) == hash) {
+                    return slot;
+                }
+                if (free < 0) {
+                    free = slot;
+                }
+            } else if (expiresAt < earliestExpiresAt) {
+                earliest = slot;
+                earliestExpiresAt = expiresAt;
+            }
+        }
+        if (free >= 0) {
+            return free;
+        }
+        evictionCount.increment();
+        return earliest;
+    }
+
+    /**
+     * 헤더가 맞지 않는 파일(초기화 중 종료, 다른 바이트 순서 등)의 모든 슬롯을 비웁니다.
+     */
+    private void clear() {
+        for (int offset = 0; offset < buffer.capacity(); offset += Long.BYTES) {
+            LONGS.set(buffer, offset, EMPTY);
+        }
+    }
+
+    /**
+     * 새 파일의 헤더를 기록합니다. seed는 파일마다 새로 정하고 이후 시작에서는 헤더의 값을 그대로 사용합니다.
+     */
+    private void writeHeader() {
+        LONGS.set(buffer, SLOT_COUNT_OFFSET, (long) slotCount);
+        LONGS.set(buffer, SEED_OFFSET, new SecureRandom().nextLong());
+        LONGS.setVolatile(buffer, MAGIC_OFFSET, MAGIC);  // 마지막에 기록 (헤더 기록 전 종료되면 다음 시작에 다시 초기화)
+    }
+
+    private int bucketOffset(long hash) {
+        return HEADER_BYTES + (int) (hash & bucketMask) * BUCKET_SIZE * SLOT_BYTES;
+    }
+
+    private Object lockOf(long hash) {
+        return locks[(int) (hash & bucketMask) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * seed를 섞은 64비트 키 해시 (FNV-1a + murmur3 fmix64, 문자열 복사 없음)
+     * 0은 빈 슬롯을 뜻하므로 사용하지 않습니다.
+     */
+    private long hash(String key) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == EMPTY ? 1L : h;
+    }
+}
@@ -0,0 +1,79 @@
+package com.lecture.auth.repository.mapped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해시 seed가 파일마다 다르고, 헤더에 저장되어 재시작 후에도 같은 슬롯을 찾는지 확인합니다.
+ */
+class RateLimitingRepositoryUsingMappedFileTest {
+
+    private static final int SLOT_COUNT = 1024;
+    private static final int SEED_OFFSET = 16;
+    private static final String KEY = "rate_limit:login:ip:1.2.3.4";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void countersAndSeedSurviveRestart() throws Exception {
+        Path path = directory.resolve("rate-limit.dat");
+        RateLimitingRepositoryUsingMappedFile repository = new RateLimitingRepositoryUsingMappedFile(path, SLOT_COUNT);
+        for (int i = 0; i < 3; i++) {
+            repository.incrementAndGet(KEY, 3600);
+        }
+        repository.shutdown();
+        long seed = seedOf(path);
+
+        RateLimitingRepositoryUsingMappedFile restarted = new RateLimitingRepositoryUsingMappedFile(path, SLOT_COUNT);
+        try {
+            assertThat(seedOf(path)).isEqualTo(seed);
+            assertThat(restarted.incrementAndGet(KEY, 3600)).isEqualTo(4L);
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void eachFileGetsItsOwnSeed() throws Exception {
+        Path first = directory.resolve("first.dat");
+        Path second = directory.resolve("second.dat");
+        new RateLimitingRepositoryUsingMappedFile(first, SLOT_COUNT).shutdown();
+        new RateLimitingRepositoryUsingMappedFile(second, SLOT_COUNT).shutdown();
+
+        assertThat(seedOf(first)).isNotEqualTo(seedOf(second));
+    }
+
+    @Test
+    void resizedFileStartsEmptyWithNewSeed() throws Exception {
+        Path path = directory.resolve("rate-limit.dat");
+        RateLimitingRepositoryUsingMappedFile repository = new RateLimitingRepositoryUsingMappedFile(path, SLOT_COUNT);
+        repository.incrementAndGet(KEY, 3600);
+        repository.shutdown();
+        long seed = seedOf(path);
+
+        RateLimitingRepositoryUsingMappedFile resized = new RateLimitingRepositoryUsingMappedFile(path, SLOT_COUNT * 2);
+        try {
+            assertThat(seedOf(path)).isNotEqualTo(seed);
+            assertThat(resized.getCount(KEY)).isZero();
+        } finally {
+            resized.shutdown();
+        }
+    }
+
+    private static long seedOf(Path path) throws Exception {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            byte[] bytes = new byte[Long.BYTES];
+            file.seek(SEED_OFFSET);
+            file.readFully(bytes);
+            return ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder()).getLong();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 dependencies {
     implementation(project(":auth:auth-repository"))
+    implementation(project(":auth:auth-domain"))  // AuthRepository 구현체 (AuthToken)
     
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("io.lettuce:lettuce-core")
+    
+    testImplementation("org.testcontainers:junit-jupiter")  // Lua 스크립트를 실제 Redis에서 실행 (Docker 없으면 건너뜀)
 }
@@ -0,0 +1,164 @@
+package com.lecture.auth.repository.redis;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.repository.AuthRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AuthRepositoryUsingRedis
+ * 
+ * Redis를 사용한 AuthRepository 구현체입니다. (auth.token-store=redis)
+ * 
+ * 키 구조:
+ * - auth:token:{token} -> "{userId}:{expiresAt}" (TTL = 토큰의 expiresAt)
+ * - auth:user:{userId}:access / auth:user:{userId}:refresh -> token (역방향 인덱스, 같은 TTL)
+ * 
+ * 만료는 Redis TTL에 맡기므로 만료된 토큰을 읽고 버리는 일이 없습니다.
+ * 모든 연산은 Lua 스크립트 또는 단일 명령으로 한 번의 왕복에 처리합니다.
+ * 
+ * 주의: 스크립트 안에서 토큰 키를 계산하므로 Redis Cluster가 아닌 단일 노드(또는 복제) 구성을 전제로 합니다.
+ * 
+ * Rate Limiting과 같은 Redis를 쓰지만 전용 템플릿(REDIS_TEMPLATE_BEAN_NAME)을 주입받습니다.
+ * Rate Limiting의 짧은 명령 timeout은 초과 시 로컬로 판단할 수 있어서 정한 값이고,
+ * 토큰 저장/조회는 대신할 곳이 없으므로 별도 timeout(auth.token-redis.timeout)을 사용합니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "auth.token-store", havingValue = "redis")
+public class AuthRepositoryUsingRedis implements AuthRepository {
+    
+    private static final String TOKEN_KEY_PREFIX = "auth:token:";
+    private static final String USER_KEY_PREFIX = "auth:user:";
+    private static final String ACCESS_SUFFIX = ":access";
+    private static final String REFRESH_SUFFIX = ":refresh";
+    
+    /**
+     * 토큰 저장: 같은 종류의 이전 토큰을 지우고, 토큰 키와 역방향 인덱스를 같은 만료 시각으로 저장
+     * KEYS[1] = 역방향 인덱스 키, ARGV = [토큰 키 prefix, token, value, expiresAt(ms)]
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+        "local previous = redis.call('GET', KEYS[1]) " +
+        "if previous then redis.call('DEL', ARGV[1] .. previous) end " +
+        "redis.call('SET', ARGV[1] .. ARGV[2], ARGV[3], 'PXAT', ARGV[4]) " +
+        "redis.call('SET', KEYS[1], ARGV[2], 'PXAT', ARGV[4]) " +
+        "return 1",
+        Long.class
+    );
+    
+    /**
+     * 유저의 토큰 삭제: 역방향 인덱스로 토큰 키를 찾아 함께 삭제
+     * KEYS[1] = 역방향 인덱스 키, ARGV = [토큰 키 prefix]
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+        "local token = redis.call('GET', KEYS[1]) " +
+        "if token then redis.call('DEL', ARGV[1] .. token) end " +
+        "return redis.call('DEL', KEYS[1])",
+        Long.class
+    );
+    
+    /**
+     * 토큰 교체: Access/Refresh 각각 이전 토큰을 지우고 새 토큰을 저장 (토큰이 빈 문자열이면 삭제만)
+     * KEYS = [access 역방향 키, refresh 역방향 키]
+     * ARGV = [토큰 키 prefix, access token, value, expiresAt, refresh token, value, expiresAt]
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+        "local function rotate(index, token, value, expiresAt) " +
+        "  local previous = redis.call('GET', index) " +
+        "  if previous then redis.call('DEL', ARGV[1] .. previous) end " +
+        "  if token == '' then redis.call('DEL', index) return end " +
+        "  redis.call('SET', ARGV[1] .. token, value, 'PXAT', expiresAt) " +
+        "  redis.call('SET', index, token, 'PXAT', expiresAt) " +
+        "end " +
+        "rotate(KEYS[1], ARGV[2], ARGV[3], ARGV[4]) " +
+        "rotate(KEYS[2], ARGV[5], ARGV[6], ARGV[7]) " +
+        "return 1",
+        Long.class
+    );
+    
+    public static final String REDIS_TEMPLATE_BEAN_NAME = "authTokenRedisTemplate";
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    public AuthRepositoryUsingRedis(@Qualifier(REDIS_TEMPLATE_BEAN_NAME) StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+    
+    @Override
+    public void saveRefreshToken(AuthToken refreshToken) {
+        save(refreshToken, REFRESH_SUFFIX);
+    }
+    
+    @Override
+    public void saveAccessToken(AuthToken accessToken) {
+        save(accessToken, ACCESS_SUFFIX);
+    }
+    
+    @Override
+    public void deleteRefreshTokenByUserId(Long userId) {
+        delete(userId, REFRESH_SUFFIX);
+    }
+    
+    @Override
+    public void deleteAccessTokenByUserId(Long userId) {
+        delete(userId, ACCESS_SUFFIX);
+    }
+    
+    @Override
+    public void rotateTokens(Long userId, AuthToken accessToken, AuthToken refreshToken) {
+        boolean hasAccessToken = accessToken != null;
+        redisTemplate.execute(
+            ROTATE_SCRIPT,
+            List.of(USER_KEY_PREFIX + userId + ACCESS_SUFFIX, USER_KEY_PREFIX + userId + REFRESH_SUFFIX),
+            TOKEN_KEY_PREFIX,
+            hasAccessToken ? accessToken.getToken() : "",
+            hasAccessToken ? userId + ":" + accessToken.getExpiresAt() : "",
+            hasAccessToken ? String.valueOf(accessToken.getExpiresAt()) : "",
+            refreshToken.getToken(),
+            userId + ":" + refreshToken.getExpiresAt(),
+            String.valueOf(refreshToken.getExpiresAt())
+        );
+    }
+    
+    @Override
+    public Optional<Long> findUserIdByToken(String token) {
+        return findByToken(token).map(AuthToken::getUserId);
+    }
+    
+    @Override
+    public Optional<AuthToken> findByToken(String token) {
+        String value = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + token);
+        if (value == null) {
+            return Optional.empty();
+        }
+        int separator = value.indexOf(':');
+        Long userId = Long.valueOf(value.substring(0, separator));
+        Long expiresAt = Long.valueOf(value.substring(separator + 1));
+        return Optional.of(new AuthToken(token, userId, expiresAt));
+    }
+    
+    private void save(AuthToken authToken, String suffix) {
+        redisTemplate.execute(
+            SAVE_SCRIPT,
+            List.of(USER_KEY_PREFIX + authToken.getUserId() + suffix),
+            TOKEN_KEY_PREFIX,
+            authToken.getToken(),
+            authToken.getUserId() + ":" + authToken.getExpiresAt(),
+            String.valueOf(authToken.getExpiresAt())
+        );
+    }
+    
+    private void delete(Long userId, String suffix) {
+        redisTemplate.execute(
+            DELETE_SCRIPT,
+            List.of(USER_KEY_PREFIX + userId + suffix),
+            TOKEN_KEY_PREFIX
+        );
+    }
+}
@@ -3,35 +3,189 @@ package com.lecture.auth.repository.redis;
 import com.lecture.auth.repository.RateLimitingRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * RateLimitingRepositoryUsingRedis
  * 
  * Redis를 사용한 Rate Limiting Repository 구현체입니다.
+ * 
+ * 증가와 TTL 설정을 Lua 스크립트 하나로 처리하므로
+ * INCR 후 EXPIRE 전에 프로세스가 죽어 키가 만료되지 않는 일이 없고, 여러 키도 한 번의 왕복으로 처리합니다.
+ * 
+ * 주의: 여러 키를 한 스크립트에서 다루므로 Redis Cluster가 아닌 단일 노드(또는 복제) 구성을 전제로 합니다.
  */
 @Repository
 @RequiredArgsConstructor
 public class RateLimitingRepositoryUsingRedis implements RateLimitingRepository {
     
+    /**
+     * 키 하나를 증가시키고 값을 반환 (새 키 또는 TTL이 없는 키에는 TTL 설정)
+     * KEYS = [카운터 키], ARGV = [ttlSeconds]
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "local count = redis.call('INCR', KEYS[1]) " +
+        "if count == 1 or redis.call('TTL', KEYS[1]) == -1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+        "return count",
+        Long.class
+    );
+    
+    /**
+     * 키를 순서대로 증가시키고, 한도를 넘은 키가 나오면 멈춥니다.
+     * 새 키(또는 TTL이 없는 키)에는 TTL을 설정합니다.
+     * KEYS = 카운터 키, ARGV = [ttlSeconds, limit1, limit2, ...]
+     */
+    private static final RedisScript<List> INCREMENT_ALL_SCRIPT = new DefaultRedisScript<>(
+        "local counts = {} " +
+        "for i, key in ipairs(KEYS) do " +
+        "  local count = redis.call('INCR', key) " +
+        "  if count == 1 or redis.call('TTL', key) == -1 then redis.call('EXPIRE', key, ARGV[1]) end " +
+        "  counts[i] = count " +
+        "  if count > tonumber(ARGV[i + 1]) then break end " +
+        "end " +
+        "return counts",
+        List.class
+    );
+    
+    /**
+     * 키마다 증가분을 더하고 값을 반환 (새 키 또는 TTL이 없는 키에는 TTL 설정)
+     * KEYS = 카운터 키, ARGV = [ttlSeconds, delta1, delta2, ...]
+     */
+    private static final RedisScript<List> ADD_ALL_SCRIPT = new DefaultRedisScript<>(
+        "local counts = {} " +
+        "for i, key in ipairs(KEYS) do " +
+        "  local count = redis.call('INCRBY', key, ARGV[i + 1]) " +
+        "  if redis.call('TTL', key) == -1 then redis.call('EXPIRE', key, ARGV[1]) end " +
+        "  counts[i] = count " +
+        "end " +
+        "return counts",
+        List.class
+    );
+    
+    /**
+     * 슬라이딩 윈도우: 현재 윈도우 키를 증가시키고 이전 윈도우 값에 가중치를 곱해 더함
+     * KEYS = [현재 윈도우 키, 이전 윈도우 키], ARGV = [ttlSeconds, 이전 윈도우 가중치]
+     */
+    private static final RedisScript<Long> INCREMENT_WEIGHTED_SCRIPT = new DefaultRedisScript<>(
+        "local count = redis.call('INCR', KEYS[1]) " +
+        "if count == 1 or redis.call('TTL', KEYS[1]) == -1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+        "local previous = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+        "return count + math.floor(previous * tonumber(ARGV[2]))",
+        Long.class
+    );
+    
+    /**
+     * GCRA: 새 TAT를 계산해 허용이면 저장(TAT 시각에 만료)하고, 허용 여부와 관계없이 새 TAT를 반환
+     * KEYS = [키], ARGV = [emissionInterval(ms), burstTolerance(ms), now(ms)]
+     */
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>(
+        "local interval = tonumber(ARGV[1]) " +
+        "local tolerance = tonumber(ARGV[2]) " +
+        "local now = tonumber(ARGV[3]) " +
+        "local tat = tonumber(redis.call('GET', KEYS[1]) or ARGV[3]) " +
+        "local newTat = math.max(tat, now) + interval " +
+        "if newTat - now <= tolerance + interval then " +
+        "  redis.call('SET', KEYS[1], newTat, 'PXAT', newTat) " +
+        "end " +
+        "return newTat",
+        Long.class
+    );
+    
     private final StringRedisTemplate redisTemplate;
     
     @Override
     public Long incrementAndGet(String key, long ttlSeconds) {
-        Long count = redisTemplate.opsForValue().increment(key);
-        
-        // 첫 요청이면 TTL 설정
-        if (count != null && count == 1) {
-            redisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
+        return redisTemplate.execute(INCREMENT_SCRIPT, List.of(key), String.valueOf(ttlSeconds));
+    }
+    
+    @Override
+    public List<Long> incrementAndGetAll(List<String> keys, List<Long> limits, long ttlSeconds) {
+        Object[] args = new Object[keys.size() + 1];
+        args[0] = String.valueOf(ttlSeconds);
+        for (int i = 0; i < keys.size(); i++) {
+            args[i + 1] = String.valueOf(limits.get(i));
         }
         
-        return count != null ? count : 0L;
+        return toCounts(redisTemplate.execute(INCREMENT_ALL_SCRIPT, keys, args));
+    }
+    
+    @Override
+    public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+        Object[] args = new Object[keys.size() + 1];
+        args[0] = String.valueOf(ttlSeconds);
+        for (int i = 0; i < keys.size(); i++) {
+            args[i + 1] = String.valueOf(deltas.get(i));
+        }
+        return toCounts(redisTemplate.execute(ADD_ALL_SCRIPT, keys, args));
+    }
+    
+    @Override
+    public long getCount(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+    
+    /**
+     * MGET 한 번으로 조회합니다.
+     */
+    @Override
+    public List<Long> getCounts(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        List<Long> counts = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            counts.add(value != null ? Long.parseLong(value) : 0L);
+        }
+        return counts;
+    }
+    
+    @Override
+    public long incrementAndGetWeighted(String currentKey, String previousKey, double previousWeight, long ttlSeconds) {
+        Long estimated = redisTemplate.execute(
+            INCREMENT_WEIGHTED_SCRIPT,
+            List.of(currentKey, previousKey),
+            String.valueOf(ttlSeconds),
+            String.valueOf(previousWeight)
+        );
+        return estimated != null ? estimated : 0L;
+    }
+    
+    @Override
+    public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+        Long tat = redisTemplate.execute(
+            GCRA_SCRIPT,
+            List.of(key),
+            String.valueOf(emissionIntervalMillis),
+            String.valueOf(burstToleranceMillis),
+            String.valueOf(nowMillis)
+        );
+        return tat != null ? tat : nowMillis + emissionIntervalMillis;
     }
     
     @Override
     public void delete(String key) {
-        redisTemplate.delete(key);
+        redisTemplate.unlink(key);
+    }
+    
+    /**
+     * 여러 키를 UNLINK 한 번으로 삭제합니다.
+     */
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        redisTemplate.unlink(keys);
+    }
+    
+    private List<Long> toCounts(List<?> result) {
+        List<Long> counts = new ArrayList<>(result.size());
+        for (Object count : result) {
+            counts.add(((Number) count).longValue());
+        }
+        return counts;
     }
 }
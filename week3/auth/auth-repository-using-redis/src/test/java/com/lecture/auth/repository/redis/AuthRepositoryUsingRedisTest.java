@@ -0,0 +1,188 @@
+package com.lecture.auth.repository.redis;
+
+import com.lecture.auth.domain.AuthToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 실제 Redis에서 SAVE, DELETE, ROTATE 스크립트와 역방향 인덱스(auth:user:{id}:*), 명령 timeout을 확인합니다.
+ * (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AuthRepositoryUsingRedisTest {
+
+    private static final long USER_ID = 7L;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private AuthRepositoryUsingRedis repository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = connectionFactory(Duration.ofSeconds(1));  // auth.token-redis.timeout 기본값
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        repository = new AuthRepositoryUsingRedis(redisTemplate);
+    }
+
+    @Test
+    void saveStoresTokenAndReverseIndexWithTokenExpiry() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        repository.saveAccessToken(new AuthToken("a1", USER_ID, expiresAt));
+
+        assertThat(redisTemplate.opsForValue().get("auth:token:a1")).isEqualTo(USER_ID + ":" + expiresAt);
+        assertThat(redisTemplate.opsForValue().get("auth:user:7:access")).isEqualTo("a1");
+        assertThat(pttl("auth:token:a1")).isPositive().isLessThanOrEqualTo(60_000L);
+        assertThat(pttl("auth:user:7:access")).isPositive().isLessThanOrEqualTo(60_000L);
+
+        AuthToken found = repository.findByToken("a1").orElseThrow();
+        assertThat(found.getUserId()).isEqualTo(USER_ID);
+        assertThat(found.getExpiresAt()).isEqualTo(expiresAt);
+    }
+
+    @Test
+    void saveReplacesPreviousTokenOfSameKindOnly() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        repository.saveRefreshToken(new AuthToken("r1", USER_ID, expiresAt));
+        repository.saveAccessToken(new AuthToken("a1", USER_ID, expiresAt));
+
+        repository.saveAccessToken(new AuthToken("a2", USER_ID, expiresAt));
+
+        assertThat(repository.findByToken("a1")).isEmpty();
+        assertThat(repository.findUserIdByToken("a2")).contains(USER_ID);
+        assertThat(repository.findUserIdByToken("r1")).contains(USER_ID);
+        assertThat(redisTemplate.keys("auth:user:7:*"))
+            .containsExactlyInAnyOrder("auth:user:7:access", "auth:user:7:refresh");
+        assertThat(redisTemplate.keys("auth:token:*"))
+            .containsExactlyInAnyOrder("auth:token:a2", "auth:token:r1");
+    }
+
+    @Test
+    void deleteRemovesTokenAndIndexOfOneKind() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        repository.saveAccessToken(new AuthToken("a1", USER_ID, expiresAt));
+        repository.saveRefreshToken(new AuthToken("r1", USER_ID, expiresAt));
+
+        repository.deleteAccessTokenByUserId(USER_ID);
+        repository.deleteAccessTokenByUserId(8L);  // 토큰이 없는 유저
+
+        assertThat(repository.findByToken("a1")).isEmpty();
+        assertThat(repository.findUserIdByToken("r1")).contains(USER_ID);
+        assertThat(redisTemplate.keys("auth:user:7:*")).containsExactly("auth:user:7:refresh");
+
+        repository.deleteRefreshTokenByUserId(USER_ID);
+        assertThat(redisTemplate.keys("auth:*")).isEmpty();
+    }
+
+    @Test
+    void rotateReplacesBothTokens() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        repository.saveAccessToken(new AuthToken("a1", USER_ID, expiresAt));
+        repository.saveRefreshToken(new AuthToken("r1", USER_ID, expiresAt));
+
+        repository.rotateTokens(USER_ID, new AuthToken("a2", USER_ID, expiresAt), new AuthToken("r2", USER_ID, expiresAt + 1000));
+
+        assertThat(redisTemplate.keys("auth:token:*")).containsExactlyInAnyOrder("auth:token:a2", "auth:token:r2");
+        assertThat(redisTemplate.opsForValue().get("auth:user:7:access")).isEqualTo("a2");
+        assertThat(redisTemplate.opsForValue().get("auth:user:7:refresh")).isEqualTo("r2");
+        assertThat(repository.findByToken("r2").orElseThrow().getExpiresAt()).isEqualTo(expiresAt + 1000);
+    }
+
+    @Test
+    void rotateWithoutAccessTokenRemovesAccessToken() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        repository.saveAccessToken(new AuthToken("a1", USER_ID, expiresAt));
+        repository.saveRefreshToken(new AuthToken("r1", USER_ID, expiresAt));
+
+        // 서명 토큰 모드: Access Token은 저장하지 않음
+        repository.rotateTokens(USER_ID, null, new AuthToken("r2", USER_ID, expiresAt));
+
+        assertThat(redisTemplate.keys("auth:token:*")).containsExactly("auth:token:r2");
+        assertThat(redisTemplate.keys("auth:user:7:*")).containsExactly("auth:user:7:refresh");
+    }
+
+    @Test
+    void tokenAndIndexExpireAtExpiresAt() throws Exception {
+        repository.saveAccessToken(new AuthToken("a1", USER_ID, System.currentTimeMillis() + 200));
+
+        Thread.sleep(400);
+
+        assertThat(repository.findByToken("a1")).isEmpty();
+        assertThat(redisTemplate.keys("auth:*")).isEmpty();
+    }
+
+    @Test
+    void tokenTimeoutToleratesPauseThatRateLimitTimeoutDoesNot() throws Exception {
+        LettuceConnectionFactory rateLimitTimeout = connectionFactory(Duration.ofMillis(100));  // spring.data.redis.timeout
+        try {
+            AuthRepositoryUsingRedis withRateLimitTimeout = new AuthRepositoryUsingRedis(new StringRedisTemplate(rateLimitTimeout));
+            long expiresAt = System.currentTimeMillis() + 60_000;
+
+            // 300ms 멈춤(fork, 페일오버 등): 토큰 전용 timeout(1s)이면 기다렸다가 성공
+            pause(300);
+            repository.saveAccessToken(new AuthToken("a1", USER_ID, expiresAt));
+            assertThat(repository.findUserIdByToken("a1")).contains(USER_ID);
+
+            // 공용 timeout(100ms)이면 실패 (토큰 조회는 로컬로 대신할 수 없어 로그인/인증 실패)
+            pause(300);
+            assertThatThrownBy(() -> withRateLimitTimeout.findByToken("a1")).isInstanceOf(QueryTimeoutException.class);
+            Thread.sleep(300);
+        } finally {
+            rateLimitTimeout.destroy();
+        }
+    }
+
+    private static void pause(long millis) {
+        redisTemplate.execute(connection -> connection.execute(
+            "CLIENT", "PAUSE".getBytes(), String.valueOf(millis).getBytes()), true);
+    }
+
+    private static long pttl(String key) {
+        return redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+    }
+
+    private static LettuceConnectionFactory connectionFactory(Duration commandTimeout) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)),
+            LettuceClientConfiguration.builder().commandTimeout(commandTimeout).build()
+        );
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+}
@@ -0,0 +1,154 @@
+package com.lecture.auth.repository.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis에서 Lua 스크립트의 TTL 설정, 배치 중간 멈춤, 슬라이딩 윈도우 가중치, GCRA 허용/거부 시점을 확인합니다.
+ * (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimitingRepositoryUsingRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimitingRepositoryUsingRedis repository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        repository = new RateLimitingRepositoryUsingRedis(redisTemplate);
+    }
+
+    @Test
+    void incrementSetsTtlOnlyOnFirstIncrement() {
+        assertThat(repository.incrementAndGet("a", 100)).isEqualTo(1L);
+        assertThat(repository.incrementAndGet("a", 1000)).isEqualTo(2L);
+
+        // 두 번째 증가는 윈도우를 늘리지 않음
+        assertThat(ttl("a")).isBetween(1L, 100L);
+    }
+
+    @Test
+    void incrementRestoresTtlOnKeyWithoutExpiry() {
+        redisTemplate.opsForValue().set("a", "5");
+
+        assertThat(repository.incrementAndGet("a", 100)).isEqualTo(6L);
+        assertThat(ttl("a")).isBetween(1L, 100L);
+    }
+
+    @Test
+    void incrementAllStopsAtFirstKeyOverLimit() {
+        redisTemplate.opsForValue().set("b", "1");
+
+        List<Long> counts = repository.incrementAndGetAll(List.of("a", "b", "c"), List.of(5L, 1L, 5L), 100);
+
+        // b가 한도를 넘었으므로 c는 증가시키지 않음
+        assertThat(counts).containsExactly(1L, 2L);
+        assertThat(repository.getCount("c")).isZero();
+        assertThat(redisTemplate.hasKey("c")).isFalse();
+        assertThat(ttl("a")).isBetween(1L, 100L);
+        assertThat(ttl("b")).isBetween(1L, 100L);
+    }
+
+    @Test
+    void incrementAllWithinLimitsSetsTtlOnlyOnFirstIncrement() {
+        assertThat(repository.incrementAndGetAll(List.of("a", "b"), List.of(5L, 5L), 100)).containsExactly(1L, 1L);
+        assertThat(repository.incrementAndGetAll(List.of("a", "b"), List.of(5L, 5L), 1000)).containsExactly(2L, 2L);
+
+        assertThat(ttl("a")).isBetween(1L, 100L);
+        assertThat(ttl("b")).isBetween(1L, 100L);
+    }
+
+    @Test
+    void addAllAddsEveryDeltaAndKeepsFirstTtl() {
+        assertThat(repository.addAndGetAll(List.of("a", "b"), List.of(3L, 4L), 100)).containsExactly(3L, 4L);
+        assertThat(repository.addAndGetAll(List.of("a", "b"), List.of(3L, 4L), 1000)).containsExactly(6L, 8L);
+
+        assertThat(ttl("a")).isBetween(1L, 100L);
+        assertThat(ttl("b")).isBetween(1L, 100L);
+        assertThat(repository.getCounts(List.of("a", "b", "missing"))).containsExactly(6L, 8L, 0L);
+    }
+
+    @Test
+    void weightedIncrementAddsWeightedPreviousWindow() {
+        redisTemplate.opsForValue().set("previous", "10");
+
+        assertThat(repository.incrementAndGetWeighted("current", "previous", 0.5, 100)).isEqualTo(6L);
+        assertThat(repository.incrementAndGetWeighted("current", "previous", 0.5, 1000)).isEqualTo(7L);
+        assertThat(repository.incrementAndGetWeighted("other", "missing", 0.5, 100)).isEqualTo(1L);
+
+        assertThat(ttl("current")).isBetween(1L, 100L);
+        assertThat(ttl("previous")).isEqualTo(-1L);  // 이전 윈도우 키는 읽기만 함
+    }
+
+    @Test
+    void gcraAllowsBurstThenRejectsUntilIntervalPasses() {
+        long interval = 100;
+        long tolerance = 200;
+        long now = System.currentTimeMillis();
+
+        // 버스트: tolerance / interval + 1 = 3개까지 허용
+        assertThat(repository.acquireGcra("g", interval, tolerance, now)).isEqualTo(now + 100);
+        assertThat(repository.acquireGcra("g", interval, tolerance, now)).isEqualTo(now + 200);
+        assertThat(repository.acquireGcra("g", interval, tolerance, now)).isEqualTo(now + 300);
+
+        // 거부: 새 TAT - now > tolerance + interval, 저장된 TAT는 바뀌지 않음
+        long rejected = repository.acquireGcra("g", interval, tolerance, now);
+        assertThat(rejected - now).isGreaterThan(tolerance + interval);
+        assertThat(repository.getCount("g")).isEqualTo(now + 300);
+
+        // interval이 지나면 하나 허용
+        assertThat(repository.acquireGcra("g", interval, tolerance, now + 99) - (now + 99))
+            .isGreaterThan(tolerance + interval);
+        assertThat(repository.acquireGcra("g", interval, tolerance, now + 100)).isEqualTo(now + 400);
+    }
+
+    @Test
+    void gcraKeyExpiresAtTat() {
+        long now = System.currentTimeMillis();
+
+        long tat = repository.acquireGcra("g", 1000, 0, now);
+
+        long pttl = redisTemplate.getExpire("g", TimeUnit.MILLISECONDS);
+        assertThat(pttl).isPositive().isLessThanOrEqualTo(tat - now);
+    }
+
+    private static long ttl(String key) {
+        return redisTemplate.getExpire(key, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,728 @@
+package com.lecture.auth.repository.replicated;
+
+import com.lecture.auth.repository.RateLimitingRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * RateLimitingRepositoryUsingReplicatedCounter
+ *
+ * Redis 없이 여러 인스턴스가 카운터를 UDP로 주고받아 클러스터 전체 한도를 적용하는 Rate Limiting Repository 구현체입니다.
+ * (RateLimitingRepositoryUsingLocalCache는 인스턴스별 한도이므로 인스턴스 N개면 최대 N배 허용)
+ *
+ * 카운터 (G-Counter, grow-only):
+ * - 키 하나는 인스턴스(nodeId)별 슬롯을 가지며, 각 인스턴스는 자기 슬롯만 증가시킵니다.
+ * - 값 = 슬롯별 (count - floor)의 합
+ * - 병합은 슬롯별 max이므로 순서가 바뀌거나, 중복되거나, 일부 유실되어도 같은 값으로 수렴합니다.
+ * - 삭제(로그인 성공 시 리셋)는 슬롯별 floor를 현재 count로 올립니다. floor도 max로 병합합니다.
+ * - nodeId는 시작할 때마다 새로 만듭니다. (재시작한 인스턴스가 이전 슬롯 값을 모른 채 0부터 세는 일이 없음)
+ *
+ * window:
+ * - 인스턴스마다 첫 요청 시각이 다르므로 window를 시각으로 정렬합니다. (now / ttl, 만료 시각이 곧 세대)
+ * - 더 늦게 만료되는 세대를 받으면 이전 세대를 버리고, 더 이른 세대는 무시합니다.
+ * - 슬라이딩 윈도우(incrementAndGetWeighted)는 키에 window가 들어 있으므로 다음 window가 끝날 때까지 유지합니다.
+ *
+ * 복제:
+ * - gossipInterval마다 변경된 키의 전체 상태(슬롯 목록)를 모든 peer에게 보냅니다. (full mesh, 중계 없음)
+ * - fullSyncInterval마다 살아 있는 모든 키를 보내 유실된 패킷을 메우고, 만료된 키를 정리합니다.
+ * - 패킷은 MTU 안에 들어가도록 나눕니다. (MAX_PACKET_BYTES)
+ *
+ * 보안:
+ * - 설정한 주소(bindAddress)에만 바인딩합니다. (모든 인터페이스에 열지 않음)
+ * - 출발지 주소가 peers에 없는 패킷은 버립니다.
+ * - 패킷마다 공유 비밀(sharedSecret)로 만든 HMAC-SHA256을 붙이고, 맞지 않으면 버립니다.
+ *   (위조한 카운트로 다른 사용자를 차단하거나 floor를 올려 한도를 푸는 것을 막음)
+ *   같은 패킷을 다시 보내도 병합이 max이므로 값이 바뀌지 않습니다.
+ *
+ * 초과 허용 한계:
+ * - 다른 인스턴스의 증가는 최대 gossipInterval + 전송 지연 뒤에 보입니다. (수렴 지연)
+ * - 따라서 키 하나의 window당 초과 허용은 그 지연 동안 다른 인스턴스들이 허용한 횟수까지입니다.
+ *   (다른 인스턴스 처리량 x 수렴 지연, 패킷 유실 시 최대 fullSyncInterval)
+ *
+ * 한계:
+ * - GCRA의 TAT는 max로 병합합니다. 수렴 지연 안에 여러 인스턴스에서 동시에 허용한 요청은 한 번만 반영됩니다.
+ *   GCRA 키 삭제는 이 인스턴스에만 적용됩니다. (다른 인스턴스의 TAT는 만료될 때까지 유지)
+ * - 키 수가 maximumSize에 도달하면 가장 먼저 만료될 키부터 제거하고 새 키를 받습니다. (evictionCount)
+ *   (RateLimitingRepositoryUsingLocalCache와 같은 방식, 새 키의 카운트를 버리지 않음)
+ *
+ * 지표: 키 수, 보낸/받은 패킷 수, 잘못된 패킷 수, 거부한 패킷 수(출발지/HMAC), 용량 초과 제거 수
+ */
+public class RateLimitingRepositoryUsingReplicatedCounter implements RateLimitingRepository {
+
+    private static final int MAGIC = 0x524C4731;  // "RLG1"
+    private static final int MAX_PACKET_BYTES = 1400;
+    private static final byte TYPE_COUNTER = 0;
+    private static final byte TYPE_GCRA = 1;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HMAC_BYTES = 32;
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final long MISSING = Long.MIN_VALUE;
+
+    private final long nodeId;
+    private final List<InetSocketAddress> peers;
+    private final Set<InetSocketAddress> peerAddresses;
+    private final Mac sendMac;  // 보내는 스레드용
+    private final Mac receiveMac;  // 받는 스레드용
+    private final int maximumSize;
+    private final DatagramSocket socket;
+
+    private final ConcurrentHashMap<String, CounterEntry> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> gcraTats = new ConcurrentHashMap<>();
+    private final ExpiryIndex counterExpiry = new ExpiryIndex(false);  // 세대가 바뀔 때마다 다시 등록
+    private final ExpiryIndex gcraExpiry = new ExpiryIndex(true);  // TAT가 늘어나면 꺼낼 때 옮김
+    private final Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService gossiper;
+    private final Thread receiver;
+
+    private final LongAdder sentPacketCount = new LongAdder();
+    private final LongAdder receivedPacketCount = new LongAdder();
+    private final LongAdder invalidPacketCount = new LongAdder();
+    private final LongAdder rejectedPacketCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param bindAddress 받을 주소 (peer가 접근하는 내부망 주소)
+     * @param port 받을 UDP 포트 (0이면 임의 포트)
+     * @param peers 다른 인스턴스 주소 "host:port,host:port" (자기 자신 제외, 이 주소에서 온 패킷만 받음)
+     * @param sharedSecret 모든 인스턴스가 같은 값을 쓰는 HMAC 키 (32바이트 이상)
+     */
+    public RateLimitingRepositoryUsingReplicatedCounter(
+        String bindAddress,
+        int port,
+        String peers,
+        String sharedSecret,
+        long gossipIntervalMillis,
+        long fullSyncIntervalMillis,
+        int maximumSize)
+    {
+        if (gossipIntervalMillis <= 0 || fullSyncIntervalMillis <= 0 || maximumSize <= 0) {
+            throw new IllegalArgumentException(
+                "gossipIntervalMillis, fullSyncIntervalMillis and maximumSize must be positive: "
+                    + gossipIntervalMillis + ", " + fullSyncIntervalMillis + ", " + maximumSize
+            );
+        }
+        if (bindAddress == null || bindAddress.isBlank()) {
+            throw new IllegalArgumentException("bindAddress is required");
+        }
+        byte[] secret = sharedSecret != null ? sharedSecret.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("sharedSecret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.nodeId = new SecureRandom().nextLong();
+        this.peers = parsePeers(peers);
+        this.peerAddresses = Set.copyOf(this.peers);
+        this.sendMac = newMac(new SecretKeySpec(secret, HMAC_ALGORITHM));
+        this.receiveMac = newMac(new SecretKeySpec(secret, HMAC_ALGORITHM));
+        this.maximumSize = maximumSize;
+        try {
+            this.socket = new DatagramSocket(new InetSocketAddress(bindAddress, port));
+        } catch (SocketException e) {
+            throw new UncheckedIOException("Cannot bind rate limit replication address " + bindAddress + ":" + port, e);
+        }
+
+        this.receiver = new Thread(this::receiveLoop, "rate-limit-replication-receiver");
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+
+        this.gossiper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-replication-gossiper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.gossiper.scheduleWithFixedDelay(this::sendDirty, gossipIntervalMillis, gossipIntervalMillis, TimeUnit.MILLISECONDS);
+        this.gossiper.scheduleWithFixedDelay(this::sendAll, fullSyncIntervalMillis, fullSyncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Long incrementAndGet(String key, long ttlSeconds) {
+        return addAndGet(key, 1L, alignedExpiresAt(System.currentTimeMillis(), ttlSeconds * 1000));
+    }
+
+    @Override
+    public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+        long expiresAt = alignedExpiresAt(System.currentTimeMillis(), ttlSeconds * 1000);
+        List<Long> counts = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            counts.add(addAndGet(keys.get(i), deltas.get(i), expiresAt));
+        }
+        return counts;
+    }
+
+    @Override
+    public long getCount(String key) {
+        CounterEntry entry = counters.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return 0L;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 현재 window 키는 ttl(= window x 2)의 절반 단위로 정렬하고, 다음 window가 끝날 때까지 유지합니다.
+     * (다음 window에서 이전 window 값으로 읽힘)
+     */
+    @Override
+    public long incrementAndGetWeighted(String currentKey, String previousKey, double previousWeight, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        long windowMillis = ttlSeconds * 1000 / 2;
+        long current = addAndGet(currentKey, 1L, (now / windowMillis + 2) * windowMillis);
+        return current + (long) (getCount(previousKey) * previousWeight);
+    }
+
+    @Override
+    public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+        AtomicLong tat = gcraTats.get(key);
+        if (tat == null) {
+            tat = newGcraTat(key, nowMillis + burstToleranceMillis + emissionIntervalMillis);
+        }
+
+        while (true) {
+            long current = tat.get();
+            long newTat = Math.max(current, nowMillis) + emissionIntervalMillis;
+            if (newTat - nowMillis > burstToleranceMillis + emissionIntervalMillis) {
+                return newTat;
+            }
+            if (tat.compareAndSet(current, newTat)) {
+                dirtyKeys.add(key);
+                return newTat;
+            }
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        CounterEntry entry = counters.get(key);
+        if (entry != null) {
+            entry.reset();
+            dirtyKeys.add(key);
+        }
+        gcraTats.remove(key);
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public int getLocalPort() {
+        return socket.getLocalPort();
+    }
+
+    public int size() {
+        return counters.size() + gcraTats.size();
+    }
+
+    public long getSentPacketCount() {
+        return sentPacketCount.sum();
+    }
+
+    public long getReceivedPacketCount() {
+        return receivedPacketCount.sum();
+    }
+
+    public long getInvalidPacketCount() {
+        return invalidPacketCount.sum();
+    }
+
+    public long getRejectedPacketCount() {
+        return rejectedPacketCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 변경분을 보내고 복제 스레드를 종료합니다. (Bean 종료 시 호출)
+     */
+    public void shutdown() {
+        gossiper.shutdownNow();
+        sendDirty();
+        socket.close();
+    }
+
+    private long addAndGet(String key, long delta, long expiresAt) {
+        long now = System.currentTimeMillis();
+        CounterEntry entry = counters.get(key);
+        if (entry == null || entry.expiresAt < expiresAt || entry.isExpired(now)) {
+            // 새 window(세대)는 이전 세대를 교체, 다른 인스턴스가 먼저 만든 더 늦은 세대는 그대로 사용
+            entry = installCounter(key, expiresAt, now);
+        }
+        entry.slot(nodeId).count.addAndGet(delta);
+        dirtyKeys.add(key);
+        return entry.value();
+    }
+
+    /**
+     * 받은 키 상태를 병합합니다. (슬롯별 count, floor의 max)
+     */
+    private void mergeCounter(String key, long expiresAt, long[] slotIds, long[] counts, long[] floors) {
+        long now = System.currentTimeMillis();
+        if (now > expiresAt) {
+            return;
+        }
+        CounterEntry entry = counters.get(key);
+        if (entry == null || entry.expiresAt < expiresAt || entry.isExpired(now)) {
+            entry = installCounter(key, expiresAt, now);
+        }
+        if (entry.expiresAt != expiresAt) {
+            return;  // 이미 더 늦은 세대
+        }
+        for (int i = 0; i < slotIds.length; i++) {
+            Slot slot = entry.slot(slotIds[i]);
+            slot.count.accumulateAndGet(counts[i], Math::max);
+            slot.floor.accumulateAndGet(floors[i], Math::max);
+        }
+    }
+
+    private void mergeGcra(String key, long tat) {
+        if (tat < System.currentTimeMillis()) {
+            return;
+        }
+        AtomicLong current = gcraTats.get(key);
+        if (current == null) {
+            current = newGcraTat(key, tat);
+        }
+        current.accumulateAndGet(tat, Math::max);
+    }
+
+    /**
+     * 키의 새 세대를 설치하고 만료 목록에 등록합니다. 새 키가 용량을 넘으면 가장 먼저 만료될 키를 제거합니다.
+     */
+    private CounterEntry installCounter(String key, long expiresAt, long now) {
+        boolean[] installed = new boolean[1];
+        CounterEntry entry = counters.compute(key, (k, v) -> {
+            if (v == null || v.expiresAt < expiresAt || v.isExpired(now)) {
+                installed[0] = v == null;
+                return new CounterEntry(expiresAt);
+            }
+            return v;
+        });
+        if (entry.expiresAt == expiresAt) {
+            counterExpiry.register(key, expiresAt);
+        }
+        if (installed[0] && counters.size() > maximumSize) {
+            evictEarliest(counters, counterExpiry, this::counterExpiresAt, key);
+        }
+        return entry;
+    }
+
+    private AtomicLong newGcraTat(String key, long expiresAt) {
+        boolean[] installed = new boolean[1];
+        AtomicLong tat = gcraTats.computeIfAbsent(key, k -> {
+            installed[0] = true;
+            return new AtomicLong();
+        });
+        if (installed[0]) {
+            gcraExpiry.register(key, expiresAt);
+            if (gcraTats.size() > maximumSize) {
+                evictEarliest(gcraTats, gcraExpiry, this::gcraExpiresAt, key);
+            }
+        }
+        return tat;
+    }
+
+    /**
+     * 방금 넣은 키(installedKey)를 제외하고 가장 먼저 만료될 키 하나를 제거합니다.
+     */
+    private void evictEarliest(Map<String, ?> map, ExpiryIndex index, ToLongFunction<String> expiresAtOf, String installedKey) {
+        String key = index.pollEarliest(expiresAtOf, installedKey);
+        if (key != null && map.remove(key) != null) {
+            evictionCount.increment();
+        }
+    }
+
+    private long counterExpiresAt(String key) {
+        CounterEntry entry = counters.get(key);
+        return entry != null ? entry.expiresAt : MISSING;
+    }
+
+    private long gcraExpiresAt(String key) {
+        AtomicLong tat = gcraTats.get(key);
+        return tat != null ? tat.get() : MISSING;
+    }
+
+    private void sendDirty() {
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        Iterator<String> iterator = dirtyKeys.iterator();
+        while (iterator.hasNext()) {
+            keys.add(iterator.next());
+            iterator.remove();
+        }
+        send(keys);
+    }
+
+    /**
+     * 만료된 키를 정리하고 남은 모든 키를 보냅니다. (유실된 패킷 보완)
+     */
+    private void sendAll() {
+        long now = System.currentTimeMillis();
+        counters.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+        gcraTats.entrySet().removeIf(entry -> entry.getValue().get() < now);
+        counterExpiry.sweep(now, this::counterExpiresAt);
+        gcraExpiry.sweep(now, this::gcraExpiresAt);
+
+        Set<String> keys = new HashSet<>(counters.keySet());
+        keys.addAll(gcraTats.keySet());
+        send(keys);
+    }
+
+    private void send(Collection<String> keys) {
+        if (peers.isEmpty() || keys.isEmpty()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            ByteArrayOutputStream packet = new ByteArrayOutputStream(MAX_PACKET_BYTES);
+            int entryCount = 0;
+            for (String key : keys) {
+                byte[] entry = encodeEntry(key, now);
+                if (entry == null) {
+                    continue;
+                }
+                if (entryCount > 0 && headerBytes() + packet.size() + entry.length > MAX_PACKET_BYTES) {
+                    sendPacket(packet.toByteArray(), entryCount);
+                    packet.reset();
+                    entryCount = 0;
+                }
+                packet.write(entry);
+                entryCount++;
+            }
+            if (entryCount > 0) {
+                sendPacket(packet.toByteArray(), entryCount);
+            }
+        } catch (IOException e) {
+            // 다음 fullSync에서 다시 보냄
+        }
+    }
+
+    /**
+     * 키 하나의 전체 상태
+     * 카운터: type, key, expiresAt, 슬롯 수, (nodeId, count, floor) x 슬롯 수
+     * GCRA: type, key, tat
+     */
+    private byte[] encodeEntry(String key, long now) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        CounterEntry entry = counters.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            List<Map.Entry<Long, Slot>> slots = new ArrayList<>(entry.slots.entrySet());
+            out.writeByte(TYPE_COUNTER);
+            out.writeUTF(key);
+            out.writeLong(entry.expiresAt);
+            out.writeShort(slots.size());
+            for (Map.Entry<Long, Slot> slot : slots) {
+                out.writeLong(slot.getKey());
+                out.writeLong(slot.getValue().count.get());
+                out.writeLong(slot.getValue().floor.get());
+            }
+        }
+
+        AtomicLong tat = gcraTats.get(key);
+        if (tat != null && tat.get() >= now) {
+            out.writeByte(TYPE_GCRA);
+            out.writeUTF(key);
+            out.writeLong(tat.get());
+        }
+
+        return bytes.size() > 0 ? bytes.toByteArray() : null;
+    }
+
+    /**
+     * MAGIC, 보낸 nodeId, 항목 수 (+ 끝에 HMAC)
+     */
+    private static int headerBytes() {
+        return Integer.BYTES + Long.BYTES + Short.BYTES + HMAC_BYTES;
+    }
+
+    private void sendPacket(byte[] entries, int entryCount) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(headerBytes() + entries.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeLong(nodeId);
+        out.writeShort(entryCount);
+        out.write(entries);
+        out.write(hmac(sendMac, bytes.toByteArray(), bytes.size()));
+        byte[] data = bytes.toByteArray();
+
+        for (InetSocketAddress peer : peers) {
+            socket.send(new DatagramPacket(data, data.length, peer));
+            sentPacketCount.increment();
+        }
+    }
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[65507];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                continue;  // 종료 시 socket.close()로 빠져나옴
+            }
+            receivedPacketCount.increment();
+            if (!isAuthentic(packet)) {
+                rejectedPacketCount.increment();
+                continue;
+            }
+            try {
+                int length = packet.getLength() - HMAC_BYTES;
+                receive(new DataInputStream(new ByteArrayInputStream(packet.getData(), 0, length)));
+            } catch (IOException | RuntimeException e) {
+                invalidPacketCount.increment();
+            }
+        }
+    }
+
+    /**
+     * 출발지가 peers 중 하나이고, 끝의 HMAC이 나머지 내용과 일치하는지 확인합니다.
+     */
+    private boolean isAuthentic(DatagramPacket packet) {
+        if (!peerAddresses.contains((InetSocketAddress) packet.getSocketAddress())) {
+            return false;
+        }
+        int length = packet.getLength() - HMAC_BYTES;
+        if (length < 0) {
+            return false;
+        }
+        byte[] data = packet.getData();
+        byte[] expected = hmac(receiveMac, data, length);
+        return MessageDigest.isEqual(expected, Arrays.copyOfRange(data, length, length + HMAC_BYTES));
+    }
+
+    /**
+     * data[0, length)의 HMAC-SHA256
+     * (Mac은 스레드 안전하지 않음, 종료 시 sendDirty가 gossiper와 겹칠 수 있어 동기화)
+     */
+    private static byte[] hmac(Mac mac, byte[] data, int length) {
+        synchronized (mac) {
+            mac.update(data, 0, length);
+            return mac.doFinal();
+        }
+    }
+
+    /**
+     * 생성자에서 미리 만듭니다. (첫 Mac.getInstance는 보안 Provider 로딩으로 느릴 수 있음)
+     */
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private void receive(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            invalidPacketCount.increment();
+            return;
+        }
+        in.readLong();  // 보낸 nodeId (슬롯에 포함되어 있음)
+        int entryCount = in.readUnsignedShort();
+        for (int i = 0; i < entryCount; i++) {
+            byte type = in.readByte();
+            String key = in.readUTF();
+            if (type == TYPE_GCRA) {
+                mergeGcra(key, in.readLong());
+                continue;
+            }
+            long expiresAt = in.readLong();
+            int slotCount = in.readUnsignedShort();
+            long[] slotIds = new long[slotCount];
+            long[] counts = new long[slotCount];
+            long[] floors = new long[slotCount];
+            for (int s = 0; s < slotCount; s++) {
+                slotIds[s] = in.readLong();
+                counts[s] = in.readLong();
+                floors[s] = in.readLong();
+            }
+            mergeCounter(key, expiresAt, slotIds, counts, floors);
+        }
+    }
+
+    /**
+     * now가 속한 정렬된 window가 끝나는 시각 (같은 window의 키는 모든 인스턴스에서 같은 세대)
+     */
+    private static long alignedExpiresAt(long now, long windowMillis) {
+        return (now / windowMillis + 1) * windowMillis;
+    }
+
+    private static List<InetSocketAddress> parsePeers(String peers) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        if (peers == null || peers.isBlank()) {
+            return addresses;
+        }
+        for (String peer : peers.split(",")) {
+            String trimmed = peer.trim();
+            int colon = trimmed.lastIndexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("peer must be host:port: " + trimmed);
+            }
+            addresses.add(new InetSocketAddress(trimmed.substring(0, colon), Integer.parseInt(trimmed.substring(colon + 1))));
+        }
+        return addresses;
+    }
+
+    /**
+     * 키 하나의 window(세대) 상태
+     * 슬롯은 인스턴스별 (count, floor)이며 count, floor 모두 증가만 합니다.
+     */
+    private static class CounterEntry {
+        final long expiresAt;
+        final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+
+        CounterEntry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        Slot slot(long nodeId) {
+            Slot slot = slots.get(nodeId);
+            return slot != null ? slot : slots.computeIfAbsent(nodeId, id -> new Slot());
+        }
+
+        long value() {
+            long value = 0L;
+            for (Slot slot : slots.values()) {
+                value += Math.max(0L, slot.count.get() - slot.floor.get());
+            }
+            return value;
+        }
+
+        /**
+         * 모든 슬롯의 floor를 현재 count로 올립니다. (값 0)
+         */
+        void reset() {
+            for (Slot slot : slots.values()) {
+                slot.floor.accumulateAndGet(slot.count.get(), Math::max);
+            }
+        }
+
+        boolean isExpired(long now) {
+            return now > expiresAt;
+        }
+    }
+
+    private static class Slot {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong floor = new AtomicLong();
+    }
+
+    /**
+     * 만료 시각(초 단위 버킷)별 키 목록
+     * 용량 초과 시 가장 이른 버킷의 키부터 꺼냅니다.
+     * followsExpiry이면 만료 시각이 늘어난 키(GCRA)를 꺼낼 때 새 버킷으로 옮기고, 아니면 오래된 등록으로 보고 버립니다.
+     */
+    private static class ExpiryIndex {
+        private static final long BUCKET_MILLIS = 1000L;
+
+        final ConcurrentSkipListMap<Long, ConcurrentLinkedQueue<String>> buckets = new ConcurrentSkipListMap<>();
+        final boolean followsExpiry;
+
+        ExpiryIndex(boolean followsExpiry) {
+            this.followsExpiry = followsExpiry;
+        }
+
+        void register(String key, long expiresAt) {
+            long bucket = toBucket(expiresAt);
+            while (true) {
+                ConcurrentLinkedQueue<String> queue = buckets.computeIfAbsent(bucket, b -> new ConcurrentLinkedQueue<>());
+                queue.add(key);
+                if (buckets.get(bucket) == queue) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 가장 먼저 만료될 키를 꺼냅니다. (없으면 null)
+         */
+        String pollEarliest(ToLongFunction<String> expiresAtOf, String excludedKey) {
+            boolean excluded = false;
+            String found = null;
+            for (Map.Entry<Long, ConcurrentLinkedQueue<String>> bucket : buckets.entrySet()) {
+                String key;
+                while (found == null && (key = bucket.getValue().poll()) != null) {
+                    long expiresAt = expiresAtOf.applyAsLong(key);
+                    if (expiresAt == MISSING) {
+                        continue;
+                    }
+                    if (key.equals(excludedKey)) {
+                        excluded = true;
+                    } else if (toBucket(expiresAt) <= bucket.getKey()) {
+                        found = key;
+                    } else if (followsExpiry) {
+                        register(key, expiresAt);
+                    }
+                }
+                if (found != null) {
+                    break;
+                }
+                buckets.remove(bucket.getKey(), bucket.getValue());
+            }
+            long excludedExpiresAt = excluded ? expiresAtOf.applyAsLong(excludedKey) : MISSING;
+            if (excludedExpiresAt != MISSING) {
+                register(excludedKey, excludedExpiresAt);
+            }
+            return found;
+        }
+
+        /**
+         * 만료 시각이 지난 버킷을 비우고, 아직 살아 있는 키는 현재 만료 시각의 버킷에 다시 등록합니다.
+         */
+        void sweep(long now, ToLongFunction<String> expiresAtOf) {
+            Map.Entry<Long, ConcurrentLinkedQueue<String>> bucket;
+            while ((bucket = buckets.firstEntry()) != null && bucket.getKey() * BUCKET_MILLIS < now) {
+                if (!buckets.remove(bucket.getKey(), bucket.getValue())) {
+                    continue;
+                }
+                for (String key : bucket.getValue()) {
+                    long expiresAt = expiresAtOf.applyAsLong(key);
+                    if (followsExpiry && expiresAt != MISSING && expiresAt >= now) {
+                        register(key, expiresAt);
+                    }
+                }
+            }
+        }
+
+        private static long toBucket(long expiresAt) {
+            return (expiresAt + BUCKET_MILLIS - 1) / BUCKET_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.lecture.auth.repository.replicated;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 JVM의 두 인스턴스로 복제, 출발지/HMAC 검증, 용량 초과 시 제거를 확인합니다.
+ */
+class RateLimitingRepositoryUsingReplicatedCounterTest {
+
+    static final String HOST = "127.0.0.1";
+    static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String KEY = "rate_limit:login:ip:1.2.3.4";
+    private static final long TTL_SECONDS = 3600;
+
+    private final List<RateLimitingRepositoryUsingReplicatedCounter> repositories = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        repositories.forEach(RateLimitingRepositoryUsingReplicatedCounter::shutdown);
+    }
+
+    @Test
+    void incrementsConvergeBetweenPeers() throws Exception {
+        int[] ports = freePorts(2);
+        RateLimitingRepositoryUsingReplicatedCounter a = create(ports[0], peer(ports[1]), SECRET, 100_000);
+        RateLimitingRepositoryUsingReplicatedCounter b = create(ports[1], peer(ports[0]), SECRET, 100_000);
+
+        for (int i = 0; i < 30; i++) {
+            a.incrementAndGet(KEY, TTL_SECONDS);
+            b.incrementAndGet(KEY, TTL_SECONDS);
+        }
+
+        awaitTrue(() -> a.getCount(KEY) == 60 && b.getCount(KEY) == 60);
+        assertThat(a.getRejectedPacketCount()).isZero();
+        assertThat(b.getRejectedPacketCount()).isZero();
+    }
+
+    @Test
+    void packetFromUnknownSourceIsDropped() throws Exception {
+        int[] ports = freePorts(2);
+        RateLimitingRepositoryUsingReplicatedCounter a = create(ports[0], peer(ports[1]), SECRET, 100_000);
+
+        // peers에 없는 포트에서, 올바른 HMAC을 붙여도 버림
+        try (DatagramSocket attacker = new DatagramSocket(0, InetAddress.getByName(HOST))) {
+            byte[] forged = forgedPacket(SECRET);
+            attacker.send(new DatagramPacket(forged, forged.length, new InetSocketAddress(HOST, ports[0])));
+        }
+
+        awaitTrue(() -> a.getRejectedPacketCount() == 1);
+        assertThat(a.getCount(KEY)).isZero();
+    }
+
+    @Test
+    void packetWithWrongSecretIsRejected() throws Exception {
+        int[] ports = freePorts(2);
+        RateLimitingRepositoryUsingReplicatedCounter a = create(ports[0], peer(ports[1]), SECRET, 100_000);
+        // peer 주소에서 보내지만 다른 비밀로 서명
+        RateLimitingRepositoryUsingReplicatedCounter b =
+            create(ports[1], peer(ports[0]), "fedcba9876543210fedcba9876543210", 100_000);
+
+        b.incrementAndGet(KEY, TTL_SECONDS);
+
+        awaitTrue(() -> a.getRejectedPacketCount() > 0);
+        assertThat(a.getCount(KEY)).isZero();
+    }
+
+    @Test
+    void shortSecretFailsFast() {
+        assertThatThrownBy(() -> new RateLimitingRepositoryUsingReplicatedCounter(HOST, 0, "", "short", 50, 1000, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void keyFloodEvictsEarliestInsteadOfDroppingNewKeys() throws Exception {
+        int maximumSize = 1000;
+        RateLimitingRepositoryUsingReplicatedCounter a = create(freePorts(1)[0], "", SECRET, 60_000, maximumSize);  // 정리(sendAll)와 겹치지 않도록
+        int keys = 20_000;
+
+        for (int i = 0; i < keys; i++) {
+            assertThat(a.incrementAndGet("rate_limit:ip:" + i, TTL_SECONDS)).isEqualTo(1L);
+            assertThat(a.size()).isLessThanOrEqualTo(maximumSize);
+        }
+
+        assertThat(a.getEvictionCount()).isEqualTo(keys - maximumSize);
+        // 새 키는 저장되고(다음 증가가 누적됨) 가장 오래된 키가 제거됨
+        assertThat(a.incrementAndGet("rate_limit:ip:" + (keys - 1), TTL_SECONDS)).isEqualTo(2L);
+        assertThat(a.getCount("rate_limit:ip:0")).isZero();
+    }
+
+    @Test
+    void gcraKeyFloodStaysBounded() throws Exception {
+        int maximumSize = 1000;
+        RateLimitingRepositoryUsingReplicatedCounter a = create(freePorts(1)[0], "", SECRET, 60_000, maximumSize);  // 정리(sendAll)와 겹치지 않도록
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < 5_000; i++) {
+            a.acquireGcra("rate_limit:gcra:" + i, 1000, 0, now);
+            assertThat(a.size()).isLessThanOrEqualTo(maximumSize);
+        }
+
+        // 새 키는 저장되어 두 번째 요청은 거부됨 (fail-open 아님)
+        String last = "rate_limit:gcra:" + 4_999;
+        assertThat(a.acquireGcra(last, 1000, 0, now) - now).isGreaterThan(1000);
+        assertThat(a.getEvictionCount()).isEqualTo(5_000 - maximumSize);
+    }
+
+    private RateLimitingRepositoryUsingReplicatedCounter create(int port, String peers, String secret, int maximumSize) {
+        return create(port, peers, secret, 200, maximumSize);
+    }
+
+    private RateLimitingRepositoryUsingReplicatedCounter create(
+        int port, String peers, String secret, long fullSyncIntervalMillis, int maximumSize)
+    {
+        RateLimitingRepositoryUsingReplicatedCounter repository =
+            new RateLimitingRepositoryUsingReplicatedCounter(HOST, port, peers, secret, 20, fullSyncIntervalMillis, maximumSize);
+        repositories.add(repository);
+        return repository;
+    }
+
+    private static String peer(int port) {
+        return HOST + ":" + port;
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 것처럼 KEY의 카운트를 크게 올리는 패킷 (HMAC은 secret으로 서명)
+     */
+    private static byte[] forgedPacket(String secret) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x524C4731);
+        out.writeLong(42L);
+        out.writeShort(1);
+        out.writeByte(0);
+        out.writeUTF(KEY);
+        out.writeLong(System.currentTimeMillis() + 60_000);
+        out.writeShort(1);
+        out.writeLong(42L);
+        out.writeLong(1_000_000L);
+        out.writeLong(0L);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        out.write(mac.doFinal(bytes.toByteArray()));
+        return bytes.toByteArray();
+    }
+
+    static int[] freePorts(int count) throws Exception {
+        int[] ports = new int[count];
+        List<DatagramSocket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                DatagramSocket socket = new DatagramSocket(0, InetAddress.getByName(HOST));
+                sockets.add(socket);
+                ports[i] = socket.getLocalPort();
+            }
+        } finally {
+            sockets.forEach(DatagramSocket::close);
+        }
+        return ports;
+    }
+
+    static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,89 @@
+package com.lecture.auth.repository.replicated;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인스턴스마다 별도 JVM(ReplicatedCounterNode)을 띄워 같은 키에 동시에 요청을 보내고
+ * 최종 카운트 수렴과 초과 허용(over-admission) 양을 확인합니다.
+ *
+ * 초과 허용 상한: 한 인스턴스가 아직 받지 못한 다른 인스턴스의 증가분만큼 더 허용할 수 있으므로
+ * (인스턴스 수 - 1) x 인스턴스당 요청률 x gossip 주기 x 인스턴스 수 정도입니다. (패킷 유실 없는 loopback 기준)
+ */
+class ReplicatedCounterConvergenceTest {
+
+    private static final int NODES = 3;
+    private static final int ATTEMPTS = 1000;  // 인스턴스당 요청 수
+    private static final long INTERVAL_MICROS = 1000;  // 인스턴스당 1 req/ms
+    private static final long LIMIT = 1500;
+    private static final Pattern RESULT = Pattern.compile("allowed=(\\d+) final=(\\d+)");
+
+    @Test
+    void nodesInSeparateJvmsConvergeAndOverAdmissionIsBounded() throws Exception {
+        int[] ports = RateLimitingRepositoryUsingReplicatedCounterTest.freePorts(NODES);
+        long startAt = System.currentTimeMillis() + 5_000;  // JVM 시작 시간
+
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            processes.add(start(ports[i], peersOf(ports, i), startAt));
+        }
+
+        long allowed = 0;
+        for (Process process : processes) {
+            assertThat(process.waitFor(60, TimeUnit.SECONDS)).isTrue();
+            String output = read(process);
+            System.out.print(output);
+            Matcher result = RESULT.matcher(output);
+            assertThat(result.find()).as(output).isTrue();
+            // 모든 인스턴스가 전체 증가분으로 수렴
+            assertThat(Long.parseLong(result.group(2))).isEqualTo((long) NODES * ATTEMPTS);
+            allowed += Long.parseLong(result.group(1));
+        }
+
+        long requestsPerGossip = ReplicatedCounterNode.GOSSIP_INTERVAL_MILLIS * 1000 / INTERVAL_MICROS;
+        long bound = (long) (NODES - 1) * requestsPerGossip * NODES;
+        System.out.println("limit=" + LIMIT + " allowed=" + allowed + " overAdmission=" + (allowed - LIMIT) + " bound=" + bound);
+        assertThat(allowed).isBetween(LIMIT, LIMIT + bound);
+    }
+
+    private static Process start(int port, String peers, long startAt) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        return new ProcessBuilder(
+            java, "-cp", System.getProperty("java.class.path"), ReplicatedCounterNode.class.getName(),
+            String.valueOf(port), peers, String.valueOf(startAt),
+            String.valueOf(ATTEMPTS), String.valueOf(LIMIT), String.valueOf(INTERVAL_MICROS)
+        ).redirectErrorStream(true).start();
+    }
+
+    private static String peersOf(int[] ports, int self) {
+        List<String> peers = new ArrayList<>();
+        for (int i = 0; i < ports.length; i++) {
+            if (i != self) {
+                peers.add(RateLimitingRepositoryUsingReplicatedCounterTest.HOST + ":" + ports[i]);
+            }
+        }
+        return String.join(",", peers);
+    }
+
+    private static String read(Process process) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            StringBuilder output = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append('\n');
+            }
+            return output.toString();
+        }
+    }
+}
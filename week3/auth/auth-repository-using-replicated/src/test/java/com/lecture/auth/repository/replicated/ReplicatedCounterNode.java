@@ -0,0 +1,59 @@
+package com.lecture.auth.repository.replicated;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 별도 JVM에서 실행하는 인스턴스 (ReplicatedCounterConvergenceTest에서 사용)
+ *
+ * startAt 시각부터 attempts번 한 키를 증가시키고(요청 1건 = 증가 1), 한도 이하로 읽힌 요청을 허용으로 셉니다.
+ * 전체 동기화가 끝날 때까지 기다린 뒤 "allowed=<허용 수> final=<최종 카운트>"를 출력합니다.
+ *
+ * args: port, peers, startAt(epoch ms), attempts, limit, intervalMicros
+ */
+class ReplicatedCounterNode {
+
+    static final String KEY = "rate_limit:login:ip:1.2.3.4";
+    static final long TTL_SECONDS = 3600;
+    static final long GOSSIP_INTERVAL_MILLIS = 50;
+    static final long FULL_SYNC_INTERVAL_MILLIS = 500;
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.parseInt(args[0]);
+        String peers = args[1];
+        long startAt = Long.parseLong(args[2]);
+        int attempts = Integer.parseInt(args[3]);
+        long limit = Long.parseLong(args[4]);
+        long intervalNanos = Long.parseLong(args[5]) * 1000;
+
+        RateLimitingRepositoryUsingReplicatedCounter repository = new RateLimitingRepositoryUsingReplicatedCounter(
+            RateLimitingRepositoryUsingReplicatedCounterTest.HOST,
+            port,
+            peers,
+            RateLimitingRepositoryUsingReplicatedCounterTest.SECRET,
+            GOSSIP_INTERVAL_MILLIS,
+            FULL_SYNC_INTERVAL_MILLIS,
+            100_000
+        );
+        while (System.currentTimeMillis() < startAt) {
+            Thread.sleep(1);
+        }
+        long startedLate = System.currentTimeMillis() - startAt;
+
+        long allowed = 0;
+        long next = System.nanoTime();
+        for (int i = 0; i < attempts; i++) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);  // CPU를 양보해 복제 스레드가 함께 실행되도록
+            }
+            next += intervalNanos;
+            if (repository.incrementAndGet(KEY, TTL_SECONDS) <= limit) {
+                allowed++;
+            }
+        }
+
+        Thread.sleep(FULL_SYNC_INTERVAL_MILLIS * 4);
+        System.out.println("allowed=" + allowed + " final=" + repository.getCount(KEY) + " startedLateMillis=" + startedLate);
+        repository.shutdown();
+    }
+}
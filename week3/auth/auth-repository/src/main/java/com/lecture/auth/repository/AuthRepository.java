@@ -9,4 +9,19 @@ public interface AuthRepository {
     void deleteRefreshTokenByUserId(Long userId);
     void deleteAccessTokenByUserId(Long userId);
     Optional<Long> findUserIdByToken(String token);
+    
+    /**
+     * 만료되지 않은 토큰을 만료 시각과 함께 조회합니다.
+     * 캐시 구현체가 토큰 자체의 expiresAt에 맞춰 엔트리를 만료시킬 때 사용합니다.
+     */
+    Optional<AuthToken> findByToken(String token);
+    
+    /**
+     * 유저의 기존 토큰을 모두 지우고 새 토큰을 저장하는 작업을 원자적으로 수행합니다.
+     * 같은 유저가 동시에 로그인해도 유저당 토큰 쌍은 하나만 남습니다.
+     * (JPA: (user_id, kind) 유니크 제약 위반 시 재시도, Redis: Lua 스크립트 한 번)
+     * 
+     * @param accessToken 저장하지 않는 토큰 모드(signed)에서는 null
+     */
+    void rotateTokens(Long userId, AuthToken accessToken, AuthToken refreshToken);
 }
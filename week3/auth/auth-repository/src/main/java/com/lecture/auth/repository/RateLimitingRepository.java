@@ -1,5 +1,9 @@
 package com.lecture.auth.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * RateLimitingRepository 인터페이스
  * 
@@ -14,8 +18,97 @@ public interface RateLimitingRepository {
      */
     Long incrementAndGet(String key, long ttlSeconds);
     
+    /**
+     * 여러 키를 순서대로 증가시키고 각 키의 값을 반환합니다.
+     * 키가 없으면 1로 시작하고 ttlSeconds 후 만료됩니다.
+     * 
+     * limits[i]를 넘은 키가 나오면 그 뒤의 키는 증가시키지 않습니다.
+     * 따라서 반환 목록은 keys보다 짧을 수 있으며, 마지막 값이 한도를 넘었는지로 차단 여부를 판단합니다.
+     * 
+     * 기본 구현은 incrementAndGet을 키마다 호출합니다.
+     * 원격 저장소 구현체는 한 번의 왕복으로 처리하도록 재정의합니다.
+     */
+    default List<Long> incrementAndGetAll(List<String> keys, List<Long> limits, long ttlSeconds) {
+        List<Long> counts = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Long count = incrementAndGet(keys.get(i), ttlSeconds);
+            counts.add(count);
+            if (count > limits.get(i)) {
+                break;
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * 여러 키에 각각 deltas[i]를 더하고 각 키의 값을 반환합니다. (한도 체크 없음)
+     * 키가 없으면 deltas[i]로 시작하고 ttlSeconds 후 만료됩니다.
+     * 로컬에서 모은 증가분을 원격 저장소에 한 번에 반영할 때 사용합니다.
+     */
+    List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds);
+    
+    /**
+     * 여러 키의 값에서 amounts[i]를 뺍니다. (0 아래로 내려가지 않음)
+     * 키가 없거나 만료되었으면 아무것도 하지 않고(새 키를 만들지 않음), 값이 0이 되면 키를 삭제합니다.
+     * 원격에 반영한 로컬 카운트를 비울 때 사용합니다.
+     * 
+     * 기본 구현은 지원하지 않습니다. (장애 대비 로컬 저장소만 재정의)
+     */
+    default void subtractAll(List<String> keys, List<Long> amounts) {
+        throw new UnsupportedOperationException("subtractAll is not supported by " + getClass().getSimpleName());
+    }
+    
+    /**
+     * 키의 현재 값을 반환합니다. 키가 없거나 만료되었으면 0을 반환합니다.
+     */
+    long getCount(String key);
+    
+    /**
+     * 여러 키의 현재 값을 반환합니다. (증가시키지 않음, 키 순서와 같은 순서)
+     * 기본 구현은 getCount를 키마다 호출합니다.
+     */
+    default List<Long> getCounts(List<String> keys) {
+        List<Long> counts = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            counts.add(getCount(key));
+        }
+        return counts;
+    }
+    
+    /**
+     * 슬라이딩 윈도우 카운터
+     * currentKey를 증가시키고(키가 없으면 ttlSeconds 후 만료), previousKey 값에 previousWeight(0~1)를 곱해 더한 추정치를 반환합니다.
+     * 
+     * 기본 구현은 incrementAndGet과 getCount를 차례로 호출합니다.
+     */
+    default long incrementAndGetWeighted(String currentKey, String previousKey, double previousWeight, long ttlSeconds) {
+        long current = incrementAndGet(currentKey, ttlSeconds);
+        return current + (long) (getCount(previousKey) * previousWeight);
+    }
+    
+    /**
+     * GCRA (Generic Cell Rate Algorithm)
+     * 키에 저장된 TAT(theoretical arrival time)로 이번 요청의 새 TAT = max(TAT, now) + emissionInterval을 계산합니다.
+     * 새 TAT - now <= burstTolerance + emissionInterval이면 허용으로 보고 새 TAT를 저장합니다. (TAT 시각에 만료)
+     * 허용되지 않으면 저장하지 않습니다.
+     * 
+     * 허용 여부와 관계없이 계산한 새 TAT를 반환하므로 호출자는 같은 식으로 허용 여부와 대기 시간을 판단합니다.
+     * 키 하나에 타임스탬프 하나만 저장합니다.
+     */
+    long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis);
+    
     /**
      * 키를 삭제합니다.
      */
     void delete(String key);
+    
+    /**
+     * 여러 키를 삭제합니다.
+     * 기본 구현은 delete를 키마다 호출합니다.
+     */
+    default void deleteAll(Collection<String> keys) {
+        for (String key : keys) {
+            delete(key);
+        }
+    }
 }
@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     implementation(project(":auth:auth-domain"))
     implementation(project(":auth:auth-repository"))
@@ -7,4 +11,5 @@ dependencies {
     compileOnly("jakarta.servlet:jakarta.servlet-api:6.0.0")
     
     implementation("org.springframework:spring-context")
+    implementation("org.springframework.boot:spring-boot-autoconfigure")  // @ConditionalOnProperty (토큰 모드 선택)
 }
@@ -0,0 +1,155 @@
+package com.lecture.auth.service;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.domain.AuthUser;
+import com.lecture.auth.repository.AuthRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Access Token 검증 지연: signed vs stored
+ *
+ * - signedResolve: HMAC-SHA256 서명 검증 + 만료 확인 (I/O 없음)
+ * - storedResolve: AuthRepository 조회 한 번
+ *   저장소는 메모리 맵이며, roundTripMicros만큼 대기해 Redis/DB 왕복을 흉내 냅니다.
+ *   (0: 맵 조회 비용만, 200: 같은 리전 Redis 왕복 수준, parkNanos 타이머 오차로 실제 대기는 조금 더 김)
+ * - signedIssue / storedIssue: 발급 비용 (stored는 저장이 AuthService에서 따로 일어나므로 포함하지 않음)
+ *
+ * 실행: ./gradlew :auth:auth-service:jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessTokenProviderBenchmark {
+
+    private static final String SIGNING_SECRET = "benchmark-signing-secret-0123456789abcdef";
+    private static final AuthUser USER = new AuthUser(7L, "user@example.com", "user", "password", "010-0000-0000");
+
+    @State(Scope.Thread)
+    public static class Signed {
+        SignedAccessTokenProvider provider;
+        StoredAccessTokenProvider storedProvider;
+        String token;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            provider = new SignedAccessTokenProvider(SIGNING_SECRET);
+            storedProvider = new StoredAccessTokenProvider(new InMemoryAuthRepository(0L));
+            token = provider.issue(USER).getToken();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Stored {
+        @Param({"0", "200"})
+        public long roundTripMicros;
+
+        StoredAccessTokenProvider provider;
+        String token;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            InMemoryAuthRepository repository = new InMemoryAuthRepository(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+            provider = new StoredAccessTokenProvider(repository);
+            AuthToken accessToken = provider.issue(USER);
+            repository.saveAccessToken(accessToken);
+            token = accessToken.getToken();
+        }
+    }
+
+    @Benchmark
+    public Optional<Long> signedResolve(Signed signed) {
+        return signed.provider.resolveUserId(signed.token);
+    }
+
+    @Benchmark
+    public Optional<Long> storedResolve(Stored stored) {
+        return stored.provider.resolveUserId(stored.token);
+    }
+
+    @Benchmark
+    public AuthToken signedIssue(Signed signed) {
+        return signed.provider.issue(USER);
+    }
+
+    @Benchmark
+    public AuthToken storedIssue(Signed signed) {
+        return signed.storedProvider.issue(USER);  // 발급은 저장소를 사용하지 않음
+    }
+
+    /**
+     * 조회마다 roundTripNanos만큼 대기하는 메모리 AuthRepository
+     */
+    private static class InMemoryAuthRepository implements AuthRepository {
+        private final Map<String, AuthToken> tokens = new ConcurrentHashMap<>();
+        private final long roundTripNanos;
+
+        InMemoryAuthRepository(long roundTripNanos) {
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        @Override
+        public void saveRefreshToken(AuthToken refreshToken) {
+            tokens.put(refreshToken.getToken(), refreshToken);
+        }
+
+        @Override
+        public void saveAccessToken(AuthToken accessToken) {
+            tokens.put(accessToken.getToken(), accessToken);
+        }
+
+        @Override
+        public void deleteRefreshTokenByUserId(Long userId) {
+            tokens.values().removeIf(token -> token.getUserId().equals(userId));
+        }
+
+        @Override
+        public void deleteAccessTokenByUserId(Long userId) {
+            tokens.values().removeIf(token -> token.getUserId().equals(userId));
+        }
+
+        @Override
+        public Optional<Long> findUserIdByToken(String token) {
+            return findByToken(token).map(AuthToken::getUserId);
+        }
+
+        @Override
+        public Optional<AuthToken> findByToken(String token) {
+            if (roundTripNanos > 0) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+            AuthToken found = tokens.get(token);
+            if (found == null || found.getExpiresAt() <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(found);
+        }
+
+        @Override
+        public void rotateTokens(Long userId, AuthToken accessToken, AuthToken refreshToken) {
+            deleteAccessTokenByUserId(userId);
+            if (accessToken != null) {
+                saveAccessToken(accessToken);
+            }
+            saveRefreshToken(refreshToken);
+        }
+    }
+}
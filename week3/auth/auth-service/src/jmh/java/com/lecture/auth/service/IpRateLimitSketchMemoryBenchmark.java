@@ -0,0 +1,92 @@
+package com.lecture.auth.service;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IP 기준 Rate Limit의 메모리: IpRateLimitSketch vs IP별 정확한 카운터
+ *
+ * 서로 다른 IP distinctIps개가 한 번씩 요청했을 때 남는 힙 크기(retainedBytes)를 비교합니다.
+ * 정확한 카운터는 로컬 저장소처럼 IP마다 키 문자열 + 맵 엔트리 + 카운터를 만듭니다.
+ * sketch는 IP 수와 무관하게 width x depth x 4바이트입니다.
+ *
+ * 실행: ./gradlew :auth:auth-service:jmh
+ * (결과의 retainedBytes 행을 비교, 시간 행은 IP distinctIps개를 기록하는 데 걸린 시간)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Thread)
+public class IpRateLimitSketchMemoryBenchmark {
+
+    private static final String KEY_PREFIX = "rate_limit:login:ip:";
+    private static final long WINDOW_MILLIS = 3_600_000L;
+
+    @Param({"10000", "100000", "1000000"})
+    public int distinctIps;
+
+    private String[] ips;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Memory {
+        public long retainedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ips = new String[distinctIps];
+        for (int i = 0; i < distinctIps; i++) {
+            ips[i] = (i >>> 24) + "." + ((i >>> 16) & 0xff) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public Object sketch(Memory memory) {
+        long before = usedHeap();
+        long now = System.currentTimeMillis();
+        IpRateLimitSketch sketch = new IpRateLimitSketch(262_144, 4);
+        for (String ip : ips) {
+            sketch.incrementAndGet(ip, WINDOW_MILLIS, now);
+        }
+        memory.retainedBytes = usedHeap() - before;
+        return sketch;
+    }
+
+    @Benchmark
+    public Object exactCounters(Memory memory) {
+        long before = usedHeap();
+        Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+        for (String ip : ips) {
+            counters.computeIfAbsent(KEY_PREFIX + ip, key -> new AtomicLong()).incrementAndGet();
+        }
+        memory.retainedBytes = usedHeap() - before;
+        return counters;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,36 @@
+package com.lecture.auth.service;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.domain.AuthUser;
+
+import java.util.Optional;
+
+/**
+ * AccessTokenProvider
+ * 
+ * Access Token의 발급과 검증 방식을 추상화합니다.
+ * 배포 환경마다 auth.access-token.mode 설정으로 구현체를 선택합니다.
+ * 
+ * - stored: UUID 토큰을 AuthRepository에 저장하고 조회로 검증 (기본값)
+ * - signed: userId, 만료 시각, HMAC 서명을 담은 토큰을 I/O 없이 검증
+ * 
+ * Refresh Token은 두 방식 모두 AuthRepository에 저장합니다.
+ */
+public interface AccessTokenProvider {
+    
+    /**
+     * Access Token을 발급합니다.
+     */
+    AuthToken issue(AuthUser authUser);
+    
+    /**
+     * Access Token을 검증하고 userId를 반환합니다.
+     * 유효하지 않거나 만료된 토큰이면 빈 값을 반환합니다.
+     */
+    Optional<Long> resolveUserId(String token);
+    
+    /**
+     * 발급한 토큰을 AuthRepository에 저장해야 하는지 여부
+     */
+    boolean isStored();
+}
@@ -17,7 +17,7 @@ import org.springframework.stereotype.Service;
  * 
  * 책임:
  * 1. 비밀번호 검증
- * 2. Access Token 생성
+ * 2. Access Token 생성 (AccessTokenProvider에 위임, stored 모드일 때만 저장)
  * 3. Refresh Token 생성 및 저장
  */
 @Service
@@ -25,6 +25,7 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final AuthRepository authRepository;
+    private final AccessTokenProvider accessTokenProvider;
 
     /**
      * 로그인 처리: 비밀번호 검증 및 토큰 생성
@@ -35,28 +36,21 @@ public class AuthService {
             throw new RuntimeException("Invalid password");
         }
         
-        // 2. Access Token 생성 및 저장 (Bearer 토큰 인증을 위해 저장)
-        AuthToken accessToken = generateAccessToken(authUser);
-        authRepository.deleteAccessTokenByUserId(authUser.getId());
-        authRepository.saveAccessToken(accessToken);
-        
-        // 3. Refresh Token 생성 및 저장 (도메인 객체를 직접 전달)
+        // 2. Access Token, Refresh Token 생성
+        AuthToken accessToken = accessTokenProvider.issue(authUser);
         AuthToken refreshToken = generateRefreshToken(authUser);
-        authRepository.deleteRefreshTokenByUserId(authUser.getId());
-        authRepository.saveRefreshToken(refreshToken);
+        
+        // 3. 기존 토큰 삭제 + 새 토큰 저장을 한 번에 원자적으로 처리
+        //    (Access Token은 stored 모드에서만 Bearer 토큰 인증을 위해 저장)
+        authRepository.rotateTokens(
+            authUser.getId(),
+            accessTokenProvider.isStored() ? accessToken : null,
+            refreshToken
+        );
         
         return new LoginResult(accessToken, refreshToken);
     }
     
-    /**
-     * Access Token 생성 (1시간 유효)
-     */
-    private AuthToken generateAccessToken(AuthUser authUser) {
-        String token = java.util.UUID.randomUUID().toString();
-        Long expiresAt = System.currentTimeMillis() + (60 * 60 * 1000); // 1시간
-        return new AuthToken(token, authUser.getId(), expiresAt);
-    }
-    
     /**
      * Refresh Token 생성 (24시간 유효)
      */
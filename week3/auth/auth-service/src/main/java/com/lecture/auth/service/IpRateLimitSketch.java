@@ -0,0 +1,163 @@
+package com.lecture.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * IpRateLimitSketch
+ *
+ * IP 기준 Rate Limit을 위한 window 단위 Count-Min Sketch입니다.
+ * IP마다 카운터(맵/Redis 엔트리)를 만들지 않으므로 서로 다른 IP가 몇 개가 들어와도 메모리가 고정입니다.
+ * (X-Forwarded-For를 바꿔 가며 들어오는 요청이 몰려도 키 공간이 늘어나지 않음)
+ *
+ * 동작:
+ * - depth개의 행, 행마다 width개의 카운터 (int, width x depth x 4바이트)
+ * - 추정치: 행마다 IP의 해시 위치 카운터 중 최솟값
+ * - 증가: conservative update (최솟값 + 1보다 작은 카운터만 최솟값 + 1로 올림)
+ *   모든 카운터를 1씩 올리는 방식보다 충돌로 인한 과대 추정이 크게 줄어듭니다.
+ *   (IP 하나당 요청 하나씩 들어오는 대량 위조 요청이 다른 IP의 카운터를 거의 올리지 않음)
+ * - 추정치는 실제 횟수보다 작지 않습니다. (한도를 넘은 IP는 반드시 차단)
+ *   같은 IP의 증가는 해시로 나눈 락에서 직렬화하고, 카운터는 CAS로 올리기만 하므로 동시 요청에서도 유지됩니다.
+ * - window(now / windowMillis)가 바뀌면 새 테이블로 교체합니다. (정렬된 고정 window)
+ * - 해시는 인스턴스마다 임의의 seed를 사용하여, 특정 IP와 충돌하는 값을 외부에서 만들 수 없습니다.
+ *
+ * 노드 로컬 카운트이므로 여러 인스턴스에서는 인스턴스별로 한도가 적용됩니다.
+ *
+ * 활성화: auth.rate-limit.ip.sketch.enabled=true
+ */
+@Component
+@ConditionalOnProperty(name = "auth.rate-limit.ip.sketch.enabled", havingValue = "true")
+public class IpRateLimitSketch {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final int width;
+    private final int depth;
+    private final long seed;
+
+    private final AtomicReference<Window> current = new AtomicReference<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public IpRateLimitSketch(
+        @Value("${auth.rate-limit.ip.sketch.width:262144}") int width,
+        @Value("${auth.rate-limit.ip.sketch.depth:4}") int depth)
+    {
+        if (width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two: " + width);
+        }
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth must be positive: " + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.seed = new SecureRandom().nextLong();
+        this.current.set(new Window(Long.MIN_VALUE, 0));  // 첫 요청에서 테이블 생성
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 현재 window에서 IP의 카운트를 1 증가시키고 추정치를 반환합니다.
+     */
+    public long incrementAndGet(String ip, long windowMillis, long now) {
+        AtomicIntegerArray table = tableOf(now / windowMillis);
+        long hash = hash(ip);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        synchronized (locks[h1 & (LOCK_STRIPES - 1)]) {
+            int estimate = Integer.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                estimate = Math.min(estimate, table.get(row * width + ((h1 + row * h2) & (width - 1))));
+            }
+            int target = estimate + 1;
+            for (int row = 0; row < depth; row++) {
+                int index = row * width + ((h1 + row * h2) & (width - 1));
+                int count;
+                while ((count = table.get(index)) < target && !table.compareAndSet(index, count, target)) {
+                    // 다른 IP가 먼저 올린 경우 다시 비교
+                }
+            }
+            return target;
+        }
+    }
+
+    /**
+     * 현재 window에서 IP의 추정치를 반환합니다. (증가시키지 않음)
+     */
+    public long estimate(String ip, long windowMillis, long now) {
+        Window window = current.get();
+        if (window.index != now / windowMillis) {
+            return 0L;
+        }
+        long hash = hash(ip);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, window.table.get(row * width + ((h1 + row * h2) & (width - 1))));
+        }
+        return estimate;
+    }
+
+    /**
+     * 카운터 테이블 크기 (바이트, IP 수와 무관)
+     */
+    public long getMemoryBytes() {
+        return (long) width * depth * Integer.BYTES;
+    }
+
+    /**
+     * window에 해당하는 테이블을 반환합니다. window가 지났으면 새 테이블로 교체합니다.
+     * 이전 window의 요청(시계 차이 등)은 현재 테이블에 기록합니다.
+     */
+    private AtomicIntegerArray tableOf(long index) {
+        while (true) {
+            Window window = current.get();
+            if (window.index >= index) {
+                return window.table;
+            }
+            Window next = new Window(index, width * depth);
+            if (current.compareAndSet(window, next)) {
+                return next.table;
+            }
+        }
+    }
+
+    /**
+     * seed를 섞은 64비트 해시 (FNV-1a + murmur3 fmix64)
+     * 하위/상위 32비트를 두 해시로 사용합니다. (행별 위치 = h1 + row * h2)
+     */
+    private long hash(String ip) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        byte[] bytes = ip.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static class Window {
+        final long index;
+        final AtomicIntegerArray table;
+
+        Window(long index, int size) {
+            this.index = index;
+            this.table = new AtomicIntegerArray(size);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.lecture.auth.service;
+
+import com.lecture.auth.domain.RateLimitAlgorithm;
+import lombok.Getter;
+
+/**
+ * Rate Limit 정책
+ * 
+ * 키 계열(전화번호, Device ID, IP)마다 알고리즘과 "windowSeconds 동안 limit회"를 지정합니다.
+ */
+@Getter
+public class RateLimitPolicy {
+    private final RateLimitAlgorithm algorithm;
+    private final RateLimitStrategy strategy;
+    private final long limit;
+    private final long windowSeconds;
+    
+    public RateLimitPolicy(RateLimitAlgorithm algorithm, long limit, long windowSeconds) {
+        if (limit <= 0 || windowSeconds <= 0) {
+            throw new IllegalArgumentException(
+                "limit and windowSeconds must be positive: " + limit + ", " + windowSeconds
+            );
+        }
+        this.algorithm = algorithm;
+        this.strategy = RateLimitStrategy.of(algorithm);
+        this.limit = limit;
+        this.windowSeconds = windowSeconds;
+    }
+    
+    public long getWindowMillis() {
+        return windowSeconds * 1000;
+    }
+}
@@ -0,0 +1,159 @@
+package com.lecture.auth.service;
+
+import com.lecture.auth.domain.RateLimitAlgorithm;
+import com.lecture.auth.domain.RateLimitDecision;
+import com.lecture.auth.repository.RateLimitingRepository;
+
+import java.util.List;
+
+/**
+ * Rate Limit 알고리즘(RateLimitAlgorithm)별 구현
+ *
+ * FIXED_WINDOW: 첫 요청부터 window 동안 limit회 (키당 카운터 하나)
+ *   - window 경계에서 최대 2배까지 몰릴 수 있고, 초과 시 window가 끝날 때까지 차단됩니다.
+ *   - window 시작 시각을 저장하지 않으므로 resetAt은 상한(now + window)입니다.
+ * SLIDING_WINDOW: 현재 window 카운트 + 이전 window 카운트 x 남은 비율 (키당 카운터 두 개)
+ *   - 경계에서 몰리는 요청을 막고, 차단은 이전 window의 비중이 줄어드는 만큼 점차 풀립니다.
+ *   - resetAt은 현재 window가 끝나는 시각입니다.
+ * GCRA: window / limit 간격으로 요청 하나씩 허용, 최대 limit회까지 한 번에 허용 (키당 타임스탬프 하나)
+ *   - 한도를 다 쓰면 전체 window가 아니라 간격(window / limit)만큼만 기다리면 됩니다.
+ *   - resetAt은 다음 요청이 허용되는 정확한 시각입니다.
+ *
+ * 알고리즘마다 다른 키 접미사를 사용하므로 알고리즘을 바꿔도 기존 값과 섞이지 않습니다.
+ */
+public enum RateLimitStrategy {
+    FIXED_WINDOW {
+        @Override
+        public RateLimitDecision acquire(RateLimitingRepository repository, String key, RateLimitPolicy policy, long now) {
+            return decide(repository.incrementAndGet(key, policy.getWindowSeconds()), policy, now);
+        }
+
+        @Override
+        public List<String> storageKeys(String key, RateLimitPolicy policy, long now) {
+            return List.of(key);
+        }
+
+        @Override
+        public RateLimitDecision inspect(List<Long> values, RateLimitPolicy policy, long now) {
+            // 다음 요청을 기록했다고 가정
+            return decide(values.get(0) + 1, policy, now);
+        }
+    },
+    SLIDING_WINDOW {
+        @Override
+        public RateLimitDecision acquire(RateLimitingRepository repository, String key, RateLimitPolicy policy, long now) {
+            long window = now / policy.getWindowMillis();
+            long estimated = repository.incrementAndGetWeighted(
+                windowKey(key, window),
+                windowKey(key, window - 1),
+                previousWeight(policy, now),
+                policy.getWindowSeconds() * 2  // 다음 window에서 이전 window로 읽힘
+            );
+            return decide(estimated, policy, now);
+        }
+
+        @Override
+        public List<String> storageKeys(String key, RateLimitPolicy policy, long now) {
+            long window = now / policy.getWindowMillis();
+            return List.of(windowKey(key, window), windowKey(key, window - 1));
+        }
+
+        @Override
+        public RateLimitDecision inspect(List<Long> values, RateLimitPolicy policy, long now) {
+            long estimated = values.get(0) + (long) (values.get(1) * previousWeight(policy, now));
+            return decide(estimated + 1, policy, now);
+        }
+
+        @Override
+        protected long resetAt(RateLimitPolicy policy, long now) {
+            long windowMillis = policy.getWindowMillis();
+            return (now / windowMillis + 1) * windowMillis;
+        }
+
+        private double previousWeight(RateLimitPolicy policy, long now) {
+            long windowMillis = policy.getWindowMillis();
+            return 1.0 - (double) (now % windowMillis) / windowMillis;
+        }
+
+        private String windowKey(String key, long window) {
+            return key + ":sw:" + window;
+        }
+    },
+    GCRA {
+        @Override
+        public RateLimitDecision acquire(RateLimitingRepository repository, String key, RateLimitPolicy policy, long now) {
+            long emissionInterval = emissionInterval(policy);
+            long burstTolerance = emissionInterval * (policy.getLimit() - 1);
+            long tat = repository.acquireGcra(gcraKey(key), emissionInterval, burstTolerance, now);
+            return decideByTat(tat, policy, now);
+        }
+
+        @Override
+        public List<String> storageKeys(String key, RateLimitPolicy policy, long now) {
+            return List.of(gcraKey(key));
+        }
+
+        @Override
+        public RateLimitDecision inspect(List<Long> values, RateLimitPolicy policy, long now) {
+            return decideByTat(Math.max(values.get(0), now) + emissionInterval(policy), policy, now);
+        }
+
+        /**
+         * tat: 이번 요청을 기록했을 때의 TAT
+         * 허용이면 남은 횟수 = 남은 허용 폭 / 간격, 차단이면 저장된 TAT - burstTolerance 시각부터 허용
+         */
+        private RateLimitDecision decideByTat(long tat, RateLimitPolicy policy, long now) {
+            long emissionInterval = emissionInterval(policy);
+            long burstTolerance = emissionInterval * (policy.getLimit() - 1);
+            long slack = burstTolerance + emissionInterval - (tat - now);
+            if (slack < 0) {
+                return RateLimitDecision.rejected(policy.getLimit(), tat - emissionInterval - burstTolerance);
+            }
+            return RateLimitDecision.allowed(policy.getLimit(), slack / emissionInterval, tat);
+        }
+
+        private long emissionInterval(RateLimitPolicy policy) {
+            return policy.getWindowMillis() / policy.getLimit();
+        }
+
+        private String gcraKey(String key) {
+            return key + ":gcra";
+        }
+    };
+
+    public static RateLimitStrategy of(RateLimitAlgorithm algorithm) {
+        return valueOf(algorithm.name());
+    }
+
+    /**
+     * 요청 하나를 기록하고 판단 결과를 반환합니다.
+     */
+    public abstract RateLimitDecision acquire(RateLimitingRepository repository, String key, RateLimitPolicy policy, long now);
+
+    /**
+     * 저장소 키 목록을 반환합니다. (리셋 시 삭제, 읽기 전용 확인 시 조회)
+     */
+    public abstract List<String> storageKeys(String key, RateLimitPolicy policy, long now);
+
+    /**
+     * storageKeys 순서로 조회한 값으로, 다음 요청을 기록하면 어떻게 판단될지 반환합니다. (기록하지 않음)
+     */
+    public abstract RateLimitDecision inspect(List<Long> values, RateLimitPolicy policy, long now);
+
+    /**
+     * 카운터 값(이번 요청 포함)으로 판단합니다. (FIXED_WINDOW, SLIDING_WINDOW)
+     */
+    public RateLimitDecision decide(long count, RateLimitPolicy policy, long now) {
+        if (count > policy.getLimit()) {
+            return RateLimitDecision.rejected(policy.getLimit(), resetAt(policy, now));
+        }
+        return RateLimitDecision.allowed(policy.getLimit(), policy.getLimit() - count, resetAt(policy, now));
+    }
+
+    /**
+     * 카운터가 초기화되는 시각 (기본: 상한 now + window)
+     */
+    protected long resetAt(RateLimitPolicy policy, long now) {
+        return now + policy.getWindowMillis();
+    }
+}
@@ -1,104 +1,272 @@
 package com.lecture.auth.service;
 
+import com.lecture.auth.domain.RateLimitAlgorithm;
+import com.lecture.auth.domain.RateLimitDecision;
 import com.lecture.auth.infrastructure.DeviceInfo;
 import com.lecture.auth.repository.RateLimitingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * RateLimitingService
- * 
+ *
  * Rate Limiting 로직을 처리하는 Service입니다.
  * 전화번호, Device ID, IP 기반으로 다중 체크를 수행합니다.
+ *
+ * 키 계열마다 알고리즘(FIXED_WINDOW, SLIDING_WINDOW, GCRA)과 한도를 설정으로 지정합니다.
+ * (auth.rate-limit.{phone|device|ip}.*)
+ *
+ * IP는 sketch 모드(IpRateLimitSketch)를 켜면 IP별 카운터 대신 고정 크기의 Count-Min Sketch로 셉니다.
+ * (이 경우 IP는 ip.algorithm과 무관하게 정렬된 고정 window로 판단하며, 실제보다 적게 세지 않습니다)
+ *
+ * 차단은 예외가 아닌 RateLimitDecision으로 반환합니다.
+ * (공격 중 가장 많이 실행되는 차단 경로에서 스택 트레이스를 만들지 않음)
  */
 @Service
 @RequiredArgsConstructor
 public class RateLimitingService {
-    
+
     private final RateLimitingRepository rateLimitingRepository;
-    
-    private static final long MAX_REQUESTS_PER_HOUR_BY_PHONE = 5L;
-    private static final long MAX_REQUESTS_PER_HOUR_BY_DEVICE = 5L;
-    private static final long MAX_REQUESTS_PER_HOUR_BY_IP = 100L;
-    private static final long RATE_LIMIT_WINDOW_SECONDS = 60 * 60L; // 1시간
-    
+    private final Optional<IpRateLimitSketch> ipRateLimitSketch;  // auth.rate-limit.ip.sketch.enabled=true인 경우
+
+    @Value("${auth.rate-limit.phone.algorithm:FIXED_WINDOW}")
+    private RateLimitAlgorithm phoneAlgorithm;
+
+    @Value("${auth.rate-limit.phone.limit:5}")
+    private long phoneLimit;
+
+    @Value("${auth.rate-limit.phone.window-seconds:3600}")
+    private long phoneWindowSeconds;
+
+    @Value("${auth.rate-limit.device.algorithm:FIXED_WINDOW}")
+    private RateLimitAlgorithm deviceAlgorithm;
+
+    @Value("${auth.rate-limit.device.limit:5}")
+    private long deviceLimit;
+
+    @Value("${auth.rate-limit.device.window-seconds:3600}")
+    private long deviceWindowSeconds;
+
+    @Value("${auth.rate-limit.ip.algorithm:FIXED_WINDOW}")
+    private RateLimitAlgorithm ipAlgorithm;
+
+    @Value("${auth.rate-limit.ip.limit:100}")
+    private long ipLimit;
+
+    @Value("${auth.rate-limit.ip.window-seconds:3600}")
+    private long ipWindowSeconds;
+
     private static final String PHONE_RATE_LIMIT_KEY_PREFIX = "rate_limit:login:phone:";
     private static final String DEVICE_RATE_LIMIT_KEY_PREFIX = "rate_limit:login:device:";
     private static final String IP_RATE_LIMIT_KEY_PREFIX = "rate_limit:login:ip:";
-    
+
     /**
      * Rate Limit 체크
      * 전화번호, Device ID, IP를 모두 체크합니다.
      */
-    public void checkRateLimit(String phoneNumber, DeviceInfo deviceInfo) {
-        checkPhoneRateLimit(phoneNumber);
-        checkDeviceRateLimit(deviceInfo);
+    public RateLimitDecision checkRateLimit(String phoneNumber, DeviceInfo deviceInfo) {
+        return checkWithIp(
+            List.of(
+                PHONE_RATE_LIMIT_KEY_PREFIX + phoneNumber,
+                DEVICE_RATE_LIMIT_KEY_PREFIX + deviceInfo.getDeviceId()
+            ),
+            List.of(phonePolicy(), devicePolicy()),
+            deviceInfo.getClientIp()
+        );
     }
-    
+
     /**
      * 전화번호 기반 Rate Limit 체크
      */
-    public void checkPhoneRateLimit(String phoneNumber) {
-        String key = PHONE_RATE_LIMIT_KEY_PREFIX + phoneNumber;
-        Long count = rateLimitingRepository.incrementAndGet(key, RATE_LIMIT_WINDOW_SECONDS);
-        
-        if (count > MAX_REQUESTS_PER_HOUR_BY_PHONE) {
-            throw new RateLimitExceededException(
-                "호출할 수 있는 인증 횟수를 초과하였습니다. 1시간 후 다시 시도해주세요."
-            );
-        }
+    public RateLimitDecision checkPhoneRateLimit(String phoneNumber) {
+        return check(
+            List.of(PHONE_RATE_LIMIT_KEY_PREFIX + phoneNumber),
+            List.of(phonePolicy())
+        );
     }
-    
+
     /**
      * Device ID 기반 Rate Limit 체크
      */
-    public void checkDeviceRateLimit(DeviceInfo deviceInfo) {
-        // Device ID 체크
-        String deviceKey = DEVICE_RATE_LIMIT_KEY_PREFIX + deviceInfo.getDeviceId();
-        Long deviceCount = rateLimitingRepository.incrementAndGet(
-            deviceKey, 
-            RATE_LIMIT_WINDOW_SECONDS
+    public RateLimitDecision checkDeviceRateLimit(DeviceInfo deviceInfo) {
+        return checkWithIp(
+            List.of(DEVICE_RATE_LIMIT_KEY_PREFIX + deviceInfo.getDeviceId()),
+            List.of(devicePolicy()),
+            deviceInfo.getClientIp()  // IP 체크 (IP만 사용)
         );
-        
-        if (deviceCount > MAX_REQUESTS_PER_HOUR_BY_DEVICE) {
-            throw new RateLimitExceededException(
-                "호출할 수 있는 인증 횟수를 초과하였습니다. 1시간 후 다시 시도해주세요."
+    }
+
+    /**
+     * 유저 조회 전 Device ID, IP 한도를 읽기만 해서 확인합니다. (증가시키지 않음, 저장소 조회 한 번)
+     * 이미 차단된 클라이언트는 유저 조회 없이 거절합니다. 실제 기록은 checkRateLimit에서 합니다.
+     */
+    public RateLimitDecision precheckDeviceRateLimit(DeviceInfo deviceInfo) {
+        String deviceKey = DEVICE_RATE_LIMIT_KEY_PREFIX + deviceInfo.getDeviceId();
+        if (ipRateLimitSketch.isEmpty()) {
+            return peek(
+                List.of(deviceKey, IP_RATE_LIMIT_KEY_PREFIX + deviceInfo.getClientIp()),
+                List.of(devicePolicy(), ipPolicy())
             );
         }
-        
-        // IP 체크 (IP만 사용)
-        String ipKey = IP_RATE_LIMIT_KEY_PREFIX + deviceInfo.getClientIp();
-        Long ipCount = rateLimitingRepository.incrementAndGet(
-            ipKey, 
-            RATE_LIMIT_WINDOW_SECONDS
-        );
-        
-        if (ipCount > MAX_REQUESTS_PER_HOUR_BY_IP) {
-            throw new RateLimitExceededException(
-                "호출할 수 있는 인증 횟수를 초과하였습니다. 1시간 후 다시 시도해주세요."
-            );
+
+        RateLimitDecision decision = peek(List.of(deviceKey), List.of(devicePolicy()));
+        if (!decision.isAllowed()) {
+            return decision;
         }
+        return decision.mostRestrictive(sketchDecision(ipRateLimitSketch.get(), deviceInfo.getClientIp(), false));
     }
-    
+
     /**
      * Rate Limit 리셋 (로그인 성공 시 모든 Rate Limit 카운트 삭제)
+     * 전화번호, Device ID 기반 카운트를 한 번에 삭제합니다. (IP는 공유될 수 있으므로 유지)
      */
     public void resetRateLimit(String phoneNumber, DeviceInfo deviceInfo) {
-        // 전화번호 기반 Rate Limit 리셋
-        String phoneKey = PHONE_RATE_LIMIT_KEY_PREFIX + phoneNumber;
-        rateLimitingRepository.delete(phoneKey);
-        
-        // Device ID 기반 Rate Limit 리셋
-        String deviceKey = DEVICE_RATE_LIMIT_KEY_PREFIX + deviceInfo.getDeviceId();
-        rateLimitingRepository.delete(deviceKey);
+        long now = System.currentTimeMillis();
+        RateLimitPolicy phonePolicy = phonePolicy();
+        RateLimitPolicy devicePolicy = devicePolicy();
+
+        List<String> keys = new ArrayList<>(phonePolicy.getStrategy()
+            .storageKeys(PHONE_RATE_LIMIT_KEY_PREFIX + phoneNumber, phonePolicy, now));
+        keys.addAll(devicePolicy.getStrategy()
+            .storageKeys(DEVICE_RATE_LIMIT_KEY_PREFIX + deviceInfo.getDeviceId(), devicePolicy, now));
+        rateLimitingRepository.deleteAll(keys);
+    }
+
+    /**
+     * 키를 체크한 뒤 IP를 마지막으로 체크합니다.
+     * sketch 모드가 아니면 IP도 다른 키와 같은 방식(저장소)으로 함께 체크합니다.
+     */
+    private RateLimitDecision checkWithIp(List<String> keys, List<RateLimitPolicy> policies, String clientIp) {
+        if (ipRateLimitSketch.isEmpty()) {
+            List<String> keysWithIp = new ArrayList<>(keys);
+            keysWithIp.add(IP_RATE_LIMIT_KEY_PREFIX + clientIp);
+            List<RateLimitPolicy> policiesWithIp = new ArrayList<>(policies);
+            policiesWithIp.add(ipPolicy());
+            return check(keysWithIp, policiesWithIp);
+        }
+
+        RateLimitDecision decision = check(keys, policies);
+        if (!decision.isAllowed()) {
+            return decision;
+        }
+        return decision.mostRestrictive(sketchDecision(ipRateLimitSketch.get(), clientIp, true));
+    }
+
+    /**
+     * sketch로 IP를 판단합니다. (record가 false이면 기록하지 않고 다음 요청을 가정)
+     * window는 now / window로 정렬되므로 resetAt은 현재 window가 끝나는 시각입니다.
+     */
+    private RateLimitDecision sketchDecision(IpRateLimitSketch sketch, String clientIp, boolean record) {
+        long now = System.currentTimeMillis();
+        RateLimitPolicy policy = ipPolicy();
+        long windowMillis = policy.getWindowMillis();
+        long count = record
+            ? sketch.incrementAndGet(clientIp, windowMillis, now)
+            : sketch.estimate(clientIp, windowMillis, now) + 1;
+        long resetAt = (now / windowMillis + 1) * windowMillis;
+
+        if (count > policy.getLimit()) {
+            return RateLimitDecision.rejected(policy.getLimit(), resetAt);
+        }
+        return RateLimitDecision.allowed(policy.getLimit(), policy.getLimit() - count, resetAt);
+    }
+
+    /**
+     * 키를 순서대로 체크하고 한도를 넘은 첫 키의 결과를 반환합니다. (넘은 키 이후는 기록하지 않음)
+     * 모두 허용이면 가장 제한적인 결과(남은 횟수가 가장 적은 키)를 반환합니다.
+     * 모두 같은 window의 FIXED_WINDOW이면 저장소 왕복 한 번(incrementAndGetAll)으로 처리합니다.
+     */
+    private RateLimitDecision check(List<String> keys, List<RateLimitPolicy> policies) {
+        long now = System.currentTimeMillis();
+        RateLimitDecision result = RateLimitDecision.unlimited();
+
+        if (isBatchable(policies)) {
+            List<Long> limits = new ArrayList<>(policies.size());
+            for (RateLimitPolicy policy : policies) {
+                limits.add(policy.getLimit());
+            }
+            List<Long> counts = rateLimitingRepository.incrementAndGetAll(
+                keys,
+                limits,
+                policies.get(0).getWindowSeconds()
+            );
+            for (int i = 0; i < counts.size(); i++) {
+                RateLimitPolicy policy = policies.get(i);
+                RateLimitDecision decision = policy.getStrategy().decide(counts.get(i), policy, now);
+                if (!decision.isAllowed()) {
+                    return decision;
+                }
+                result = result.mostRestrictive(decision);
+            }
+            return result;
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            RateLimitPolicy policy = policies.get(i);
+            RateLimitDecision decision = policy.getStrategy().acquire(rateLimitingRepository, keys.get(i), policy, now);
+            if (!decision.isAllowed()) {
+                return decision;
+            }
+            result = result.mostRestrictive(decision);
+        }
+        return result;
     }
 
     /**
-     * Rate Limit 초과 예외
+     * 키별 저장소 값을 한 번에 조회해, 다음 요청이 한도를 넘는 키가 있으면 그 결과를 반환합니다. (기록하지 않음)
      */
-    public static class RateLimitExceededException extends RuntimeException {
-        public RateLimitExceededException(String message) {
-            super(message);
+    private RateLimitDecision peek(List<String> keys, List<RateLimitPolicy> policies) {
+        long now = System.currentTimeMillis();
+        List<List<String>> storageKeys = new ArrayList<>(keys.size());
+        List<String> allStorageKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            RateLimitPolicy policy = policies.get(i);
+            List<String> keysOfPolicy = policy.getStrategy().storageKeys(keys.get(i), policy, now);
+            storageKeys.add(keysOfPolicy);
+            allStorageKeys.addAll(keysOfPolicy);
+        }
+
+        List<Long> values = rateLimitingRepository.getCounts(allStorageKeys);
+        RateLimitDecision result = RateLimitDecision.unlimited();
+        int offset = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            RateLimitPolicy policy = policies.get(i);
+            int size = storageKeys.get(i).size();
+            RateLimitDecision decision = policy.getStrategy().inspect(values.subList(offset, offset + size), policy, now);
+            if (!decision.isAllowed()) {
+                return decision;
+            }
+            result = result.mostRestrictive(decision);
+            offset += size;
+        }
+        return result;
+    }
+
+    private boolean isBatchable(List<RateLimitPolicy> policies) {
+        long windowSeconds = policies.get(0).getWindowSeconds();
+        for (RateLimitPolicy policy : policies) {
+            if (policy.getAlgorithm() != RateLimitAlgorithm.FIXED_WINDOW
+                || policy.getWindowSeconds() != windowSeconds) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    private RateLimitPolicy phonePolicy() {
+        return new RateLimitPolicy(phoneAlgorithm, phoneLimit, phoneWindowSeconds);
+    }
+
+    private RateLimitPolicy devicePolicy() {
+        return new RateLimitPolicy(deviceAlgorithm, deviceLimit, deviceWindowSeconds);
+    }
+
+    private RateLimitPolicy ipPolicy() {
+        return new RateLimitPolicy(ipAlgorithm, ipLimit, ipWindowSeconds);
     }
 }
@@ -0,0 +1,111 @@
+package com.lecture.auth.service;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.domain.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * SignedAccessTokenProvider
+ * 
+ * userId와 만료 시각을 담고 HMAC-SHA256으로 서명한 Access Token을 발급합니다.
+ * 검증은 서명과 만료 시각만 확인하므로 저장소 조회(I/O)가 필요 없습니다.
+ * 
+ * 토큰 형식: base64url("{userId}:{expiresAt}") + "." + base64url(HMAC-SHA256)
+ * 
+ * 주의: 저장하지 않으므로 만료 전에 개별 토큰을 무효화할 수 없습니다.
+ * 서명 키를 교체하면 발급된 모든 Access Token이 무효화됩니다.
+ */
+@Service
+@ConditionalOnProperty(name = "auth.access-token.mode", havingValue = "signed")
+public class SignedAccessTokenProvider implements AccessTokenProvider {
+    
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final long ACCESS_TOKEN_VALIDITY_MILLIS = 60 * 60 * 1000L; // 1시간
+    
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    
+    private final ThreadLocal<Mac> mac;  // Mac은 thread-safe하지 않으므로 스레드별로 사용
+    
+    public SignedAccessTokenProvider(@Value("${auth.access-token.signing-secret:}") String signingSecret) {
+        byte[] secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                "auth.access-token.signing-secret must be at least " + MIN_SECRET_BYTES + " bytes in signed mode"
+            );
+        }
+        SecretKeySpec key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to initialize " + HMAC_ALGORITHM, e);
+            }
+        });
+    }
+    
+    @Override
+    public AuthToken issue(AuthUser authUser) {
+        Long expiresAt = System.currentTimeMillis() + ACCESS_TOKEN_VALIDITY_MILLIS;
+        String payload = ENCODER.encodeToString(
+            (authUser.getId() + ":" + expiresAt).getBytes(StandardCharsets.UTF_8)
+        );
+        String signature = ENCODER.encodeToString(sign(payload));
+        return new AuthToken(payload + "." + signature, authUser.getId(), expiresAt);
+    }
+    
+    @Override
+    public Optional<Long> resolveUserId(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, separator);
+        
+        try {
+            // 1. 서명 검증 (상수 시간 비교)
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+            
+            // 2. 페이로드 파싱 및 만료 확인
+            String claims = new String(DECODER.decode(payload), StandardCharsets.UTF_8);
+            int colon = claims.indexOf(':');
+            if (colon <= 0) {
+                return Optional.empty();
+            }
+            long userId = Long.parseLong(claims.substring(0, colon));
+            long expiresAt = Long.parseLong(claims.substring(colon + 1));
+            if (expiresAt <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(userId);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Base64 또는 숫자 형식 (NumberFormatException 포함)
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public boolean isStored() {
+        return false;
+    }
+    
+    private byte[] sign(String payload) {
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+}
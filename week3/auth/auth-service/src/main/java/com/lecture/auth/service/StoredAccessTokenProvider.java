@@ -0,0 +1,44 @@
+package com.lecture.auth.service;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.domain.AuthUser;
+import com.lecture.auth.repository.AuthRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * StoredAccessTokenProvider
+ * 
+ * 불투명한 UUID 토큰을 발급하고, AuthRepository 조회로 검증합니다.
+ * 저장소에서 삭제하면 즉시 무효화할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.access-token.mode", havingValue = "stored", matchIfMissing = true)
+public class StoredAccessTokenProvider implements AccessTokenProvider {
+    
+    private static final long ACCESS_TOKEN_VALIDITY_MILLIS = 60 * 60 * 1000L; // 1시간
+    
+    private final AuthRepository authRepository;
+    
+    @Override
+    public AuthToken issue(AuthUser authUser) {
+        String token = UUID.randomUUID().toString();
+        Long expiresAt = System.currentTimeMillis() + ACCESS_TOKEN_VALIDITY_MILLIS;
+        return new AuthToken(token, authUser.getId(), expiresAt);
+    }
+    
+    @Override
+    public Optional<Long> resolveUserId(String token) {
+        return authRepository.findUserIdByToken(token);
+    }
+    
+    @Override
+    public boolean isStored() {
+        return true;
+    }
+}
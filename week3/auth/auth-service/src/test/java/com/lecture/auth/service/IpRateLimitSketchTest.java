@@ -0,0 +1,111 @@
+package com.lecture.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Count-Min Sketch 오차 한계
+ *
+ * 총 증가 횟수 N, width w, depth d일 때 IP 하나의 추정치는
+ * 확률 1 - e^-d 이상으로 실제 횟수 + (e / w) x N 이하입니다. (실제보다 작지는 않음)
+ */
+class IpRateLimitSketchTest {
+
+    private static final long WINDOW_MILLIS = 3_600_000L;
+    private static final long NOW = 10 * WINDOW_MILLIS;
+
+    @Test
+    void falsePositiveRateUnderSpoofedIpFloodIsWithinBound() {
+        int width = 65_536;
+        int depth = 4;
+        long limit = 100;
+        IpRateLimitSketch sketch = new IpRateLimitSketch(width, depth);
+
+        // 위조 IP 100만 개가 요청 하나씩 + 정상 IP 1000개가 한도의 절반씩
+        int spoofedIps = 1_000_000;
+        int legitIps = 1_000;
+        int legitRequests = 50;
+        for (int i = 0; i < spoofedIps; i++) {
+            sketch.incrementAndGet("spoofed-" + i, WINDOW_MILLIS, NOW);
+        }
+        for (int i = 0; i < legitIps; i++) {
+            for (int r = 0; r < legitRequests; r++) {
+                sketch.incrementAndGet("10.0." + (i / 256) + "." + (i % 256), WINDOW_MILLIS, NOW);
+            }
+        }
+
+        long total = spoofedIps + (long) legitIps * legitRequests;
+        double errorBound = Math.E / width * total;
+        double failureProbability = Math.exp(-depth);
+        assertThat(legitRequests + errorBound).isLessThan(limit);  // 한계 안이면 차단되지 않아야 하는 설정
+
+        int blocked = 0;
+        int overBound = 0;
+        for (int i = 0; i < legitIps; i++) {
+            long estimate = sketch.estimate("10.0." + (i / 256) + "." + (i % 256), WINDOW_MILLIS, NOW);
+            assertThat(estimate).isGreaterThanOrEqualTo(legitRequests);
+            if (estimate > limit) {
+                blocked++;
+            }
+            if (estimate - legitRequests > errorBound) {
+                overBound++;
+            }
+        }
+
+        assertThat((double) overBound / legitIps).isLessThanOrEqualTo(failureProbability);
+        assertThat((double) blocked / legitIps).isLessThanOrEqualTo(failureProbability);
+    }
+
+    @Test
+    void estimateNeverUndercountsConcurrentRequests() throws Exception {
+        IpRateLimitSketch sketch = new IpRateLimitSketch(1_024, 4);  // 충돌이 잦은 작은 테이블
+        int threads = 8;
+        int ips = 200;
+        int requestsPerIp = 50;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int r = 0; r < requestsPerIp; r++) {
+                    for (int i = 0; i < ips; i++) {
+                        sketch.incrementAndGet("ip-" + i, WINDOW_MILLIS, NOW);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+
+        for (int i = 0; i < ips; i++) {
+            assertThat(sketch.estimate("ip-" + i, WINDOW_MILLIS, NOW))
+                .isGreaterThanOrEqualTo((long) threads * requestsPerIp);
+        }
+    }
+
+    @Test
+    void newWindowStartsFromZero() {
+        IpRateLimitSketch sketch = new IpRateLimitSketch(1_024, 4);
+        for (int i = 0; i < 10; i++) {
+            sketch.incrementAndGet("1.2.3.4", WINDOW_MILLIS, NOW);
+        }
+
+        assertThat(sketch.estimate("1.2.3.4", WINDOW_MILLIS, NOW + WINDOW_MILLIS)).isZero();
+        assertThat(sketch.incrementAndGet("1.2.3.4", WINDOW_MILLIS, NOW + WINDOW_MILLIS)).isEqualTo(1);
+    }
+}
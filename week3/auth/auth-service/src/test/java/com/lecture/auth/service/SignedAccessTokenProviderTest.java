@@ -0,0 +1,124 @@
+package com.lecture.auth.service;
+
+import com.lecture.auth.domain.AuthToken;
+import com.lecture.auth.domain.AuthUser;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서명 검증(변조, 다른 키, 길이가 다른 서명), 만료, 잘못된 형식을 확인합니다.
+ */
+class SignedAccessTokenProviderTest {
+
+    private static final String SECRET = "test-signing-secret-0123456789abcdef";
+    private static final AuthUser USER = new AuthUser(7L, "user@example.com", "user", "password", "010-0000-0000");
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SignedAccessTokenProvider provider = new SignedAccessTokenProvider(SECRET);
+
+    @Test
+    void issuedTokenResolvesToUserId() {
+        AuthToken token = provider.issue(USER);
+
+        assertThat(provider.resolveUserId(token.getToken())).contains(7L);
+        assertThat(token.getExpiresAt()).isGreaterThan(System.currentTimeMillis());
+        assertThat(provider.isStored()).isFalse();
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        String token = provider.issue(USER).getToken();
+        String signature = token.substring(token.indexOf('.') + 1);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // 서명은 그대로 두고 userId만 바꿈
+        String forged = payload(8L, expiresAt) + "." + signature;
+
+        assertThat(provider.resolveUserId(forged)).isEmpty();
+    }
+
+    @Test
+    void signatureDifferingInOneByteIsRejected() {
+        String token = provider.issue(USER).getToken();
+        int separator = token.indexOf('.');
+        byte[] signature = DECODER.decode(token.substring(separator + 1));
+        signature[signature.length - 1] ^= 1;
+
+        assertThat(provider.resolveUserId(token.substring(0, separator + 1) + ENCODER.encodeToString(signature))).isEmpty();
+    }
+
+    @Test
+    void signatureOfDifferentLengthIsRejected() {
+        String token = provider.issue(USER).getToken();
+        int separator = token.indexOf('.');
+        byte[] signature = DECODER.decode(token.substring(separator + 1));
+
+        // 상수 시간 비교(MessageDigest.isEqual)는 길이가 달라도 예외 없이 false
+        String truncated = token.substring(0, separator + 1) + ENCODER.encodeToString(Arrays.copyOf(signature, 16));
+        String extended = token.substring(0, separator + 1) + ENCODER.encodeToString(Arrays.copyOf(signature, 33));
+
+        assertThat(provider.resolveUserId(truncated)).isEmpty();
+        assertThat(provider.resolveUserId(extended)).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithAnotherSecretIsRejected() {
+        SignedAccessTokenProvider other = new SignedAccessTokenProvider("other-signing-secret-0123456789abcdef");
+
+        assertThat(provider.resolveUserId(other.issue(USER).getToken())).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejectedEvenWithValidSignature() throws Exception {
+        String expired = signedToken(7L, System.currentTimeMillis() - 1);
+        String valid = signedToken(7L, System.currentTimeMillis() + 60_000);
+
+        assertThat(provider.resolveUserId(expired)).isEmpty();
+        assertThat(provider.resolveUserId(valid)).contains(7L);
+    }
+
+    @Test
+    void malformedTokensAreRejected() throws Exception {
+        assertThat(provider.resolveUserId("no-separator")).isEmpty();
+        assertThat(provider.resolveUserId(".signature-only")).isEmpty();
+        assertThat(provider.resolveUserId("payload-only.")).isEmpty();
+        assertThat(provider.resolveUserId("payload.not*base64")).isEmpty();
+
+        // 서명은 맞지만 페이로드가 "{userId}:{expiresAt}" 형식이 아님
+        assertThat(provider.resolveUserId(sign(ENCODER.encodeToString("7".getBytes(StandardCharsets.UTF_8))))).isEmpty();
+        assertThat(provider.resolveUserId(sign(ENCODER.encodeToString("x:1".getBytes(StandardCharsets.UTF_8))))).isEmpty();
+    }
+
+    @Test
+    void shortSecretIsRejected() {
+        assertThatThrownBy(() -> new SignedAccessTokenProvider("too-short"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String payload(long userId, long expiresAt) {
+        return ENCODER.encodeToString((userId + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String signedToken(long userId, long expiresAt) throws Exception {
+        return sign(payload(userId, expiresAt));
+    }
+
+    /**
+     * 같은 키로 페이로드에 서명한 토큰 (발급 시각을 지정하기 위해 직접 만듦)
+     */
+    private static String sign(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return payload + "." + ENCODER.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -1,5 +1,11 @@
+plugins {
+    `java-library`
+}
+
 dependencies {
-    implementation(project(":authorization:authorization-common"))
+    // 어노테이션 속성 타입(DataPermissionCheckType, RateLimitKeyType, RateLimitAlgorithm)은 사용하는 모듈에도 보여야 하므로 api로 선언
+    api(project(":authorization:authorization-common"))
+    api(project(":auth:auth-domain"))  // RateLimitAlgorithm
     // 순환 참조를 피하기 위해 compileOnly로 선언
     compileOnly(project(":lecture:lecture-service"))
     compileOnly(project(":group:group-service"))
@@ -10,6 +10,10 @@ import java.lang.annotation.Target;
  * 
  * 메서드 파라미터에 이 Annotation을 붙이면,
  * Aspect에서 해당 파라미터 값을 추출하여 소유권 검증에 사용합니다.
+ * 
+ * 지원 타입: Long, Collection<Long>, long[]
+ * ID 목록이면 한 번에 조회(DomainFinder.searchByIds, OwnershipFinder.findOwnershipIds)하여 모두 검증합니다.
+ * ID 목록은 중복을 제외하고 최대 100개까지 받습니다. (넘으면 조회 없이 거부)
  */
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
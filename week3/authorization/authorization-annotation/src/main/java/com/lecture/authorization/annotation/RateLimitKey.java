@@ -0,0 +1,17 @@
+package com.lecture.authorization.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rate Limit 키로 사용할 파라미터를 지정하는 Annotation
+ * 
+ * @RateLimited(key = RateLimitKeyType.PARAMETER)인 메서드의 파라미터에 이 Annotation을 붙이면,
+ * Aspect에서 해당 파라미터 값(Path Variable 등)을 기준으로 호출 횟수를 셉니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimitKey {
+}
@@ -0,0 +1,51 @@
+package com.lecture.authorization.annotation;
+
+import com.lecture.auth.domain.RateLimitAlgorithm;
+import com.lecture.authorization.common.RateLimitKeyType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 호출 횟수를 제한하는 Annotation
+ * 
+ * 이 Annotation이 붙은 메서드는 Aspect에 의해 가로채져서
+ * key 기준으로 windowSeconds 동안 limit회까지만 실행됩니다.
+ * 초과하면 메서드를 실행하지 않고 429 Too Many Requests로 응답합니다.
+ * 
+ * @param key 호출 횟수를 셀 기준 (USER, DEVICE, IP, PARAMETER)
+ * @param limit window당 한도
+ * @param windowSeconds window 길이 (초)
+ * @param algorithm Rate Limit 알고리즘
+ * @param name 키 이름 (기본값: 클래스명.메서드명)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    /**
+     * 호출 횟수를 셀 기준
+     */
+    RateLimitKeyType key();
+    
+    /**
+     * window당 한도
+     */
+    long limit();
+    
+    /**
+     * window 길이 (초)
+     */
+    long windowSeconds();
+    
+    /**
+     * Rate Limit 알고리즘
+     */
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.FIXED_WINDOW;
+    
+    /**
+     * 키 이름 (같은 이름을 지정한 메서드끼리 한도를 공유)
+     */
+    String name() default "";
+}
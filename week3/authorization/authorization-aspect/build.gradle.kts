@@ -1,9 +1,21 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     implementation(project(":authorization:authorization-common"))
     implementation(project(":authorization:authorization-annotation"))
     implementation(project(":group:group-service"))
     implementation(project(":group:group-domain"))
-    implementation(project(":auth:auth-repository"))
+    implementation(project(":auth:auth-service"))  // AccessTokenProvider, RateLimitPolicy
+    implementation(project(":auth:auth-domain"))
+    implementation(project(":auth:auth-repository"))  // RateLimitingRepository
+    implementation(project(":auth:auth-infrastructure"))  // DeviceInfo, RateLimitResponseWriter
     implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    
+    testImplementation(project(":group:group-repository"))  // 쿼리 수를 세는 GroupRepository 대역
+    
+    jmhImplementation(project(":group:group-repository"))  // 메모리 GroupRepository
+    jmhImplementation("org.springframework:spring-test")  // MockHttpServletRequest
 }
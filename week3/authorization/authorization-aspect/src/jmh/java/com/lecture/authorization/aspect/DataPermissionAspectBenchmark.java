@@ -0,0 +1,199 @@
+package com.lecture.authorization.aspect;
+
+import com.lecture.authorization.annotation.CheckDataPermission;
+import com.lecture.authorization.annotation.CheckGroupPermission;
+import com.lecture.authorization.annotation.PermissionId;
+import com.lecture.authorization.common.DomainFinder;
+import com.lecture.authorization.common.ResourceOwnership;
+import com.lecture.authorization.common.UserInfo;
+import com.lecture.group.domain.Group;
+import com.lecture.group.repository.GroupRepository;
+import com.lecture.group.service.GroupSearchService;
+import com.lecture.group.service.GroupService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataPermissionAspect의 호출당 오버헤드
+ *
+ * - direct: 검증 없이 Handler 호출 (기준)
+ * - cachedMetadata: 현재 DataPermissionAspect (메서드별 정보를 처음 한 번만 해석)
+ * - perCallReflection: 이전 방식 (호출마다 메타 어노테이션 탐색, 파라미터 스캔, getBean)
+ *
+ * 리소스는 메모리 GroupRepository에서 조회하므로 DB 시간은 포함하지 않습니다.
+ * 할당량은 -prof gc로 확인합니다.
+ *
+ * 실행: ./gradlew :authorization:authorization-aspect:jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataPermissionAspectBenchmark {
+
+    private static final long GROUP_ID = 1L;
+
+    @State(Scope.Thread)
+    public static class Endpoints {
+        GenericApplicationContext context;
+        GroupEndpoints direct;
+        GroupEndpoints cachedMetadata;
+        GroupEndpoints perCallReflection;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            GroupService groupService = new GroupService(new InMemoryGroupRepository());
+            context = new GenericApplicationContext();
+            context.registerBean(GroupSearchService.class, () -> new GroupSearchService(groupService));
+            context.refresh();
+
+            direct = new GroupEndpoints(groupService);
+            cachedMetadata = proxy(direct, new DataPermissionAspect(context));
+            perCallReflection = proxy(direct, new PerCallReflectionAspect(context));
+
+            // 요청 범위 캐시는 요청 속성에 보관되므로, 같은 요청에서 반복 호출하면 Handler는 캐시를 읽음
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME, new UserInfo(10L, GROUP_ID));
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+            context.close();
+        }
+
+        private static GroupEndpoints proxy(GroupEndpoints target, Object aspect) {
+            AspectJProxyFactory factory = new AspectJProxyFactory(target);
+            factory.setProxyTargetClass(true);
+            factory.addAspect(aspect);
+            return factory.getProxy();
+        }
+    }
+
+    @Benchmark
+    public Group direct(Endpoints endpoints) {
+        return endpoints.direct.getGroup(GROUP_ID);
+    }
+
+    @Benchmark
+    public Group cachedMetadata(Endpoints endpoints) {
+        return endpoints.cachedMetadata.getGroup(GROUP_ID);
+    }
+
+    @Benchmark
+    public Group perCallReflection(Endpoints endpoints) {
+        return endpoints.perCallReflection.getGroup(GROUP_ID);
+    }
+
+    /**
+     * 소유권 검증이 붙은 Controller 대역
+     */
+    public static class GroupEndpoints {
+        private final GroupService groupService;
+
+        public GroupEndpoints(GroupService groupService) {
+            this.groupService = groupService;
+        }
+
+        @CheckGroupPermission
+        public Group getGroup(@PermissionId Long groupId) {
+            return groupService.findById(groupId);
+        }
+    }
+
+    /**
+     * 메서드별 정보를 보관하기 전의 DataPermissionAspect와 같은 호출당 처리 (비교용)
+     */
+    @Aspect
+    public static class PerCallReflectionAspect {
+        private final ApplicationContext applicationContext;
+
+        public PerCallReflectionAspect(ApplicationContext applicationContext) {
+            this.applicationContext = applicationContext;
+        }
+
+        @Around("@annotation(com.lecture.authorization.annotation.CheckGroupPermission)")
+        public Object checkPermission(ProceedingJoinPoint joinPoint) throws Throwable {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            CheckDataPermission checkDataPermission = AnnotationUtils.findAnnotation(method, CheckDataPermission.class);
+            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+            UserInfo userInfo = (UserInfo) attributes.getRequest().getAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME);
+
+            Long id = null;
+            Parameter[] parameters = method.getParameters();
+            Object[] args = joinPoint.getArgs();
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].isAnnotationPresent(PermissionId.class) && args[i] instanceof Long) {
+                    id = (Long) args[i];
+                    break;
+                }
+            }
+
+            DomainFinder<?> finder = applicationContext.getBean(checkDataPermission.finder());
+            ResourceOwnership resource = finder.searchById(id);
+            checkDataPermission.type().validate(resource, userInfo);
+            return joinPoint.proceed();
+        }
+    }
+
+    /**
+     * 그룹 하나를 가진 메모리 GroupRepository
+     */
+    private static class InMemoryGroupRepository implements GroupRepository {
+        private final Group group = new Group(GROUP_ID, "group", "description");
+
+        @Override
+        public Group findById(Long id) {
+            return group;
+        }
+
+        @Override
+        public List<Group> findAllByIds(Collection<Long> ids) {
+            return List.of(group);
+        }
+
+        @Override
+        public Long findIdById(Long id) {
+            return GROUP_ID;
+        }
+
+        @Override
+        public List<Long> findIdsByIds(Collection<Long> ids) {
+            return List.of(GROUP_ID);
+        }
+
+        @Override
+        public Group save(Group group) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import com.lecture.authorization.annotation.CheckUserPermission;
 import com.lecture.authorization.annotation.PermissionId;
 import com.lecture.authorization.common.DataPermissionCheckType;
 import com.lecture.authorization.common.DomainFinder;
+import com.lecture.authorization.common.OwnershipFinder;
+import com.lecture.authorization.common.OwnershipScope;
+import com.lecture.authorization.common.RequestScopedResourceCache;
 import com.lecture.authorization.common.ResourceOwnership;
 import com.lecture.authorization.common.UserInfo;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,26 +18,58 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 데이터 소유권 검증을 수행하는 Aspect
  * 
  * @CheckDataPermission 또는 이를 메타 어노테이션으로 가진 어노테이션(@CheckUserPermission, @CheckLecturePermission, @CheckGroupPermission)이
  * 붙은 메서드를 가로채서 데이터 소유권 검증을 수행합니다.
+ * 
+ * 어노테이션 해석(메타 어노테이션 탐색), DomainFinder Bean 조회, @PermissionId 파라미터 위치는
+ * 메서드마다 처음 한 번만 계산해 보관합니다. 호출마다 리플렉션 없이 맵 조회, 인자 배열 접근, finder 호출만 수행합니다.
+ * 
+ * ID 하나는 같은 요청에서 이미 조회한 리소스(요청 범위 캐시)가 있으면 조회 없이 그 리소스로 검증합니다.
+ * 없으면 finder가 OwnershipFinder를 구현한 경우 소유권 ID 컬럼 하나만 조회해 검증합니다. (캐시에 넣지 않음)
+ * 구현하지 않았으면 DomainFinder.searchById로 조회해 검증하고, 요청 범위 캐시에 넣어 Handler가 다시 조회하지 않게 합니다.
+ * 
+ * @PermissionId가 Collection<Long> 또는 long[]이면 ID 목록을 한 번에 조회(IN 쿼리)한 뒤 메모리에서 모두 검증합니다.
+ * (ID 100개 요청도 쿼리 한 번, 하나라도 소유권이 없거나 존재하지 않으면 거부)
+ * 이때 finder가 OwnershipFinder도 구현하면 도메인 전체 대신 소유권 ID만 조회합니다.
+ * ID 목록의 크기는 요청이 정하므로 MAX_PERMISSION_IDS개를 넘으면 조회 전에 거부합니다. (IN 목록, 바인드 변수 수 제한)
+ * 
+ * 메서드에 OwnershipScope 파라미터가 있으면 (목록 조회) 리소스를 조회하지 않고,
+ * type.scopeOf(사용자 정보)로 만든 조건을 그 파라미터에 넣어 실행합니다. 소유권 필터링은 Repository 쿼리가 수행합니다.
  */
 @Aspect
 @Component
 public class DataPermissionAspect {
     
+    /**
+     * 한 요청에서 검증할 수 있는 최대 ID 수 (중복 제거 후)
+     */
+    static final int MAX_PERMISSION_IDS = 100;
+    
     private final ApplicationContext applicationContext;
     
+    private final ConcurrentHashMap<Method, PermissionTarget> targets = new ConcurrentHashMap<>();
+    
     public DataPermissionAspect(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
     }
@@ -44,43 +79,106 @@ public class DataPermissionAspect {
             "@annotation(com.lecture.authorization.annotation.CheckLecturePermission) || " +
             "@annotation(com.lecture.authorization.annotation.CheckGroupPermission)")
     public Object checkPermission(ProceedingJoinPoint joinPoint) throws Throwable {
-        // 1. 메서드 정보 추출
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        
-        // 2. CheckDataPermission Annotation 추출
-        CheckDataPermission checkDataPermission = AnnotationUtils.findAnnotation(
-            method, 
-            CheckDataPermission.class
-        );
-        if (checkDataPermission == null) {
-            throw new IllegalStateException("@CheckDataPermission annotation not found");
+        // 1. 메서드별 정보 조회 (처음 호출 시에만 어노테이션 해석, finder 조회)
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        PermissionTarget target = targets.get(method);
+        if (target == null) {
+            target = targets.computeIfAbsent(method, this::resolveTarget);
         }
         
-        // 3. UserInfo 추출 (Request에서 가져오기)
+        // 2. UserInfo 추출 (Request에서 가져오기)
         UserInfo userInfo = extractUserInfo();
         if (userInfo == null) {
             throw new IllegalStateException("UserInfo not found in request. UserInfoInterceptor must be registered.");
         }
         
-        // 4. @PermissionId가 붙은 파라미터에서 ID 추출
-        Long id = extractPermissionId(joinPoint, method);
-        if (id == null) {
-            throw new IllegalStateException("@PermissionId로 지정된 Long 파라미터가 없습니다.");
+        // 3. 목록 조회면 소유권 조건(OwnershipScope)을 인자로 넣어 실행 (쿼리에서 필터링)
+        if (target.scopeIndex >= 0) {
+            Object[] args = joinPoint.getArgs();
+            args[target.scopeIndex] = target.type.scopeOf(userInfo);
+            return joinPoint.proceed(args);
         }
         
-        // 5. DomainFinder Bean으로 리소스 조회
-        DomainFinder<?> finder = applicationContext.getBean(checkDataPermission.finder());
-        ResourceOwnership resource = finder.searchById(id);
+        // 4. @PermissionId가 붙은 파라미터에서 ID 추출 (ID 목록이면 한 번에 검증)
+        Object permissionId = target.extractPermissionId(joinPoint.getArgs());
+        if (permissionId == null) {
+            throw new IllegalStateException("@PermissionId로 지정된 Long, Collection<Long>, long[] 파라미터가 없습니다.");
+        }
+        if (!(permissionId instanceof Long)) {
+            checkAll(target, toIds(permissionId), userInfo);
+            return joinPoint.proceed();
+        }
+        Long id = (Long) permissionId;
         
-        // 6. 검증 수행
-        DataPermissionCheckType type = checkDataPermission.type();
-        type.validate(resource, userInfo);
+        // 5. 같은 요청에서 이미 조회한 리소스가 있으면 그 리소스로 검증
+        ResourceOwnership cached = RequestScopedResourceCache.get(target.resourceType, id);
+        if (cached != null) {
+            target.type.validate(cached, userInfo);
+            return joinPoint.proceed();
+        }
         
-        // 7. 검증 통과 시 원래 메서드 실행
+        // 6. 소유권 ID만 조회할 수 있으면 (OwnershipFinder) 그 값으로 검증 (요청 범위 캐시에는 도메인 전체만 보관)
+        if (target.ownershipFinder != null) {
+            Long ownershipId = target.ownershipFinder.findOwnershipId(id);
+            target.type.validate(() -> ownershipId, userInfo);
+            return joinPoint.proceed();
+        }
+        
+        // 7. DomainFinder로 리소스 조회 후 검증, 같은 요청의 Service가 다시 조회하지 않도록 보관
+        ResourceOwnership resource = target.finder.searchById(id);
+        target.type.validate(resource, userInfo);
+        RequestScopedResourceCache.put(target.resourceType, id, resource);
+        
+        // 8. 검증 통과 시 원래 메서드 실행
         return joinPoint.proceed();
     }
     
+    /**
+     * ID 목록의 리소스를 한 번에 조회하고 모두 검증합니다. (OwnershipFinder가 있으면 소유권 ID만 조회)
+     */
+    private void checkAll(PermissionTarget target, List<Long> ids, UserInfo userInfo) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        
+        if (target.ownershipFinder != null) {
+            Map<Long, Long> ownershipIds = target.ownershipFinder.findOwnershipIds(ids);
+            List<ResourceOwnership> resources = new ArrayList<>(ownershipIds.size());
+            for (Long ownershipId : ownershipIds.values()) {
+                resources.add(() -> ownershipId);
+            }
+            target.type.validateAll(resources, userInfo);
+            return;
+        }
+        
+        List<? extends ResourceOwnership> resources = target.finder.searchByIds(ids);
+        target.type.validateAll(resources, userInfo);
+    }
+    
+    /**
+     * Collection<Long> 또는 long[] 인자를 ID 목록으로 바꿉니다. (중복 제거, null 거부, MAX_PERMISSION_IDS개 초과 거부)
+     */
+    private List<Long> toIds(Object permissionIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (permissionIds instanceof long[]) {
+            for (long id : (long[]) permissionIds) {
+                ids.add(id);
+            }
+        } else {
+            for (Object id : (Collection<?>) permissionIds) {
+                if (!(id instanceof Long)) {
+                    throw new IllegalStateException("@PermissionId 목록에는 null이 아닌 Long만 사용할 수 있습니다: " + id);
+                }
+                ids.add((Long) id);
+            }
+        }
+        if (ids.size() > MAX_PERMISSION_IDS) {
+            throw new IllegalArgumentException(
+                "@PermissionId 목록은 최대 " + MAX_PERMISSION_IDS + "개까지 검증할 수 있습니다: " + ids.size());
+        }
+        return new ArrayList<>(ids);
+    }
+    
     /**
      * UserInfo를 Request에서 추출합니다.
      * UserInfoInterceptor에서 Request에 저장한 값을 가져옵니다.
@@ -95,20 +193,90 @@ public class DataPermissionAspect {
     }
     
     /**
-     * @PermissionId가 붙은 파라미터에서 ID를 추출합니다.
+     * 메서드의 @CheckDataPermission(메타 어노테이션 포함)과 @PermissionId, OwnershipScope 파라미터 위치를 해석합니다.
      */
-    private Long extractPermissionId(ProceedingJoinPoint joinPoint, Method method) {
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
+    private PermissionTarget resolveTarget(Method method) {
+        CheckDataPermission checkDataPermission = AnnotationUtils.findAnnotation(method, CheckDataPermission.class);
+        if (checkDataPermission == null) {
+            throw new IllegalStateException("@CheckDataPermission annotation not found");
+        }
         
+        Parameter[] parameters = method.getParameters();
+        int[] indexes = new int[parameters.length];
+        int count = 0;
+        int scopeIndex = -1;
         for (int i = 0; i < parameters.length; i++) {
             if (parameters[i].isAnnotationPresent(PermissionId.class)) {
-                Object arg = args[i];
-                if (arg instanceof Long) {
-                    return (Long) arg;
+                indexes[count++] = i;
+            }
+            if (parameters[i].getType() == OwnershipScope.class) {
+                scopeIndex = i;
+            }
+        }
+        
+        DomainFinder<?> finder = applicationContext.getBean(checkDataPermission.finder());
+        return new PermissionTarget(
+            finder,
+            resourceTypeOf(finder),
+            finder instanceof OwnershipFinder ? (OwnershipFinder) finder : null,
+            checkDataPermission.type(),
+            Arrays.copyOf(indexes, count),
+            scopeIndex
+        );
+    }
+    
+    /**
+     * finder가 조회하는 도메인 타입 (DomainFinder<T>의 T, Service가 요청 범위 캐시에 쓰는 키와 같음)
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends ResourceOwnership> resourceTypeOf(DomainFinder<?> finder) {
+        Class<?> type = ResolvableType.forClass(ClassUtils.getUserClass(finder))
+            .as(DomainFinder.class)
+            .resolveGeneric(0);
+        if (type == null) {
+            throw new IllegalStateException("DomainFinder의 도메인 타입을 알 수 없습니다: " + finder.getClass().getName());
+        }
+        return (Class<? extends ResourceOwnership>) type;
+    }
+    
+    /**
+     * 메서드별로 미리 계산한 소유권 검증 정보
+     */
+    private static class PermissionTarget {
+        private final DomainFinder<?> finder;
+        private final Class<? extends ResourceOwnership> resourceType;  // 요청 범위 캐시 키
+        private final OwnershipFinder ownershipFinder;  // finder가 구현하지 않으면 null
+        private final DataPermissionCheckType type;
+        private final int[] permissionIdIndexes;
+        private final int scopeIndex;  // OwnershipScope 파라미터가 없으면 -1
+        
+        private PermissionTarget(
+            DomainFinder<?> finder,
+            Class<? extends ResourceOwnership> resourceType,
+            OwnershipFinder ownershipFinder,
+            DataPermissionCheckType type,
+            int[] permissionIdIndexes,
+            int scopeIndex)
+        {
+            this.finder = finder;
+            this.resourceType = resourceType;
+            this.ownershipFinder = ownershipFinder;
+            this.type = type;
+            this.permissionIdIndexes = permissionIdIndexes;
+            this.scopeIndex = scopeIndex;
+        }
+        
+        /**
+         * @PermissionId가 붙은 파라미터 중 첫 Long, Collection, long[] 인자를 반환합니다.
+         */
+        Object extractPermissionId(Object[] args) {
+            for (int index : permissionIdIndexes) {
+                Object arg = args[index];
+                if (arg instanceof Long || arg instanceof Collection || arg instanceof long[]) {
+                    return arg;
                 }
             }
+            return null;
         }
-        return null;
     }
 }
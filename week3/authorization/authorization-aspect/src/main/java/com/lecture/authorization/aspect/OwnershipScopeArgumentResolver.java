@@ -0,0 +1,36 @@
+package com.lecture.authorization.aspect;
+
+import com.lecture.authorization.common.OwnershipScope;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * OwnershipScopeArgumentResolver
+ *
+ * Controller 메서드의 OwnershipScope 파라미터를 요청 값으로 바인딩하지 않도록 null로 주입합니다.
+ * (쿼리 파라미터로 ownershipId를 넘겨 다른 사용자의 목록을 조회할 수 없음)
+ *
+ * 실제 값은 DataPermissionAspect가 @CheckDataPermission의 type과 UserInfo로 채웁니다.
+ */
+@Component
+public class OwnershipScopeArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == OwnershipScope.class;
+    }
+
+    @Override
+    public Object resolveArgument(
+        MethodParameter parameter,
+        ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest,
+        WebDataBinderFactory binderFactory)
+    {
+        return null;
+    }
+}
@@ -0,0 +1,181 @@
+package com.lecture.authorization.aspect;
+
+import com.lecture.auth.domain.RateLimitDecision;
+import com.lecture.auth.infrastructure.DeviceIdInterceptor;
+import com.lecture.auth.infrastructure.DeviceInfo;
+import com.lecture.auth.infrastructure.RateLimitResponseWriter;
+import com.lecture.auth.repository.RateLimitingRepository;
+import com.lecture.auth.service.RateLimitPolicy;
+import com.lecture.authorization.annotation.RateLimitKey;
+import com.lecture.authorization.annotation.RateLimited;
+import com.lecture.authorization.common.RateLimitKeyType;
+import com.lecture.authorization.common.UserInfo;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호출 횟수 제한을 수행하는 Aspect
+ * 
+ * @RateLimited가 붙은 메서드를 가로채서 RateLimitingRepository(Redis/로컬 캐시)로 호출 횟수를 셉니다.
+ * 한도를 넘으면 메서드를 실행하지 않고 429 + Retry-After로 응답합니다. (RateLimitResponseWriter)
+ * 
+ * 어노테이션 해석, 키 접두사, @RateLimitKey 파라미터 위치는 메서드마다 처음 한 번만 계산해 보관합니다.
+ * 호출마다 리플렉션 없이 맵 조회 한 번과 키 문자열 조합만 수행합니다.
+ * 
+ * 소유권 검증(DataPermissionAspect)보다 먼저 실행되어, 차단된 요청은 DB 조회를 하지 않습니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RateLimitAspect {
+    
+    private static final String KEY_PREFIX = "rate_limit:api:";
+    
+    private final RateLimitingRepository rateLimitingRepository;
+    private final RateLimitResponseWriter rateLimitResponseWriter;
+    
+    private final ConcurrentHashMap<Method, RateLimitTarget> targets = new ConcurrentHashMap<>();
+    
+    @Around("@annotation(com.lecture.authorization.annotation.RateLimited)")
+    public Object rateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 1. 메서드별 정보 조회 (처음 호출 시에만 계산)
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RateLimitTarget target = targets.get(method);
+        if (target == null) {
+            target = targets.computeIfAbsent(method, RateLimitTarget::of);
+        }
+        
+        // 2. 웹 요청이 아니면 (내부 호출 등) 제한하지 않음
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return joinPoint.proceed();
+        }
+        
+        // 3. 키 계산 후 기록
+        String key = target.resolveKey(attributes.getRequest(), joinPoint.getArgs());
+        RateLimitPolicy policy = target.getPolicy();
+        RateLimitDecision decision = policy.getStrategy().acquire(
+            rateLimitingRepository,
+            key,
+            policy,
+            System.currentTimeMillis()
+        );
+        
+        // 4. 헤더 설정, 차단이면 메서드를 실행하지 않고 본문 없이 반환 (429)
+        HttpServletResponse response = attributes.getResponse();
+        boolean allowed = response != null
+            ? rateLimitResponseWriter.write(decision, response)
+            : decision.isAllowed();
+        if (!allowed) {
+            return null;
+        }
+        return joinPoint.proceed();
+    }
+    
+    /**
+     * 정보를 계산해 보관한 메서드 수
+     */
+    int getCachedTargetCount() {
+        return targets.size();
+    }
+    
+    /**
+     * 메서드별로 미리 계산한 Rate Limit 정보
+     */
+    private static class RateLimitTarget {
+        private final String keyPrefix;
+        private final RateLimitKeyType keyType;
+        private final int keyParameterIndex;
+        private final RateLimitPolicy policy;
+        
+        private RateLimitTarget(String keyPrefix, RateLimitKeyType keyType, int keyParameterIndex, RateLimitPolicy policy) {
+            this.keyPrefix = keyPrefix;
+            this.keyType = keyType;
+            this.keyParameterIndex = keyParameterIndex;
+            this.policy = policy;
+        }
+        
+        static RateLimitTarget of(Method method) {
+            RateLimited rateLimited = AnnotationUtils.findAnnotation(method, RateLimited.class);
+            if (rateLimited == null) {
+                throw new IllegalStateException("@RateLimited annotation not found");
+            }
+            
+            String name = rateLimited.name().isEmpty()
+                ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                : rateLimited.name();
+            
+            int keyParameterIndex = -1;
+            if (rateLimited.key() == RateLimitKeyType.PARAMETER) {
+                Parameter[] parameters = method.getParameters();
+                for (int i = 0; i < parameters.length; i++) {
+                    if (parameters[i].isAnnotationPresent(RateLimitKey.class)) {
+                        keyParameterIndex = i;
+                        break;
+                    }
+                }
+                if (keyParameterIndex < 0) {
+                    throw new IllegalStateException("@RateLimitKey로 지정된 파라미터가 없습니다: " + method);
+                }
+            }
+            
+            return new RateLimitTarget(
+                KEY_PREFIX + name + ":" + rateLimited.key().name().toLowerCase() + ":",
+                rateLimited.key(),
+                keyParameterIndex,
+                new RateLimitPolicy(rateLimited.algorithm(), rateLimited.limit(), rateLimited.windowSeconds())
+            );
+        }
+        
+        RateLimitPolicy getPolicy() {
+            return policy;
+        }
+        
+        /**
+         * 키 타입에 따라 Request 또는 인자에서 값을 꺼내 키를 만듭니다.
+         */
+        String resolveKey(HttpServletRequest request, Object[] args) {
+            switch (keyType) {
+                case USER:
+                    UserInfo userInfo = (UserInfo) request.getAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME);
+                    if (userInfo != null && userInfo.getUserId() != null) {
+                        return keyPrefix + userInfo.getUserId();
+                    }
+                    return keyPrefix + "ip:" + clientIp(request);
+                case DEVICE:
+                    DeviceInfo deviceInfo = (DeviceInfo) request.getAttribute(DeviceIdInterceptor.DEVICE_INFO_ATTRIBUTE_NAME);
+                    if (deviceInfo == null) {
+                        throw new IllegalStateException("DeviceInfo not found in request. DeviceIdInterceptor must be registered.");
+                    }
+                    return keyPrefix + deviceInfo.getDeviceId();
+                case IP:
+                    return keyPrefix + clientIp(request);
+                case PARAMETER:
+                    return keyPrefix + args[keyParameterIndex];
+                default:
+                    throw new IllegalStateException("Unknown key type: " + keyType);
+            }
+        }
+        
+        private String clientIp(HttpServletRequest request) {
+            DeviceInfo deviceInfo = (DeviceInfo) request.getAttribute(DeviceIdInterceptor.DEVICE_INFO_ATTRIBUTE_NAME);
+            return deviceInfo != null ? deviceInfo.getClientIp() : request.getRemoteAddr();
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.lecture.authorization.aspect;
 
 import com.lecture.authorization.common.UserInfo;
-import com.lecture.auth.repository.AuthRepository;
+import com.lecture.auth.service.AccessTokenProvider;
 import com.lecture.group.service.UserGroupMappingService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,13 +17,16 @@ import java.util.Optional;
  * 요청이 들어올 때 Bearer 토큰에서 사용자 정보를 추출하여 UserInfo를 생성하고 Request에 저장합니다.
  * 
  * Bearer 토큰이 없으면 X-User-Id 헤더를 사용합니다 (테스트용).
+ * 
+ * 토큰 검증은 AccessTokenProvider에 위임합니다.
+ * signed 모드에서는 저장소 조회 없이 서명만으로 검증합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class UserInfoInterceptor implements HandlerInterceptor {
     
     private final UserGroupMappingService userGroupMappingService;
-    private final AuthRepository authRepository;
+    private final AccessTokenProvider accessTokenProvider;
     
     @Override
     public boolean preHandle(
@@ -58,7 +61,7 @@ public class UserInfoInterceptor implements HandlerInterceptor {
         }
         
         String token = authorizationHeader.substring(7); // "Bearer " 제거
-        return authRepository.findUserIdByToken(token);
+        return accessTokenProvider.resolveUserId(token);
     }
     
     /**
@@ -0,0 +1,286 @@
+package com.lecture.authorization.aspect;
+
+import com.lecture.authorization.annotation.CheckGroupPermission;
+import com.lecture.authorization.annotation.PermissionId;
+import com.lecture.authorization.common.DataPermissionCheckType;
+import com.lecture.authorization.common.OwnershipScope;
+import com.lecture.authorization.common.RequestScopedResourceCache;
+import com.lecture.authorization.common.UserInfo;
+import com.lecture.group.domain.Group;
+import com.lecture.group.domain.GroupNotFoundException;
+import com.lecture.group.repository.GroupRepository;
+import com.lecture.group.service.GroupSearchService;
+import com.lecture.group.service.GroupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조회 횟수를 세는 GroupRepository 대역으로 소유권 검증이 실행하는 쿼리 수를 확인합니다.
+ */
+class DataPermissionAspectTest {
+
+    private static final long GROUP_ID = 1L;
+
+    private final CountingGroupRepository repository = new CountingGroupRepository();
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private GroupService groupService;
+    private GroupEndpoints endpoints;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 200; id++) {
+            repository.groups.put(id, new Group(id, "group-" + id, "description"));
+        }
+        groupService = new GroupService(repository);
+        context.registerBean(GroupSearchService.class, () -> new GroupSearchService(groupService));
+        context.refresh();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new GroupEndpoints(groupService));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new DataPermissionAspect(context));
+        endpoints = factory.getProxy();
+
+        startRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        context.close();
+    }
+
+    @Test
+    void cacheMissChecksWithProjectionOnly() {
+        Group group = endpoints.getGroup(GROUP_ID);
+
+        // 검증은 ID 컬럼만 조회하고, 그룹 전체는 Handler(GroupService.findById)만 조회
+        assertThat(group.getId()).isEqualTo(GROUP_ID);
+        assertThat(repository.findIdByIdCalls).isEqualTo(1);
+        assertThat(repository.findByIdCalls).isEqualTo(1);
+    }
+
+    @Test
+    void resourceLoadedEarlierInRequestIsCheckedWithoutQuery() {
+        groupService.findById(GROUP_ID);
+        endpoints.getGroup(GROUP_ID);
+        endpoints.getGroup(GROUP_ID);
+
+        assertThat(repository.findIdByIdCalls).isZero();
+        assertThat(repository.findByIdCalls).isEqualTo(1);
+    }
+
+    @Test
+    void cachedResourceIsNotSharedAcrossRequests() {
+        endpoints.getGroup(GROUP_ID);
+        startRequest();
+        endpoints.getGroup(GROUP_ID);
+
+        assertThat(repository.findIdByIdCalls).isEqualTo(2);
+        assertThat(repository.findByIdCalls).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedGetStopsAfterProjectionAndCachesNothing() {
+        assertThatThrownBy(() -> endpoints.getGroup(2L))
+            .isInstanceOf(DataPermissionCheckType.AccessDeniedException.class);
+
+        // 소유권 ID는 요청 범위 캐시에 넣지 않음 (캐시에는 도메인 전체만 보관)
+        assertThat(repository.findIdByIdCalls).isEqualTo(1);
+        assertThat(repository.findByIdCalls).isZero();
+        assertThat(RequestScopedResourceCache.get(Group.class, 2L)).isNull();
+    }
+
+    @Test
+    void batchCheckUsesOneQuery() {
+        // 모든 그룹의 소유권 ID는 그룹 ID이므로 같은 그룹 ID만 통과
+        assertThat(endpoints.getGroups(List.of(GROUP_ID, GROUP_ID))).isEqualTo(2);
+
+        assertThat(repository.findIdsByIdsCalls).isEqualTo(1);
+        assertThat(repository.findByIdCalls).isZero();
+    }
+
+    @Test
+    void batchOverLimitIsRejectedBeforeQuerying() {
+        List<Long> ids = LongStream.rangeClosed(1, DataPermissionAspect.MAX_PERMISSION_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> endpoints.getGroups(ids)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.findIdsByIdsCalls).isZero();
+    }
+
+    @Test
+    void duplicateIdsAreRemovedBeforeQuerying() {
+        List<Long> ids = Collections.nCopies(DataPermissionAspect.MAX_PERMISSION_IDS * 2, GROUP_ID);
+
+        assertThat(endpoints.getGroups(ids)).isEqualTo(ids.size());
+        assertThat(repository.findIdsByIdsCalls).isEqualTo(1);
+        assertThat(repository.lastIdsSize).isEqualTo(1);
+    }
+
+    @Test
+    void batchOverLimitAfterDeduplicationIsRejected() {
+        // 중복을 빼도 MAX_PERMISSION_IDS + 1개 (Set 인자도 같은 제한)
+        Set<Long> ids = LongStream.rangeClosed(1, DataPermissionAspect.MAX_PERMISSION_IDS + 1)
+            .boxed()
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Long> withDuplicates = new ArrayList<>(ids);
+        withDuplicates.addAll(ids);
+
+        assertThatThrownBy(() -> endpoints.getGroups(withDuplicates)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> endpoints.getGroupSet(ids)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.findIdsByIdsCalls).isZero();
+    }
+
+    @Test
+    void missingIdInBatchIsRejected() {
+        assertThatThrownBy(() -> endpoints.getGroups(List.of(GROUP_ID, 999L)))
+            .isInstanceOf(GroupNotFoundException.class)
+            .hasMessage("Group not found: [999]");
+    }
+
+    @Test
+    void batchAtLimitIsCheckedInOneQuery() {
+        List<Long> ids = LongStream.rangeClosed(1, DataPermissionAspect.MAX_PERMISSION_IDS).boxed().toList();
+
+        assertThatThrownBy(() -> endpoints.getGroups(ids))
+            .isInstanceOf(DataPermissionCheckType.AccessDeniedException.class);
+        assertThat(repository.findIdsByIdsCalls).isEqualTo(1);
+        assertThat(repository.lastIdsSize).isEqualTo(DataPermissionAspect.MAX_PERMISSION_IDS);
+    }
+
+    @Test
+    void clientSuppliedScopeIsReplacedWithCallerScope() throws Exception {
+        // 요청 값으로는 OwnershipScope를 만들지 않고 (null), Aspect가 현재 사용자로 채움
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("type", "USER");
+        request.setParameter("ownershipId", "999");
+        Method method = GroupEndpoints.class.getMethod("listGroups", OwnershipScope.class);
+        Object resolved = new OwnershipScopeArgumentResolver().resolveArgument(
+            new MethodParameter(method, 0), null, new ServletWebRequest(request), null);
+        assertThat(resolved).isNull();
+
+        OwnershipScope forged = new OwnershipScope(DataPermissionCheckType.USER, 999L);
+        OwnershipScope scope = endpoints.listGroups(forged);
+
+        assertThat(scope.getType()).isEqualTo(DataPermissionCheckType.GROUP);
+        assertThat(scope.getOwnershipId()).isEqualTo(GROUP_ID);
+        assertThat(repository.findIdByIdCalls + repository.findByIdCalls + repository.findIdsByIdsCalls).isZero();
+    }
+
+    /**
+     * 새 요청을 시작합니다. (요청 범위 캐시는 요청 속성에 있으므로 이전 요청의 캐시는 보이지 않음)
+     */
+    private static void startRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME, new UserInfo(10L, GROUP_ID));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    /**
+     * 소유권 검증이 붙은 Controller 대역
+     */
+    static class GroupEndpoints {
+        private final GroupService groupService;
+
+        GroupEndpoints(GroupService groupService) {
+            this.groupService = groupService;
+        }
+
+        @CheckGroupPermission
+        public Group getGroup(@PermissionId Long groupId) {
+            return groupService.findById(groupId);
+        }
+
+        @CheckGroupPermission
+        public int getGroups(@PermissionId List<Long> groupIds) {
+            return groupIds.size();
+        }
+
+        @CheckGroupPermission
+        public OwnershipScope listGroups(OwnershipScope scope) {
+            return scope;
+        }
+
+        @CheckGroupPermission
+        public int getGroupSet(@PermissionId Set<Long> groupIds) {
+            return groupIds.size();
+        }
+    }
+
+    /**
+     * 메서드별 호출(쿼리) 수를 세는 GroupRepository 대역
+     */
+    private static class CountingGroupRepository implements GroupRepository {
+        final Map<Long, Group> groups = new HashMap<>();
+        int findByIdCalls;
+        int findIdByIdCalls;
+        int findIdsByIdsCalls;
+        int lastIdsSize;
+
+        @Override
+        public Group findById(Long id) {
+            findByIdCalls++;
+            Group group = groups.get(id);
+            if (group == null) {
+                throw new GroupNotFoundException(id);
+            }
+            return group;
+        }
+
+        @Override
+        public List<Group> findAllByIds(Collection<Long> ids) {
+            List<Group> found = new ArrayList<>();
+            for (Long id : ids) {
+                found.add(findById(id));
+            }
+            return found;
+        }
+
+        @Override
+        public Long findIdById(Long id) {
+            findIdByIdCalls++;
+            if (!groups.containsKey(id)) {
+                throw new GroupNotFoundException(id);
+            }
+            return id;
+        }
+
+        @Override
+        public List<Long> findIdsByIds(Collection<Long> ids) {
+            findIdsByIdsCalls++;
+            lastIdsSize = ids.size();
+            List<Long> found = ids.stream().filter(groups::containsKey).toList();
+            if (found.size() < ids.size()) {
+                throw new GroupNotFoundException(ids, found);
+            }
+            return found;
+        }
+
+        @Override
+        public Group save(Group group) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
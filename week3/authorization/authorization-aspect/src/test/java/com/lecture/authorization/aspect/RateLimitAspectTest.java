@@ -0,0 +1,207 @@
+package com.lecture.authorization.aspect;
+
+import com.lecture.auth.infrastructure.DeviceIdInterceptor;
+import com.lecture.auth.infrastructure.DeviceInfo;
+import com.lecture.auth.infrastructure.RateLimitResponseWriter;
+import com.lecture.auth.repository.RateLimitingRepository;
+import com.lecture.authorization.annotation.RateLimitKey;
+import com.lecture.authorization.annotation.RateLimited;
+import com.lecture.authorization.common.RateLimitKeyType;
+import com.lecture.authorization.common.UserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키를 기록하는 RateLimitingRepository 대역으로 키 계산, 차단 응답, 메서드별 정보 보관을 확인합니다.
+ */
+class RateLimitAspectTest {
+
+    private static final String PREFIX = "rate_limit:api:";
+
+    private final RecordingRateLimitingRepository repository = new RecordingRateLimitingRepository();
+    private final RateLimitAspect aspect = new RateLimitAspect(repository, new RateLimitResponseWriter());
+    private final Endpoints target = new Endpoints();
+    private Endpoints endpoints;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        endpoints = factory.getProxy();
+
+        startRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void userKeyUsesUserId() {
+        request.setAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME, new UserInfo(10L, 1L));
+
+        endpoints.byUser();
+
+        assertThat(repository.keys).containsExactly(PREFIX + "Endpoints.byUser:user:10");
+    }
+
+    @Test
+    void userKeyFallsBackToIpWithoutUserInfo() {
+        request.setAttribute(DeviceIdInterceptor.DEVICE_INFO_ATTRIBUTE_NAME, new DeviceInfo("device-1", "1.2.3.4", "agent"));
+        endpoints.byUser();
+
+        // DeviceInfo도 없으면 요청의 remote address
+        startRequest();
+        request.setRemoteAddr("5.6.7.8");
+        endpoints.byUser();
+
+        assertThat(repository.keys).containsExactly(
+            PREFIX + "Endpoints.byUser:user:ip:1.2.3.4",
+            PREFIX + "Endpoints.byUser:user:ip:5.6.7.8"
+        );
+    }
+
+    @Test
+    void ipAndDeviceKeysUseDeviceInfo() {
+        request.setAttribute(DeviceIdInterceptor.DEVICE_INFO_ATTRIBUTE_NAME, new DeviceInfo("device-1", "1.2.3.4", "agent"));
+
+        endpoints.byIp();
+        endpoints.byDevice();
+
+        assertThat(repository.keys).containsExactly(
+            PREFIX + "Endpoints.byIp:ip:1.2.3.4",
+            PREFIX + "Endpoints.byDevice:device:device-1"
+        );
+    }
+
+    @Test
+    void parameterKeyUsesAnnotatedArgument() {
+        endpoints.byParameter("ignored", 42L);
+
+        assertThat(repository.keys).containsExactly(PREFIX + "shared-name:parameter:42");
+    }
+
+    @Test
+    void rejectedCallAnswers429WithoutRunningTheMethod() {
+        request.setAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME, new UserInfo(10L, 1L));
+        for (int i = 0; i < Endpoints.LIMIT; i++) {
+            assertThat(endpoints.byUser()).isEqualTo("ok");
+        }
+        assertThat(response.getHeader(RateLimitResponseWriter.REMAINING_HEADER)).isEqualTo("0");
+
+        startRequest();
+        request.setAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME, new UserInfo(10L, 1L));
+        assertThat(endpoints.byUser()).isNull();
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, Endpoints.WINDOW_SECONDS);
+        assertThat(target.invocations).isEqualTo(Endpoints.LIMIT);
+    }
+
+    @Test
+    void metadataIsResolvedOncePerMethod() {
+        request.setAttribute(UserInfoArgumentResolver.USER_INFO_ATTRIBUTE_NAME, new UserInfo(10L, 1L));
+
+        endpoints.byUser();
+        endpoints.byUser();
+        endpoints.byUser();
+        assertThat(aspect.getCachedTargetCount()).isEqualTo(1);
+
+        endpoints.byParameter("ignored", 1L);
+        endpoints.byParameter("ignored", 2L);
+        assertThat(aspect.getCachedTargetCount()).isEqualTo(2);
+    }
+
+    /**
+     * 새 요청을 시작합니다.
+     */
+    private void startRequest() {
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    /**
+     * 호출 횟수 제한이 붙은 Controller 대역
+     */
+    static class Endpoints {
+        static final long LIMIT = 3;
+        static final long WINDOW_SECONDS = 60;
+
+        int invocations;
+
+        @RateLimited(key = RateLimitKeyType.USER, limit = LIMIT, windowSeconds = WINDOW_SECONDS)
+        public String byUser() {
+            invocations++;
+            return "ok";
+        }
+
+        @RateLimited(key = RateLimitKeyType.IP, limit = LIMIT, windowSeconds = WINDOW_SECONDS)
+        public String byIp() {
+            return "ok";
+        }
+
+        @RateLimited(key = RateLimitKeyType.DEVICE, limit = LIMIT, windowSeconds = WINDOW_SECONDS)
+        public String byDevice() {
+            return "ok";
+        }
+
+        @RateLimited(key = RateLimitKeyType.PARAMETER, limit = LIMIT, windowSeconds = WINDOW_SECONDS, name = "shared-name")
+        public String byParameter(String other, @RateLimitKey Long id) {
+            return "ok";
+        }
+    }
+
+    /**
+     * 증가한 키를 순서대로 기록하는 RateLimitingRepository 대역 (고정 window 카운터만 지원)
+     */
+    private static class RecordingRateLimitingRepository implements RateLimitingRepository {
+        final List<String> keys = new ArrayList<>();
+        final Map<String, Long> counts = new HashMap<>();
+
+        @Override
+        public Long incrementAndGet(String key, long ttlSeconds) {
+            keys.add(key);
+            return counts.merge(key, 1L, Long::sum);
+        }
+
+        @Override
+        public List<Long> addAndGetAll(List<String> keys, List<Long> deltas, long ttlSeconds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getCount(String key) {
+            return counts.getOrDefault(key, 0L);
+        }
+
+        @Override
+        public long acquireGcra(String key, long emissionIntervalMillis, long burstToleranceMillis, long nowMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String key) {
+            counts.remove(key);
+        }
+    }
+}
@@ -1,4 +1,5 @@
 dependencies {
     // Spring Boot
     implementation("org.springframework.boot:spring-boot-starter")
+    implementation("org.springframework:spring-web")  // RequestScopedResourceCache (RequestContextHolder)
 }
@@ -1,10 +1,14 @@
 package com.lecture.authorization.common;
 
+import java.util.Collection;
+
 /**
  * 데이터 소유권 검증 타입
  * 
  * USER: 사용자 ID로 검증 (resource.getOwnershipId() == user.userId)
  * GROUP: 그룹 ID로 검증 (resource.getOwnershipId() == user.groupId)
+ * 
+ * 목록 조회는 리소스를 검증하는 대신 scopeOf로 만든 조건(OwnershipScope)을 쿼리에 적용합니다.
  */
 public enum DataPermissionCheckType {
     USER {
@@ -17,6 +21,14 @@ public enum DataPermissionCheckType {
                 throw new AccessDeniedException("Access Denied: User does not own this resource");
             }
         }
+        
+        @Override
+        public OwnershipScope scopeOf(UserInfo user) {
+            if (user.getUserId() == null) {
+                throw new IllegalStateException("User ID is null");
+            }
+            return new OwnershipScope(this, user.getUserId());
+        }
     },
     GROUP {
         @Override
@@ -31,6 +43,14 @@ public enum DataPermissionCheckType {
                 throw new AccessDeniedException("Access Denied: User does not belong to this group");
             }
         }
+        
+        @Override
+        public OwnershipScope scopeOf(UserInfo user) {
+            if (user.getGroupId() == null) {
+                throw new AccessDeniedException("Access Denied: User does not belong to any group");
+            }
+            return new OwnershipScope(this, user.getGroupId());
+        }
     };
 
     /**
@@ -41,6 +61,28 @@ public enum DataPermissionCheckType {
      * @throws AccessDeniedException 소유권이 없을 경우
      */
     public abstract void validate(ResourceOwnership resource, UserInfo user);
+    
+    /**
+     * 사용자가 소유한 리소스만 조회하는 쿼리 조건을 만듭니다. (validate를 통과하는 리소스와 같은 범위)
+     * 
+     * @param user 사용자 정보
+     * @return 소유권 컬럼에 적용할 조건
+     * @throws AccessDeniedException 조건을 만들 수 없을 경우 (GROUP인데 그룹이 없는 사용자)
+     */
+    public abstract OwnershipScope scopeOf(UserInfo user);
+    
+    /**
+     * 한 번에 조회한 리소스 목록을 모두 검증합니다. (하나라도 소유권이 없으면 거부)
+     * 
+     * @param resources 검증할 리소스 목록
+     * @param user 사용자 정보
+     * @throws AccessDeniedException 소유권이 없는 리소스가 있을 경우
+     */
+    public void validateAll(Collection<? extends ResourceOwnership> resources, UserInfo user) {
+        for (ResourceOwnership resource : resources) {
+            validate(resource, user);
+        }
+    }
 
     /**
      * Access Denied 예외
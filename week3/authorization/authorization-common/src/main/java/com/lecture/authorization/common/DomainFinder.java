@@ -1,5 +1,9 @@
 package com.lecture.authorization.common;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 도메인을 ID로 조회할 수 있는 인터페이스
  * 
@@ -15,4 +19,20 @@ public interface DomainFinder<T extends ResourceOwnership> {
      * @throws com.lecture.common.exception.NotFoundException 도메인이 존재하지 않을 경우
      */
     T searchById(Long id);
+    
+    /**
+     * ID 목록으로 도메인을 한 번에 조회합니다. (순서 무관)
+     * 기본 구현은 searchById를 ID마다 호출합니다. 구현체는 IN 쿼리 한 번으로 처리하도록 재정의합니다.
+     * 
+     * @param ids 도메인 ID 목록 (중복 없음)
+     * @return 도메인 객체 목록
+     * @throws RuntimeException 존재하지 않는 ID가 있을 경우 (searchById와 같은 예외)
+     */
+    default List<T> searchByIds(Collection<Long> ids) {
+        List<T> resources = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            resources.add(searchById(id));
+        }
+        return resources;
+    }
 }
@@ -0,0 +1,36 @@
+package com.lecture.authorization.common;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 리소스의 소유권 ID만 조회할 수 있는 인터페이스
+ * 
+ * 소유권 검증에는 ResourceOwnership.getOwnershipId()만 필요하므로,
+ * DomainFinder를 구현한 SearchService가 이 인터페이스도 구현하면
+ * Aspect는 도메인 전체 대신 소유권 ID 컬럼만 조회합니다.
+ * (예: SELECT created_by FROM lectures WHERE id = ?, SELECT id, created_by FROM lectures WHERE id IN (...))
+ * 
+ * ID 하나를 검증할 때 같은 요청에서 이미 조회한 리소스가 요청 범위 캐시(RequestScopedResourceCache)에 있으면
+ * 조회하지 않고 그 리소스로 검증합니다. 소유권 ID는 캐시에 넣지 않습니다. (캐시에는 도메인 전체만 보관)
+ */
+public interface OwnershipFinder {
+    
+    /**
+     * ID로 리소스의 소유권 ID를 조회합니다. (컬럼 하나 조회)
+     * 
+     * @param id 도메인 ID
+     * @return 소유권 ID (ResourceOwnership.getOwnershipId()와 같은 값)
+     * @throws RuntimeException 리소스가 존재하지 않을 경우 (searchById와 같은 예외)
+     */
+    Long findOwnershipId(Long id);
+    
+    /**
+     * ID 목록의 소유권 ID를 한 번에 조회합니다. (IN 쿼리 한 번)
+     * 
+     * @param ids 도메인 ID 목록 (중복 없음)
+     * @return 도메인 ID -> 소유권 ID
+     * @throws RuntimeException 존재하지 않는 ID가 있을 경우 (searchByIds와 같은 예외)
+     */
+    Map<Long, Long> findOwnershipIds(Collection<Long> ids);
+}
@@ -0,0 +1,25 @@
+package com.lecture.authorization.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록 조회 쿼리에 적용할 소유권 조건
+ *
+ * 리소스를 하나씩 조회해 검증(load-then-check)하는 대신, Repository가 이 조건을 쿼리의 WHERE 절에 넣어
+ * 사용자가 소유한 행만 조회합니다. (인덱스 범위 조회, 페이지네이션도 쿼리에서 처리)
+ *
+ * USER: created_by = :ownershipId (사용자 ID)
+ * GROUP: group_id = :ownershipId (사용자가 속한 그룹 ID)
+ *
+ * Repository는 type에 맞는 소유권 컬럼(ResourceOwnership.getOwnershipId()에 해당하는 컬럼)에 조건을 적용합니다.
+ *
+ * Controller 메서드에 OwnershipScope 파라미터를 선언하면 DataPermissionAspect가
+ * @CheckDataPermission의 type과 현재 사용자 정보로 채워 넣습니다. (DataPermissionCheckType.scopeOf)
+ */
+@Getter
+@RequiredArgsConstructor
+public class OwnershipScope {
+    private final DataPermissionCheckType type;
+    private final Long ownershipId;
+}
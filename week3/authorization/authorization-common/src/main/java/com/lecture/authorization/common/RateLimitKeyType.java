@@ -0,0 +1,18 @@
+package com.lecture.authorization.common;
+
+/**
+ * Rate Limit 키 타입
+ * 
+ * @RateLimited가 붙은 메서드의 호출 횟수를 무엇을 기준으로 셀지 지정합니다.
+ * 
+ * USER: 사용자 ID (UserInfo, 인증 없이 호출되어 UserInfo가 없으면 IP)
+ * DEVICE: Device ID (DeviceInfo)
+ * IP: 클라이언트 IP (DeviceInfo)
+ * PARAMETER: @RateLimitKey가 붙은 파라미터 값 (Path Variable 등)
+ */
+public enum RateLimitKeyType {
+    USER,
+    DEVICE,
+    IP,
+    PARAMETER
+}
@@ -0,0 +1,106 @@
+package com.lecture.authorization.common;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 요청 범위 리소스 캐시
+ * 
+ * 소유권 검증(DataPermissionAspect)에서 조회한 리소스를 같은 요청의 Service가 다시 조회하지 않도록
+ * (도메인 타입, ID) -> 리소스를 요청 속성에 보관합니다.
+ * (예: GET /lectures/{id}는 검증과 응답에서 같은 행을 한 번만 조회)
+ * 
+ * - 요청 속성에 저장하므로 요청이 끝나면 함께 사라집니다. (별도 정리 없음, 요청 간 공유 없음)
+ * - 웹 요청이 아니면 (스케줄러, 내부 호출 등) 캐시하지 않고 바로 조회합니다.
+ * - null(조회 결과 없음)은 캐시하지 않습니다.
+ * - 같은 요청에서 리소스를 변경하는 Service는 evict로 지워야 합니다.
+ */
+public final class RequestScopedResourceCache {
+    
+    private static final String ATTRIBUTE_NAME = RequestScopedResourceCache.class.getName();
+    
+    private RequestScopedResourceCache() {
+    }
+    
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader로 조회해 저장한 뒤 반환합니다.
+     */
+    public static <T> T getOrLoad(Class<T> type, Long id, Function<Long, T> loader) {
+        Map<ResourceKey, Object> resources = resources(true);
+        if (resources == null || id == null) {
+            return loader.apply(id);
+        }
+        ResourceKey key = new ResourceKey(type, id);
+        Object cached = resources.get(key);
+        if (cached != null) {
+            return type.cast(cached);
+        }
+        T resource = loader.apply(id);
+        if (resource != null) {
+            resources.put(key, resource);
+        }
+        return resource;
+    }
+    
+    /**
+     * 캐시에 있으면 반환하고, 없으면 조회하지 않고 null을 반환합니다.
+     */
+    public static <T> T get(Class<T> type, Long id) {
+        Map<ResourceKey, Object> resources = resources(false);
+        if (resources == null || id == null) {
+            return null;
+        }
+        return type.cast(resources.get(new ResourceKey(type, id)));
+    }
+    
+    /**
+     * 조회한 리소스를 저장합니다. (웹 요청이 아니면 무시)
+     */
+    public static void put(Class<?> type, Long id, Object resource) {
+        Map<ResourceKey, Object> resources = resources(true);
+        if (resources != null && id != null && resource != null) {
+            resources.put(new ResourceKey(type, id), resource);
+        }
+    }
+    
+    /**
+     * 저장된 리소스를 지웁니다. (같은 요청에서 리소스를 변경한 경우)
+     */
+    public static void evict(Class<?> type, Long id) {
+        Map<ResourceKey, Object> resources = resources(false);
+        if (resources != null) {
+            resources.remove(new ResourceKey(type, id));
+        }
+    }
+    
+    /**
+     * 현재 요청의 캐시 맵 (요청 하나는 한 스레드에서 처리되므로 HashMap 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<ResourceKey, Object> resources(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<ResourceKey, Object> resources =
+            (Map<ResourceKey, Object>) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (resources == null && create) {
+            resources = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE_NAME, resources, RequestAttributes.SCOPE_REQUEST);
+        }
+        return resources;
+    }
+    
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class ResourceKey {
+        private final Class<?> type;
+        private final Long id;
+    }
+}
@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2" apply false  // src/jmh/java 벤치마크 (./gradlew :<module>:jmh)
 }
 
 allprojects {
@@ -32,5 +33,11 @@ configure(subprojects.filter { it.name != "lecture-service" }) {
     dependencies {
         compileOnly("org.projectlombok:lombok:1.18.30")
         annotationProcessor("org.projectlombok:lombok:1.18.30")
+        
+        testImplementation("org.springframework.boot:spring-boot-starter-test")
+    }
+    
+    tasks.withType<Test> {
+        useJUnitPlatform()
     }
 }
@@ -70,6 +70,10 @@ public interface GroupApi {
         @ApiResponse(
             responseCode = "200",
             description = "유저 추가 성공"
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "호출 횟수 초과 (Retry-After 헤더의 초만큼 기다린 후 재시도)"
         )
     })
     @PostMapping("/{groupId}/users")
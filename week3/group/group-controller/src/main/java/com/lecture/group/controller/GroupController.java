@@ -2,6 +2,8 @@ package com.lecture.group.controller;
 
 import com.lecture.authorization.annotation.CheckGroupPermission;
 import com.lecture.authorization.annotation.PermissionId;
+import com.lecture.authorization.annotation.RateLimited;
+import com.lecture.authorization.common.RateLimitKeyType;
 import com.lecture.group.api.AddUserToGroupRequest;
 import com.lecture.group.api.CreateGroupRequest;
 import com.lecture.group.api.GroupApi;
@@ -15,6 +17,9 @@ import org.springframework.web.bind.annotation.RestController;
  * 
  * @CheckGroupPermission Annotation이 붙은 메서드는
  * Aspect에 의해 자동으로 소유권 검증이 수행됩니다.
+ * 
+ * @RateLimited Annotation이 붙은 메서드는
+ * Aspect에 의해 호출 횟수가 제한됩니다. (초과 시 429)
  */
 @RestController
 @RequiredArgsConstructor
@@ -37,7 +42,10 @@ public class GroupController implements GroupApi {
     }
     
     @Override
+    @RateLimited(key = RateLimitKeyType.USER, limit = 60, windowSeconds = 60)
     public void addUserToGroup(Long groupId, AddUserToGroupRequest request) {
+        // 호출자 기준으로 셉니다. (그룹 ID 기준이면 누구나 다른 그룹의 한도를 소진시킬 수 있음)
+        // 인증 없이 호출되는 경로라 UserInfo가 없으면 IP 기준
         // 유저를 그룹에 매핑 (테스트용)
         groupOrchestrator.addUserToGroup(groupId, request.getUserId());
     }
@@ -0,0 +1,32 @@
+package com.lecture.group.domain;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 그룹을 찾을 수 없을 때 발생하는 예외
+ * 
+ * ID 목록을 조회한 경우 존재하지 않는 ID만 요청 순서대로 메시지에 담습니다.
+ */
+public class GroupNotFoundException extends RuntimeException {
+    
+    public GroupNotFoundException(Long id) {
+        super("Group not found: " + id);
+    }
+    
+    /**
+     * @param ids 조회한 ID 목록
+     * @param foundIds 조회된 ID 목록
+     */
+    public GroupNotFoundException(Collection<Long> ids, Collection<Long> foundIds) {
+        super("Group not found: " + missingIds(ids, foundIds));
+    }
+    
+    private static Set<Long> missingIds(Collection<Long> ids, Collection<Long> foundIds) {
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        missing.removeAll(new HashSet<>(foundIds));
+        return missing;
+    }
+}
@@ -1,6 +1,24 @@
 package com.lecture.group.repository.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface GroupJpaRepository extends JpaRepository<GroupEntity, Long> {
+    
+    /**
+     * 그룹 ID만 조회합니다. (존재 확인, name, description을 읽지 않음)
+     */
+    @Query("select g.id from GroupEntity g where g.id = :id")
+    Optional<Long> findIdById(@Param("id") Long id);
+    
+    /**
+     * 존재하는 그룹 ID만 한 번에 조회합니다.
+     */
+    @Query("select g.id from GroupEntity g where g.id in :ids")
+    List<Long> findIdsByIds(@Param("ids") Collection<Long> ids);
 }
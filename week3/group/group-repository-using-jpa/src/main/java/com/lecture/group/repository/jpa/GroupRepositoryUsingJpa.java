@@ -1,10 +1,15 @@
 package com.lecture.group.repository.jpa;
 
 import com.lecture.group.domain.Group;
+import com.lecture.group.domain.GroupNotFoundException;
 import com.lecture.group.repository.GroupRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class GroupRepositoryUsingJpa implements GroupRepository {
@@ -14,10 +19,37 @@ public class GroupRepositoryUsingJpa implements GroupRepository {
     @Override
     public Group findById(Long id) {
         GroupEntity entity = jpaRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Group not found: " + id));
+            .orElseThrow(() -> new GroupNotFoundException(id));
         return convertToDomain(entity);
     }
     
+    @Override
+    public Long findIdById(Long id) {
+        return jpaRepository.findIdById(id)
+            .orElseThrow(() -> new GroupNotFoundException(id));
+    }
+    
+    @Override
+    public List<Group> findAllByIds(Collection<Long> ids) {
+        List<Group> groups = new ArrayList<>(ids.size());
+        for (GroupEntity entity : jpaRepository.findAllById(ids)) {
+            groups.add(convertToDomain(entity));
+        }
+        if (groups.size() < ids.size()) {
+            throw new GroupNotFoundException(ids, groups.stream().map(Group::getId).toList());
+        }
+        return groups;
+    }
+    
+    @Override
+    public List<Long> findIdsByIds(Collection<Long> ids) {
+        List<Long> found = jpaRepository.findIdsByIds(ids);
+        if (found.size() < ids.size()) {
+            throw new GroupNotFoundException(ids, found);
+        }
+        return found;
+    }
+    
     @Override
     public Group save(Group group) {
         GroupEntity entity = convertToEntity(group);
@@ -2,7 +2,13 @@ package com.lecture.group.repository;
 
 import com.lecture.group.domain.Group;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface GroupRepository {
     Group findById(Long id);
+    Long findIdById(Long id);  // 소유권 검증용 (존재 확인, id 컬럼만 조회)
+    List<Group> findAllByIds(Collection<Long> ids);  // IN 쿼리 한 번, 없는 ID가 있으면 예외
+    List<Long> findIdsByIds(Collection<Long> ids);  // 소유권 검증용 (존재 확인, IN 쿼리 한 번)
     Group save(Group group);
 }
@@ -1,18 +1,25 @@
 package com.lecture.group.service;
 
 import com.lecture.authorization.common.DomainFinder;
+import com.lecture.authorization.common.OwnershipFinder;
 import com.lecture.group.domain.Group;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 그룹 조회를 위한 SearchService
  * 
  * DomainFinder를 구현하여 Aspect에서 사용됩니다.
+ * 소유권 검증은 OwnershipFinder로 그룹 ID만 조회합니다. (존재 확인)
  */
 @Service
 @RequiredArgsConstructor
-public class GroupSearchService implements DomainFinder<Group> {
+public class GroupSearchService implements DomainFinder<Group>, OwnershipFinder {
     
     private final GroupService groupService;
     
@@ -20,4 +27,23 @@ public class GroupSearchService implements DomainFinder<Group> {
     public Group searchById(Long id) {
         return groupService.findById(id);
     }
+    
+    @Override
+    public List<Group> searchByIds(Collection<Long> ids) {
+        return groupService.findAllByIds(ids);
+    }
+    
+    @Override
+    public Long findOwnershipId(Long id) {
+        return groupService.findIdById(id);
+    }
+    
+    @Override
+    public Map<Long, Long> findOwnershipIds(Collection<Long> ids) {
+        Map<Long, Long> ownershipIds = new HashMap<>();
+        for (Long id : groupService.findIdsByIds(ids)) {
+            ownershipIds.put(id, id);  // 그룹 ID가 소유권 ID
+        }
+        return ownershipIds;
+    }
 }
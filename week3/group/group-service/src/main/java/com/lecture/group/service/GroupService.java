@@ -1,18 +1,43 @@
 package com.lecture.group.service;
 
+import com.lecture.authorization.common.RequestScopedResourceCache;
 import com.lecture.group.domain.Group;
 import com.lecture.group.repository.GroupRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class GroupService {
     
     private final GroupRepository groupRepository;
     
+    /**
+     * 같은 요청에서 이미 조회한 그룹(소유권 검증 등)은 다시 조회하지 않습니다.
+     */
     public Group findById(Long id) {
-        return groupRepository.findById(id);
+        return RequestScopedResourceCache.getOrLoad(Group.class, id, groupRepository::findById);
+    }
+    
+    /**
+     * 그룹이 있으면 ID를 반환합니다. (소유권 검증용, 그룹 ID가 소유권 ID)
+     */
+    public Long findIdById(Long id) {
+        return groupRepository.findIdById(id);
+    }
+    
+    public List<Group> findAllByIds(Collection<Long> ids) {
+        return groupRepository.findAllByIds(ids);
+    }
+    
+    /**
+     * 존재하는 그룹 ID를 한 번에 조회합니다. (소유권 검증용, 없는 ID가 있으면 예외)
+     */
+    public List<Long> findIdsByIds(Collection<Long> ids) {
+        return groupRepository.findIdsByIds(ids);
     }
     
     public Group create(String name, String description) {
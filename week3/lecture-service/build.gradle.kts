@@ -53,9 +53,17 @@ dependencies {
 
     // 프로젝트 모듈
     implementation(project(":auth:auth-controller"))
+    implementation(project(":auth:auth-repository"))  // AuthRepositoryConfig에서 참조
+    implementation(project(":auth:auth-external-api"))  // AuthUserApiConfig에서 참조
     implementation(project(":auth:auth-repository-using-jpa"))
+    implementation(project(":auth:auth-repository-using-cache"))  // 토큰 조회 캐시
     implementation(project(":auth:auth-repository-using-redis"))  // Rate Limiting Redis 구현체
-    implementation(project(":auth:auth-external-api-using-feign"))
+    implementation(project(":auth:auth-repository-using-local-cache"))  // Redis 장애 시 사용하는 로컬 Rate Limiting
+    implementation(project(":auth:auth-repository-using-fallback"))  // Redis + 로컬 Circuit Breaker 조합
+    implementation(project(":auth:auth-repository-using-replicated"))  // Redis 없는 배포용 복제 Rate Limiting
+    implementation(project(":auth:auth-repository-using-mapped-file"))  // 메모리 매핑 파일 Rate Limiting
+    implementation(project(":auth:auth-external-api-using-feign"))  // 서비스 분리 배포용
+    implementation(project(":auth:auth-external-api-using-local"))  // User 모듈과 같은 JVM일 때 자동 선택
     implementation(project(":auth:auth-infrastructure"))  // Infrastructure 추가
     
     // User 모듈
@@ -79,4 +87,7 @@ dependencies {
 
     // Feign Client
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign:4.1.0")
+    
+    // Circuit Breaker (RateLimitingRepositoryConfig)
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.1.0")
 }
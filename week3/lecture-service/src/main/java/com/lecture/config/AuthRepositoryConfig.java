@@ -0,0 +1,27 @@
+package com.lecture.config;
+
+import com.lecture.auth.repository.AuthRepository;
+import com.lecture.auth.repository.cache.AuthRepositoryUsingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * AuthRepositoryConfig
+ * 
+ * 토큰 저장소 앞에 캐시 데코레이터를 씌워 AuthRepository로 노출합니다.
+ * AuthService, UserInfoInterceptor는 이 Primary Bean을 주입받습니다.
+ */
+@Configuration
+public class AuthRepositoryConfig {
+    
+    @Bean
+    @Primary
+    public AuthRepositoryUsingCache authRepositoryUsingCache(
+        AuthRepository authRepository,  // 실제 저장소 구현체 (자기 자신은 후보에서 제외됨)
+        @Value("${auth.token-cache.maximum-size:10000}") int maximumSize)
+    {
+        return new AuthRepositoryUsingCache(authRepository, maximumSize);
+    }
+}
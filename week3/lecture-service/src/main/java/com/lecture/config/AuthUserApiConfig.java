@@ -0,0 +1,43 @@
+package com.lecture.config;
+
+import com.lecture.auth.external.api.AuthUserApi;
+import com.lecture.auth.external.api.CachingAuthUserApi;
+import com.lecture.auth.external.api.local.AuthUserCacheInvalidator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * AuthUserApiConfig
+ * 
+ * 유저 조회 구현체(Local/Feign) 앞에 캐시 데코레이터를 씌워 AuthUserApi로 노출합니다.
+ * AuthOrchestrator는 이 Primary Bean을 주입받습니다.
+ * 
+ * 캐시 값에는 비밀번호가 포함되므로 positive-ttl은 유저 변경 시 캐시가 무효화되는 경우
+ * (User 모듈이 같은 JVM에 있어 AuthUserCacheInvalidator가 등록된 경우)에만 적용합니다.
+ * 서비스 분리 배포(Feign)에서는 항상 User 서비스를 조회하고, 캐시 값은 호출이 실패할 때만 사용합니다.
+ */
+@Configuration
+public class AuthUserApiConfig {
+    
+    @Bean
+    @Primary
+    public CachingAuthUserApi cachingAuthUserApi(
+        AuthUserApi authUserApi,  // 실제 구현체 (자기 자신은 후보에서 제외됨)
+        ObjectProvider<AuthUserCacheInvalidator> invalidator,
+        @Value("${auth.user-cache.positive-ttl-ms:60000}") long positiveTtlMillis,
+        @Value("${auth.user-cache.stale-ttl-ms:300000}") long staleTtlMillis,
+        @Value("${auth.user-cache.negative-ttl-ms:10000}") long negativeTtlMillis,
+        @Value("${auth.user-cache.maximum-size:10000}") int maximumSize)
+    {
+        return new CachingAuthUserApi(
+            authUserApi,
+            invalidator.getIfAvailable() != null ? positiveTtlMillis : 0L,
+            staleTtlMillis,
+            negativeTtlMillis,
+            maximumSize
+        );
+    }
+}
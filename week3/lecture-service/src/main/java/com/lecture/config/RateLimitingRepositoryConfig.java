@@ -0,0 +1,159 @@
+package com.lecture.config;
+
+import com.lecture.auth.repository.RateLimitingRepository;
+import com.lecture.auth.repository.cache.RateLimitingRepositoryUsingCache;
+import com.lecture.auth.repository.fallback.RateLimitingRepositoryWithFallback;
+import com.lecture.auth.repository.local.RateLimitingRepositoryUsingLocalCache;
+import com.lecture.auth.repository.mapped.RateLimitingRepositoryUsingMappedFile;
+import com.lecture.auth.repository.redis.RateLimitingRepositoryUsingRedis;
+import com.lecture.auth.repository.replicated.RateLimitingRepositoryUsingReplicatedCounter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RateLimitingRepositoryConfig
+ * 
+ * Rate Limiting 저장소(Redis)에 데코레이터를 씌워 RateLimitingRepository로 노출합니다.
+ * RateLimitingService, RateLimitAspect는 이 Primary Bean을 주입받습니다.
+ * 
+ * 순서: 로컬 집계(local-aggregation) -> Redis 장애 대비(redis-fallback) -> Redis
+ * - replicated: Redis 대신 인스턴스끼리 UDP로 카운터를 복제 (Redis 없는 배포)
+ * - mapped-file: Redis 대신 메모리 매핑 파일에 저장 (단일 인스턴스, 재시작 후에도 카운터 유지)
+ * - redis-fallback: Redis를 Circuit Breaker로 감싸고, 느리거나 장애일 때 로컬 저장소로 판단 (복구 후 reconcile)
+ * - replicated, mapped-file, redis-fallback은 로컬 집계 아래 저장소를 고르는 설정이므로 하나만 켤 수 있습니다.
+ *   (둘 이상 켜면 시작 시 실패)
+ * - local-aggregation: 한도가 큰 키의 증가를 로컬에서 모아 주기적으로 반영
+ * 
+ * 각 계층도 Bean으로 등록되지만 RateLimitingRepository로 주입되는 것은 가장 바깥 계층(Primary)입니다.
+ * (종료 처리는 각 계층 Bean의 destroyMethod로 수행)
+ */
+@Configuration
+public class RateLimitingRepositoryConfig {
+    
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "auth.rate-limit.replicated.enabled", havingValue = "true")
+    public RateLimitingRepositoryUsingReplicatedCounter rateLimitingRepositoryUsingReplicatedCounter(
+        @Value("${auth.rate-limit.replicated.bind-address:127.0.0.1}") String bindAddress,
+        @Value("${auth.rate-limit.replicated.port:7946}") int port,
+        @Value("${auth.rate-limit.replicated.peers:}") String peers,
+        @Value("${auth.rate-limit.replicated.shared-secret:}") String sharedSecret,
+        @Value("${auth.rate-limit.replicated.gossip-interval-ms:50}") long gossipIntervalMillis,
+        @Value("${auth.rate-limit.replicated.full-sync-interval-ms:1000}") long fullSyncIntervalMillis,
+        @Value("${auth.rate-limit.replicated.maximum-size:100000}") int maximumSize)
+    {
+        return new RateLimitingRepositoryUsingReplicatedCounter(
+            bindAddress,
+            port,
+            peers,
+            sharedSecret,
+            gossipIntervalMillis,
+            fullSyncIntervalMillis,
+            maximumSize
+        );
+    }
+    
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "auth.rate-limit.mapped-file.enabled", havingValue = "true")
+    public RateLimitingRepositoryUsingMappedFile rateLimitingRepositoryUsingMappedFile(
+        @Value("${auth.rate-limit.mapped-file.path:./data/rate-limit.dat}") String path,
+        @Value("${auth.rate-limit.mapped-file.slot-count:1048576}") int slotCount)
+    {
+        return new RateLimitingRepositoryUsingMappedFile(Path.of(path), slotCount);
+    }
+    
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "auth.rate-limit.redis-fallback.enabled", havingValue = "true")
+    public RateLimitingRepositoryWithFallback rateLimitingRepositoryWithFallback(
+        RateLimitingRepositoryUsingRedis redis,
+        RateLimitingRepositoryUsingLocalCache local,
+        @Value("${auth.rate-limit.redis-fallback.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${auth.rate-limit.redis-fallback.slow-call-duration-ms:50}") long slowCallDurationMillis,
+        @Value("${auth.rate-limit.redis-fallback.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+        @Value("${auth.rate-limit.redis-fallback.sliding-window-size:20}") int slidingWindowSize,
+        @Value("${auth.rate-limit.redis-fallback.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+        @Value("${auth.rate-limit.redis-fallback.open-state-ms:5000}") long openStateMillis,
+        @Value("${auth.rate-limit.redis-fallback.maximum-tracked-keys:100000}") int maximumTrackedKeys,
+        @Value("${auth.rate-limit.redis-fallback.reconcile-interval-ms:1000}") long reconcileIntervalMillis)
+    {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(Duration.ofMillis(openStateMillis))
+            .permittedNumberOfCallsInHalfOpenState(3)
+            .build();
+        return new RateLimitingRepositoryWithFallback(
+            redis,
+            local,
+            CircuitBreaker.of("rateLimitingRepository", config),
+            maximumTrackedKeys,
+            reconcileIntervalMillis
+        );
+    }
+    
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "auth.rate-limit.local-aggregation.enabled", havingValue = "true")
+    public RateLimitingRepositoryUsingCache rateLimitingRepositoryUsingCache(
+        RateLimitingRepositoryUsingRedis redis,
+        ObjectProvider<RateLimitingRepositoryWithFallback> withFallback,
+        ObjectProvider<RateLimitingRepositoryUsingReplicatedCounter> replicated,
+        ObjectProvider<RateLimitingRepositoryUsingMappedFile> mappedFile,
+        @Value("${auth.rate-limit.local-aggregation.flush-interval-ms:200}") long flushIntervalMillis,
+        @Value("${auth.rate-limit.local-aggregation.flush-threshold:10}") long flushThreshold,
+        @Value("${auth.rate-limit.local-aggregation.maximum-size:100000}") int maximumSize)
+    {
+        return new RateLimitingRepositoryUsingCache(
+            remote(redis, withFallback, replicated, mappedFile),
+            flushIntervalMillis,
+            flushThreshold,
+            maximumSize
+        );
+    }
+    
+    @Bean(destroyMethod = "")  // 종료는 각 계층 Bean에서 처리
+    @Primary
+    public RateLimitingRepository rateLimitingRepository(
+        RateLimitingRepositoryUsingRedis redis,
+        ObjectProvider<RateLimitingRepositoryWithFallback> withFallback,
+        ObjectProvider<RateLimitingRepositoryUsingReplicatedCounter> replicated,
+        ObjectProvider<RateLimitingRepositoryUsingMappedFile> mappedFile,
+        ObjectProvider<RateLimitingRepositoryUsingCache> usingCache)
+    {
+        RateLimitingRepository outermost = usingCache.getIfAvailable();
+        return outermost != null ? outermost : remote(redis, withFallback, replicated, mappedFile);
+    }
+    
+    /**
+     * 로컬 집계 아래에 둘 저장소 (redis-fallback, replicated, mapped-file 중 켜진 것, 없으면 Redis)
+     * 둘 이상 켜져 있으면 하나가 조용히 쓰이지 않으므로 시작을 실패시킵니다.
+     */
+    private RateLimitingRepository remote(
+        RateLimitingRepositoryUsingRedis redis,
+        ObjectProvider<RateLimitingRepositoryWithFallback> withFallback,
+        ObjectProvider<RateLimitingRepositoryUsingReplicatedCounter> replicated,
+        ObjectProvider<RateLimitingRepositoryUsingMappedFile> mappedFile)
+    {
+        Map<String, RateLimitingRepository> enabled = new LinkedHashMap<>();
+        withFallback.ifAvailable(repository -> enabled.put("auth.rate-limit.redis-fallback.enabled", repository));
+        replicated.ifAvailable(repository -> enabled.put("auth.rate-limit.replicated.enabled", repository));
+        mappedFile.ifAvailable(repository -> enabled.put("auth.rate-limit.mapped-file.enabled", repository));
+        if (enabled.size() > 1) {
+            throw new IllegalStateException("Only one rate limit store can be enabled: " + enabled.keySet());
+        }
+        return enabled.isEmpty() ? redis : enabled.values().iterator().next();
+    }
+}
@@ -1,30 +1,78 @@
 package com.lecture.config;
 
+import com.lecture.auth.repository.redis.AuthRepositoryUsingRedis;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 /**
  * RedisConfig
  * 
  * Redis 설정을 구성합니다.
+ * 
+ * 접속 정보와 타임아웃은 spring.data.redis.*에서 읽습니다. (Docker Compose 등 환경별로 지정)
+ * - timeout: 명령 하나의 최대 대기 시간. Redis가 멈춰도 요청 스레드가 이 시간 이상 붙잡히지 않습니다.
+ * - connect-timeout: 연결 최대 대기 시간
+ * - 연결이 끊긴 동안의 명령은 쌓아 두지 않고 바로 실패시킵니다. (Rate Limiting은 로컬로 대신 판단)
+ * 
+ * 토큰 저장소(auth.token-store=redis)는 같은 Redis에 별도 연결과 템플릿을 사용합니다.
+ * timeout은 auth.token-redis.timeout에서 읽습니다. (토큰 조회는 로컬로 대신 판단할 수 없으므로 Rate Limiting보다 길게)
  */
 @Configuration
 public class RedisConfig {
     
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        // 로컬 Redis 사용 시
-        LettuceConnectionFactory factory = new LettuceConnectionFactory();
-        factory.setHostName("localhost");
-        factory.setPort(6379);
-        return factory;
-        
-        // Docker Compose 사용 시
-        // application.yml에서 설정 가능
+    @Primary
+    public RedisConnectionFactory redisConnectionFactory(
+        @Value("${spring.data.redis.host:localhost}") String host,
+        @Value("${spring.data.redis.port:6379}") int port,
+        @Value("${spring.data.redis.timeout:100ms}") Duration timeout,
+        @Value("${spring.data.redis.connect-timeout:500ms}") Duration connectTimeout)
+    {
+        return connectionFactory(host, port, timeout, connectTimeout);
+    }
+    
+    /**
+     * Rate Limiting 저장소가 주입받는 템플릿
+     * (토큰 저장소 템플릿도 StringRedisTemplate이므로 자동 설정 대신 직접 등록하고 Primary로 지정)
+     */
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "auth.token-store", havingValue = "redis")
+    public LettuceConnectionFactory authTokenRedisConnectionFactory(
+        @Value("${spring.data.redis.host:localhost}") String host,
+        @Value("${spring.data.redis.port:6379}") int port,
+        @Value("${auth.token-redis.timeout:1s}") Duration timeout,
+        @Value("${spring.data.redis.connect-timeout:500ms}") Duration connectTimeout)
+    {
+        return connectionFactory(host, port, timeout, connectTimeout);
+    }
+    
+    @Bean(name = AuthRepositoryUsingRedis.REDIS_TEMPLATE_BEAN_NAME)
+    @ConditionalOnProperty(name = "auth.token-store", havingValue = "redis")
+    public StringRedisTemplate authTokenRedisTemplate(
+        @Qualifier("authTokenRedisConnectionFactory") RedisConnectionFactory connectionFactory)
+    {
+        return new StringRedisTemplate(connectionFactory);
     }
     
     @Bean
@@ -35,4 +83,16 @@ public class RedisConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
+    
+    private static LettuceConnectionFactory connectionFactory(String host, int port, Duration timeout, Duration connectTimeout) {
+        ClientOptions clientOptions = ClientOptions.builder()
+            .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+            .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+            .build();
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+            .commandTimeout(timeout)
+            .clientOptions(clientOptions)
+            .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
+    }
 }
@@ -0,0 +1,14 @@
+package com.lecture.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig
+ * 
+ * @Scheduled 작업(만료 토큰 정리 등)을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
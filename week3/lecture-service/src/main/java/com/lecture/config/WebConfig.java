@@ -2,6 +2,7 @@ package com.lecture.config;
 
 import com.lecture.auth.infrastructure.DeviceIdInterceptor;
 import com.lecture.auth.infrastructure.DeviceInfoArgumentResolver;
+import com.lecture.authorization.aspect.OwnershipScopeArgumentResolver;
 import com.lecture.authorization.aspect.UserInfoArgumentResolver;
 import com.lecture.authorization.aspect.UserInfoInterceptor;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ public class WebConfig implements WebMvcConfigurer {
     private final DeviceInfoArgumentResolver deviceInfoArgumentResolver;
     private final UserInfoInterceptor userInfoInterceptor;
     private final UserInfoArgumentResolver userInfoArgumentResolver;
+    private final OwnershipScopeArgumentResolver ownershipScopeArgumentResolver;
     
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -39,11 +41,11 @@ public class WebConfig implements WebMvcConfigurer {
                 "/error",
                 "/favicon.ico",
                 // 인증이 필요 없는 API
+                // (POST /api/lectures는 제외하지 않음: createdBy와 @RateLimited(key = USER)에 UserInfo가 필요)
                 "/api/users",  // POST - 유저 생성
                 "/api/users/by-email/**",  // GET - 이메일로 유저 조회 (인증용)
                 "/api/groups",  // POST - 그룹 생성
                 "/api/groups/*/users",  // POST - 유저를 그룹에 추가
-                "/api/lectures",  // POST - 강의 생성
                 "/api/auth/**"  // 인증 관련 API (로그인 등)
             );
     }
@@ -52,5 +54,6 @@ public class WebConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(java.util.List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(deviceInfoArgumentResolver);
         resolvers.add(userInfoArgumentResolver);
+        resolvers.add(ownershipScopeArgumentResolver);
     }
 }
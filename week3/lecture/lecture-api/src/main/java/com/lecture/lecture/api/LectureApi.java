@@ -1,5 +1,6 @@
 package com.lecture.lecture.api;
 
+import com.lecture.authorization.common.OwnershipScope;
 import com.lecture.authorization.common.UserInfo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * Lecture API 인터페이스
@@ -44,6 +46,30 @@ public interface LectureApi {
     @GetMapping("/{lectureId}")
     LectureResponse getLecture(@PathVariable("lectureId") Long lectureId);
     
+    @Operation(
+        summary = "내 강의 목록 조회",
+        description = "자신이 만든 강의를 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.",
+        security = {
+            @SecurityRequirement(name = "bearerAuth"),
+            @SecurityRequirement(name = "userIdHeader")
+        }
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "강의 목록 조회 성공",
+            content = @Content(schema = @Schema(implementation = LecturePageResponse.class))
+        )
+    })
+    @GetMapping("/mine")
+    LecturePageResponse getMyLectures(
+        @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(value = "cursor", required = false) Long cursor,
+        @Parameter(description = "페이지 크기 (1 ~ 100)")
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        @Parameter(hidden = true) OwnershipScope scope
+    );
+    
     @Operation(
         summary = "강의 생성",
         description = "새로운 강의를 생성합니다. X-User-Id 헤더 또는 Bearer 토큰을 통해 사용자 정보를 전달해야 합니다.",
@@ -61,6 +87,10 @@ public interface LectureApi {
         @ApiResponse(
             responseCode = "400",
             description = "사용자 정보가 없음 (X-User-Id 헤더 또는 Bearer 토큰 필요)"
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "호출 횟수 초과 (Retry-After 헤더의 초만큼 기다린 후 재시도)"
         )
     })
     @PostMapping
@@ -0,0 +1,13 @@
+package com.lecture.lecture.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class LecturePageResponse {
+    private final List<LectureResponse> lectures;
+    private final Long nextCursor;  // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+}
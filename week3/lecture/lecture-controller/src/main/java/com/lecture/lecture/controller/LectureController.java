@@ -2,9 +2,13 @@ package com.lecture.lecture.controller;
 
 import com.lecture.authorization.annotation.CheckLecturePermission;
 import com.lecture.authorization.annotation.PermissionId;
+import com.lecture.authorization.annotation.RateLimited;
+import com.lecture.authorization.common.OwnershipScope;
+import com.lecture.authorization.common.RateLimitKeyType;
 import com.lecture.authorization.common.UserInfo;
 import com.lecture.lecture.api.CreateLectureRequest;
 import com.lecture.lecture.api.LectureApi;
+import com.lecture.lecture.api.LecturePageResponse;
 import com.lecture.lecture.api.LectureResponse;
 import com.lecture.lecture.orchestrator.LectureOrchestrator;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +19,10 @@ import org.springframework.web.bind.annotation.RestController;
  * 
  * @CheckLecturePermission Annotation이 붙은 메서드는
  * Aspect에 의해 자동으로 소유권 검증이 수행됩니다.
+ * (목록 조회는 OwnershipScope 파라미터에 소유권 조건이 채워지고, 쿼리에서 필터링됩니다)
+ * 
+ * @RateLimited Annotation이 붙은 메서드는
+ * Aspect에 의해 호출 횟수가 제한됩니다. (초과 시 429)
  */
 @RestController
 @RequiredArgsConstructor
@@ -31,6 +39,15 @@ public class LectureController implements LectureApi {
     }
     
     @Override
+    @CheckLecturePermission
+    public LecturePageResponse getMyLectures(Long cursor, int size, OwnershipScope scope) {
+        // Aspect가 scope에 소유권 조건(created_by = 현재 사용자 ID)을 채웁니다.
+        // 자신이 만든 강의만 쿼리에서 조회됩니다.
+        return lectureOrchestrator.getLectures(scope, cursor, size);
+    }
+    
+    @Override
+    @RateLimited(key = RateLimitKeyType.USER, limit = 30, windowSeconds = 60)
     public LectureResponse createLecture(CreateLectureRequest request, UserInfo userInfo) {
         // 강의 생성 시 현재 사용자 ID를 createdBy로 설정
         // UserInfo는 ArgumentResolver를 통해 자동 주입됩니다
@@ -1,15 +1,22 @@
 package com.lecture.lecture.orchestrator;
 
+import com.lecture.authorization.common.OwnershipScope;
+import com.lecture.lecture.api.LecturePageResponse;
 import com.lecture.lecture.api.LectureResponse;
 import com.lecture.lecture.domain.Lecture;
 import com.lecture.lecture.service.LectureService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class LectureOrchestrator {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final LectureService lectureService;
     
     public LectureResponse getLecture(Long lectureId) {
@@ -22,6 +29,30 @@ public class LectureOrchestrator {
         );
     }
     
+    /**
+     * 소유권 조건에 맞는 강의 한 페이지를 조회합니다.
+     * 다음 페이지가 있는지 알기 위해 size + 1개를 조회하고, 남은 행이 있으면 마지막 강의 ID를 nextCursor로 반환합니다.
+     */
+    public LecturePageResponse getLectures(OwnershipScope scope, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Lecture> lectures = lectureService.findPageByOwnership(scope, cursor, pageSize + 1);
+        boolean hasNext = lectures.size() > pageSize;
+        if (hasNext) {
+            lectures = lectures.subList(0, pageSize);
+        }
+        
+        List<LectureResponse> responses = new ArrayList<>(lectures.size());
+        for (Lecture lecture : lectures) {
+            responses.add(new LectureResponse(
+                lecture.getId(),
+                lecture.getTitle(),
+                lecture.getDescription(),
+                lecture.getCreatedBy()
+            ));
+        }
+        return new LecturePageResponse(responses, hasNext ? lectures.get(pageSize - 1).getId() : null);
+    }
+    
     public LectureResponse createLecture(String title, String description, Long createdBy) {
         Lecture lecture = lectureService.create(title, description, createdBy);
         return new LectureResponse(
@@ -6,7 +6,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "lectures")
+@Table(
+    name = "lectures",
+    indexes = @Index(name = "idx_lectures_created_by_id", columnList = "created_by, id")  // 작성자별 목록 (ID 역순 범위 조회)
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,36 @@
 package com.lecture.lecture.repository.jpa;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface LectureJpaRepository extends JpaRepository<LectureEntity, Long> {
+    
+    /**
+     * 강의 작성자 ID만 조회합니다. (title, description을 읽지 않음)
+     */
+    @Query("select l.createdBy from LectureEntity l where l.id = :id")
+    Optional<Long> findCreatedById(@Param("id") Long id);
+    
+    /**
+     * 강의 ID와 작성자 ID만 한 번에 조회합니다. ([id, createdBy] 목록)
+     */
+    @Query("select l.id, l.createdBy from LectureEntity l where l.id in :ids")
+    List<Object[]> findCreatedByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 작성자의 강의를 ID 내림차순으로 cursor 미만에서 pageable 크기만큼 조회합니다. (keyset 페이지네이션)
+     * (created_by, id) 인덱스 범위만 읽으므로 뒤 페이지도 OFFSET처럼 앞 행을 건너뛰며 읽지 않습니다.
+     */
+    @Query("select l from LectureEntity l where l.createdBy = :createdBy and l.id < :cursor order by l.id desc")
+    List<LectureEntity> findPageByCreatedBy(
+        @Param("createdBy") Long createdBy,
+        @Param("cursor") Long cursor,
+        Pageable pageable
+    );
 }
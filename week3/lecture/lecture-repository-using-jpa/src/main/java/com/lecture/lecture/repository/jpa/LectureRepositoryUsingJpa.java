@@ -1,10 +1,18 @@
 package com.lecture.lecture.repository.jpa;
 
 import com.lecture.lecture.domain.Lecture;
+import com.lecture.lecture.domain.LectureNotFoundException;
 import com.lecture.lecture.repository.LectureRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Repository
 @RequiredArgsConstructor
 public class LectureRepositoryUsingJpa implements LectureRepository {
@@ -14,10 +22,53 @@ public class LectureRepositoryUsingJpa implements LectureRepository {
     @Override
     public Lecture findById(Long id) {
         LectureEntity entity = jpaRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Lecture not found: " + id));
+            .orElseThrow(() -> new LectureNotFoundException(id));
         return convertToDomain(entity);
     }
     
+    @Override
+    public Long findCreatedById(Long id) {
+        return jpaRepository.findCreatedById(id)
+            .orElseThrow(() -> new LectureNotFoundException(id));
+    }
+    
+    @Override
+    public List<Lecture> findAllByIds(Collection<Long> ids) {
+        List<Lecture> lectures = new ArrayList<>(ids.size());
+        for (LectureEntity entity : jpaRepository.findAllById(ids)) {
+            lectures.add(convertToDomain(entity));
+        }
+        if (lectures.size() < ids.size()) {
+            throw new LectureNotFoundException(ids, lectures.stream().map(Lecture::getId).toList());
+        }
+        return lectures;
+    }
+    
+    @Override
+    public Map<Long, Long> findCreatedByIds(Collection<Long> ids) {
+        Map<Long, Long> createdByIds = new HashMap<>();
+        for (Object[] row : jpaRepository.findCreatedByIds(ids)) {
+            createdByIds.put((Long) row[0], (Long) row[1]);
+        }
+        if (createdByIds.size() < ids.size()) {
+            throw new LectureNotFoundException(ids, createdByIds.keySet());
+        }
+        return createdByIds;
+    }
+    
+    @Override
+    public List<Lecture> findPageByCreatedBy(Long createdBy, Long cursor, int size) {
+        List<Lecture> lectures = new ArrayList<>(size);
+        for (LectureEntity entity : jpaRepository.findPageByCreatedBy(
+            createdBy,
+            cursor != null ? cursor : Long.MAX_VALUE,
+            PageRequest.of(0, size)))
+        {
+            lectures.add(convertToDomain(entity));
+        }
+        return lectures;
+    }
+    
     @Override
     public Lecture save(Lecture lecture) {
         LectureEntity entity = convertToEntity(lecture);
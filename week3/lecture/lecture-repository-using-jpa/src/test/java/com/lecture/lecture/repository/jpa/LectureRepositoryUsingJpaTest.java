@@ -0,0 +1,69 @@
+package com.lecture.lecture.repository.jpa;
+
+import com.lecture.lecture.domain.Lecture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자 강의의 keyset 페이지네이션이 빠짐, 중복 없이 ID 내림차순으로 이어지는지 확인합니다.
+ */
+@SpringBootTest
+class LectureRepositoryUsingJpaTest {
+
+    private static final long OWNER = 1L;
+    private static final long OTHER = 2L;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(LectureRepositoryUsingJpa.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private LectureRepositoryUsingJpa lectureRepository;
+
+    @Test
+    void pagesFollowCursorWithoutGapsOrDuplicates() {
+        List<Long> owned = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            owned.add(lectureRepository.save(new Lecture(null, "lecture-" + i, "description", OWNER)).getId());
+            lectureRepository.save(new Lecture(null, "other-" + i, "description", OTHER));
+        }
+
+        List<Long> paged = new ArrayList<>();
+        Long cursor = null;
+        List<Lecture> page;
+        do {
+            page = lectureRepository.findPageByCreatedBy(OWNER, cursor, 10);
+            assertThat(page).hasSizeLessThanOrEqualTo(10);
+            assertThat(page).extracting(Lecture::getCreatedBy).containsOnly(OWNER);
+            for (Lecture lecture : page) {
+                paged.add(lecture.getId());
+            }
+            cursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+        } while (page.size() == 10);
+
+        // 첫 페이지는 cursor 없이 가장 최근 강의부터, 다음 페이지는 이전 페이지의 마지막 ID 미만
+        Collections.reverse(owned);
+        assertThat(paged).containsExactlyElementsOf(owned);
+    }
+
+    @Test
+    void pageAfterLastLectureIsEmpty() {
+        Lecture first = lectureRepository.save(new Lecture(null, "only", "description", 3L));
+
+        assertThat(lectureRepository.findPageByCreatedBy(3L, null, 10)).extracting(Lecture::getId)
+            .containsExactly(first.getId());
+        assertThat(lectureRepository.findPageByCreatedBy(3L, first.getId(), 10)).isEmpty();
+    }
+}
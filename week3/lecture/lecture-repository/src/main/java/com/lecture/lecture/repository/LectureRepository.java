@@ -2,7 +2,15 @@ package com.lecture.lecture.repository;
 
 import com.lecture.lecture.domain.Lecture;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface LectureRepository {
     Lecture findById(Long id);
+    Long findCreatedById(Long id);  // 소유권 검증용 (created_by 컬럼만 조회)
+    List<Lecture> findAllByIds(Collection<Long> ids);  // IN 쿼리 한 번, 없는 ID가 있으면 예외
+    Map<Long, Long> findCreatedByIds(Collection<Long> ids);  // 강의 ID -> 작성자 ID (IN 쿼리 한 번)
+    List<Lecture> findPageByCreatedBy(Long createdBy, Long cursor, int size);  // 작성자의 강의, ID 내림차순으로 cursor 미만 size개 (첫 페이지는 cursor null)
     Lecture save(Lecture lecture);
 }
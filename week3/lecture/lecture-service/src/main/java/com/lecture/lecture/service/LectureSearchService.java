@@ -1,18 +1,24 @@
 package com.lecture.lecture.service;
 
 import com.lecture.authorization.common.DomainFinder;
+import com.lecture.authorization.common.OwnershipFinder;
 import com.lecture.lecture.domain.Lecture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 강의 조회를 위한 SearchService
  * 
  * DomainFinder를 구현하여 Aspect에서 사용됩니다.
+ * 소유권 검증은 OwnershipFinder로 작성자 ID만 조회합니다.
  */
 @Service
 @RequiredArgsConstructor
-public class LectureSearchService implements DomainFinder<Lecture> {
+public class LectureSearchService implements DomainFinder<Lecture>, OwnershipFinder {
     
     private final LectureService lectureService;
     
@@ -20,4 +26,19 @@ public class LectureSearchService implements DomainFinder<Lecture> {
     public Lecture searchById(Long id) {
         return lectureService.findById(id);
     }
+    
+    @Override
+    public List<Lecture> searchByIds(Collection<Long> ids) {
+        return lectureService.findAllByIds(ids);
+    }
+    
+    @Override
+    public Long findOwnershipId(Long id) {
+        return lectureService.findCreatedById(id);
+    }
+    
+    @Override
+    public Map<Long, Long> findOwnershipIds(Collection<Long> ids) {
+        return lectureService.findCreatedByIds(ids);
+    }
 }
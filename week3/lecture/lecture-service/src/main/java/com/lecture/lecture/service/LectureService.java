@@ -1,18 +1,65 @@
 package com.lecture.lecture.service;
 
+import com.lecture.authorization.common.DataPermissionCheckType;
+import com.lecture.authorization.common.OwnershipScope;
+import com.lecture.authorization.common.RequestScopedResourceCache;
 import com.lecture.lecture.domain.Lecture;
 import com.lecture.lecture.repository.LectureRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class LectureService {
     
     private final LectureRepository lectureRepository;
     
+    /**
+     * 같은 요청에서 이미 조회한 강의(소유권 검증 등)는 다시 조회하지 않습니다.
+     */
     public Lecture findById(Long id) {
-        return lectureRepository.findById(id);
+        return RequestScopedResourceCache.getOrLoad(Lecture.class, id, lectureRepository::findById);
+    }
+    
+    /**
+     * 강의 작성자 ID만 조회합니다. (소유권 검증용)
+     */
+    public Long findCreatedById(Long id) {
+        return lectureRepository.findCreatedById(id);
+    }
+    
+    public List<Lecture> findAllByIds(Collection<Long> ids) {
+        return lectureRepository.findAllByIds(ids);
+    }
+    
+    /**
+     * 강의 ID -> 작성자 ID를 한 번에 조회합니다. (소유권 검증용)
+     */
+    public Map<Long, Long> findCreatedByIds(Collection<Long> ids) {
+        return lectureRepository.findCreatedByIds(ids);
+    }
+    
+    /**
+     * 소유권 조건에 맞는 강의를 ID 내림차순으로 조회합니다. (쿼리에서 필터링, 다른 사용자의 강의는 읽지 않음)
+     * 강의의 소유권은 작성자(USER)이므로 조건을 작성자 ID로 바꿔 Repository에 넘깁니다.
+     * 강의에는 그룹 컬럼이 없으므로 GROUP 조건은 조회 전에 거부합니다.
+     * 
+     * @param scope 소유권 조건 (DataPermissionAspect가 채움)
+     * @param cursor 이전 페이지의 마지막 강의 ID (첫 페이지는 null)
+     * @param size 조회할 개수
+     */
+    public List<Lecture> findPageByOwnership(OwnershipScope scope, Long cursor, int size) {
+        if (scope == null) {
+            throw new IllegalStateException("OwnershipScope is null. @CheckDataPermission must be declared on the list method.");
+        }
+        if (scope.getType() != DataPermissionCheckType.USER) {
+            throw new IllegalArgumentException("Lecture ownership is checked by USER: " + scope.getType());
+        }
+        return lectureRepository.findPageByCreatedBy(scope.getOwnershipId(), cursor, size);
     }
     
     public Lecture create(String title, String description, Long createdBy) {
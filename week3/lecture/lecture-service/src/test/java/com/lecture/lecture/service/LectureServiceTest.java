@@ -0,0 +1,85 @@
+package com.lecture.lecture.service;
+
+import com.lecture.authorization.common.DataPermissionCheckType;
+import com.lecture.authorization.common.OwnershipScope;
+import com.lecture.lecture.domain.Lecture;
+import com.lecture.lecture.repository.LectureRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 소유권 조건이 작성자 ID로 바뀌어 Repository에 전달되고, GROUP 조건은 조회 전에 거부되는지 확인합니다.
+ */
+class LectureServiceTest {
+
+    private final RecordingLectureRepository repository = new RecordingLectureRepository();
+    private final LectureService lectureService = new LectureService(repository);
+
+    @Test
+    void userScopeIsPassedAsCreatedBy() {
+        lectureService.findPageByOwnership(new OwnershipScope(DataPermissionCheckType.USER, 7L), 100L, 21);
+
+        assertThat(repository.calls).containsExactly(List.of(7L, 100L, 21L));
+    }
+
+    @Test
+    void groupScopeIsRejectedBeforeQuerying() {
+        OwnershipScope scope = new OwnershipScope(DataPermissionCheckType.GROUP, 3L);
+
+        assertThatThrownBy(() -> lectureService.findPageByOwnership(scope, null, 20))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.calls).isEmpty();
+    }
+
+    @Test
+    void missingScopeIsRejected() {
+        assertThatThrownBy(() -> lectureService.findPageByOwnership(null, null, 20))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(repository.calls).isEmpty();
+    }
+
+    /**
+     * findPageByCreatedBy 인자(createdBy, cursor, size)를 기록하는 LectureRepository 대역
+     */
+    private static class RecordingLectureRepository implements LectureRepository {
+        final List<List<Long>> calls = new ArrayList<>();
+
+        @Override
+        public List<Lecture> findPageByCreatedBy(Long createdBy, Long cursor, int size) {
+            calls.add(List.of(createdBy, cursor, (long) size));
+            return List.of();
+        }
+
+        @Override
+        public Lecture findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Long findCreatedById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Lecture> findAllByIds(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<Long, Long> findCreatedByIds(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Lecture save(Lecture lecture) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
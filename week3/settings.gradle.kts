@@ -21,6 +21,7 @@ include("auth:auth-repository")
 include("auth:auth-repository-using-jpa")
 include("auth:auth-external-api")
 include("auth:auth-external-api-using-feign")
+include("auth:auth-external-api-using-local")  // 같은 JVM에서 UserService 직접 호출
 
 // Auth Infrastructure (week2)
 include("auth:auth-infrastructure")
@@ -28,6 +29,10 @@ include("auth:auth-infrastructure")
 // Auth Repository 구현체 (week2)
 include("auth:auth-repository-using-redis")
 include("auth:auth-repository-using-local-cache")
+include("auth:auth-repository-using-cache")  // AuthRepository 토큰 캐시 데코레이터
+include("auth:auth-repository-using-fallback")  // Redis 장애 시 로컬 Rate Limiting
+include("auth:auth-repository-using-replicated")  // Redis 없이 인스턴스 간 UDP 복제 Rate Limiting
+include("auth:auth-repository-using-mapped-file")  // 재시작 후에도 유지되는 로컬 Rate Limiting
 
 // Authorization 모듈 (week3)
 include("authorization:authorization-common")
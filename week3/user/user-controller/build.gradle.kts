@@ -4,6 +4,7 @@ dependencies {
 
     implementation(project(":authorization:authorization-annotation"))
     implementation(project(":authorization:authorization-common"))
+    implementation(project(":auth:auth-domain"))  // RateLimitAlgorithm
     
     implementation("org.springframework.boot:spring-boot-starter-web")
 }
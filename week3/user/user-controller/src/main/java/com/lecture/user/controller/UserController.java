@@ -1,7 +1,10 @@
 package com.lecture.user.controller;
 
+import com.lecture.auth.domain.RateLimitAlgorithm;
 import com.lecture.authorization.annotation.CheckUserPermission;
 import com.lecture.authorization.annotation.PermissionId;
+import com.lecture.authorization.annotation.RateLimited;
+import com.lecture.authorization.common.RateLimitKeyType;
 import com.lecture.user.api.AuthUserResponse;
 import com.lecture.user.api.CreateUserRequest;
 import com.lecture.user.api.UserApi;
@@ -26,6 +29,9 @@ import org.springframework.web.bind.annotation.RestController;
  * 
  * @CheckUserPermission Annotation이 붙은 메서드는
  * Aspect에 의해 자동으로 소유권 검증이 수행됩니다.
+ * 
+ * @RateLimited Annotation이 붙은 메서드는
+ * Aspect에 의해 호출 횟수가 제한됩니다. (초과 시 429)
  */
 @RestController
 @RequiredArgsConstructor
@@ -42,7 +48,10 @@ public class UserController implements UserApi {
     }
     
     @Override
+    @RateLimited(key = RateLimitKeyType.IP, limit = 600, windowSeconds = 60, algorithm = RateLimitAlgorithm.GCRA)
     public AuthUserResponse getUserByEmail(String email) {
+        // 인증 없이 호출되는 API이므로 IP 기준으로 제한합니다.
+        // (auth 서비스가 Feign으로 호출하는 경우에도 막히지 않도록 한도를 넉넉하게 설정)
         return userOrchestrator.getUserByEmail(email);
     }
     
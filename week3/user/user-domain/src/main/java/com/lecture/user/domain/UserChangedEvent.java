@@ -0,0 +1,18 @@
+package com.lecture.user.domain;
+
+import lombok.Getter;
+
+/**
+ * 유저 생성/수정 이벤트
+ * 
+ * UserService가 유저를 저장한 뒤 발행합니다.
+ * 다른 모듈이 유저 정보를 캐싱하고 있다면 이 이벤트로 해당 이메일의 엔트리를 무효화합니다.
+ */
+@Getter
+public class UserChangedEvent {
+    private final String email;
+    
+    public UserChangedEvent(String email) {
+        this.email = email;
+    }
+}
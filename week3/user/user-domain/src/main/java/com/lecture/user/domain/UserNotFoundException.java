@@ -0,0 +1,14 @@
+package com.lecture.user.domain;
+
+/**
+ * 유저를 찾을 수 없을 때 발생하는 예외
+ * 
+ * 조회 실패(DB 장애 등)와 구분하기 위해 사용합니다.
+ * AuthUserApiUsingLocal은 이 예외만 "존재하지 않는 유저"로 취급하여 네거티브 캐시에 기록합니다.
+ */
+public class UserNotFoundException extends RuntimeException {
+    
+    public UserNotFoundException() {
+        super("User not found");
+    }
+}
@@ -2,7 +2,9 @@ package com.lecture.user.repository.jdbc;
 
 import com.lecture.user.repository.UserRepository;
 import com.lecture.user.domain.User;
+import com.lecture.user.domain.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -13,6 +15,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * AFTER 코드: JDBC 구현체
@@ -32,13 +37,49 @@ public class UserRepositoryUsingJdbc implements UserRepository {
         return jdbcTemplate.queryForObject(sql, userRowMapper(), id);
     }
     
+    @Override
+    public Long findIdById(Long id) {
+        String sql = "SELECT id FROM users WHERE id = ?";
+        try {
+            return jdbcTemplate.queryForObject(sql, Long.class, id);
+        } catch (EmptyResultDataAccessException e) {
+            throw new UserNotFoundException();
+        }
+    }
+    
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT id, email, name, password, phone_number FROM users WHERE id IN (" + placeholders(ids.size()) + ")";
+        List<User> users = jdbcTemplate.query(sql, userRowMapper(), ids.toArray());
+        if (users.size() < ids.size()) {
+            throw new UserNotFoundException();
+        }
+        return users;
+    }
+    
+    @Override
+    public List<Long> findIdsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT id FROM users WHERE id IN (" + placeholders(ids.size()) + ")";
+        List<Long> found = jdbcTemplate.queryForList(sql, Long.class, ids.toArray());
+        if (found.size() < ids.size()) {
+            throw new UserNotFoundException();
+        }
+        return found;
+    }
+    
     @Override
     public User findByEmail(String email) {
         String sql = "SELECT id, email, name, password, phone_number FROM users WHERE email = ?";
         try {
             return jdbcTemplate.queryForObject(sql, userRowMapper(), email);
-        } catch (Exception e) {
-            throw new RuntimeException("User not found");
+        } catch (EmptyResultDataAccessException e) {
+            throw new UserNotFoundException();
         }
     }
     
@@ -75,6 +116,10 @@ public class UserRepositoryUsingJdbc implements UserRepository {
         }
     }
     
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
     private RowMapper<User> userRowMapper() {
         return new RowMapper<User>() {
             @Override
@@ -1,7 +1,25 @@
 package com.lecture.user.repository.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     UserEntity findByEmail(String email);
+    
+    /**
+     * 유저 ID만 조회합니다. (존재 확인, password 등을 읽지 않음)
+     */
+    @Query("select u.id from UserEntity u where u.id = :id")
+    Optional<Long> findIdById(@Param("id") Long id);
+    
+    /**
+     * 존재하는 유저 ID만 한 번에 조회합니다.
+     */
+    @Query("select u.id from UserEntity u where u.id in :ids")
+    List<Long> findIdsByIds(@Param("ids") Collection<Long> ids);
 }
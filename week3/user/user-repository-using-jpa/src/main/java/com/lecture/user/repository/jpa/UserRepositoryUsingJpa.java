@@ -2,9 +2,14 @@ package com.lecture.user.repository.jpa;
 
 import com.lecture.user.repository.UserRepository;
 import com.lecture.user.domain.User;
+import com.lecture.user.domain.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * AFTER 코드: JPA 구현체
  * 
@@ -19,16 +24,43 @@ public class UserRepositoryUsingJpa implements UserRepository {
     @Override
     public User findById(Long id) {
         UserEntity entity = userJpaRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+            .orElseThrow(() -> new UserNotFoundException());
         
         return convertToUser(entity);
     }
     
+    @Override
+    public Long findIdById(Long id) {
+        return userJpaRepository.findIdById(id)
+            .orElseThrow(() -> new UserNotFoundException());
+    }
+    
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        List<User> users = new ArrayList<>(ids.size());
+        for (UserEntity entity : userJpaRepository.findAllById(ids)) {
+            users.add(convertToUser(entity));
+        }
+        if (users.size() < ids.size()) {
+            throw new UserNotFoundException();
+        }
+        return users;
+    }
+    
+    @Override
+    public List<Long> findIdsByIds(Collection<Long> ids) {
+        List<Long> found = userJpaRepository.findIdsByIds(ids);
+        if (found.size() < ids.size()) {
+            throw new UserNotFoundException();
+        }
+        return found;
+    }
+    
     @Override
     public User findByEmail(String email) {
         UserEntity entity = userJpaRepository.findByEmail(email);
         if (entity == null) {
-            throw new RuntimeException("User not found");
+            throw new UserNotFoundException();
         }
         
         return convertToUser(entity);
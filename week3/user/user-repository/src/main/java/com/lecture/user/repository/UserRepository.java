@@ -2,6 +2,9 @@ package com.lecture.user.repository;
 
 import com.lecture.user.domain.User;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * AFTER 코드: Repository 인터페이스
  * 
@@ -12,6 +15,9 @@ import com.lecture.user.domain.User;
  */
 public interface UserRepository {
     User findById(Long id);
+    Long findIdById(Long id);  // 소유권 검증용 (존재 확인, id 컬럼만 조회)
+    List<User> findAllByIds(Collection<Long> ids);  // IN 쿼리 한 번, 없는 ID가 있으면 예외
+    List<Long> findIdsByIds(Collection<Long> ids);  // 소유권 검증용 (존재 확인, IN 쿼리 한 번)
     User findByEmail(String email);
     User save(User user);
 }
@@ -1,18 +1,25 @@
 package com.lecture.user.service;
 
 import com.lecture.authorization.common.DomainFinder;
+import com.lecture.authorization.common.OwnershipFinder;
 import com.lecture.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 유저 조회를 위한 SearchService
  * 
  * DomainFinder를 구현하여 Aspect에서 사용됩니다.
+ * 소유권 검증은 OwnershipFinder로 유저 ID만 조회합니다. (존재 확인, password 등을 읽지 않음)
  */
 @Service
 @RequiredArgsConstructor
-public class UserSearchService implements DomainFinder<User> {
+public class UserSearchService implements DomainFinder<User>, OwnershipFinder {
     
     private final UserService userService;
     
@@ -20,4 +27,23 @@ public class UserSearchService implements DomainFinder<User> {
     public User searchById(Long id) {
         return userService.getUserById(id);
     }
+    
+    @Override
+    public List<User> searchByIds(Collection<Long> ids) {
+        return userService.getUsersByIds(ids);
+    }
+    
+    @Override
+    public Long findOwnershipId(Long id) {
+        return userService.getUserIdById(id);
+    }
+    
+    @Override
+    public Map<Long, Long> findOwnershipIds(Collection<Long> ids) {
+        Map<Long, Long> ownershipIds = new HashMap<>();
+        for (Long id : userService.getUserIdsByIds(ids)) {
+            ownershipIds.put(id, id);  // 유저 ID가 소유권 ID
+        }
+        return ownershipIds;
+    }
 }
@@ -1,10 +1,16 @@
 package com.lecture.user.service;
 
+import com.lecture.authorization.common.RequestScopedResourceCache;
 import com.lecture.user.repository.UserRepository;
 import com.lecture.user.domain.User;
+import com.lecture.user.domain.UserChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * User Service 구현체
  * 
@@ -13,18 +19,43 @@ import org.springframework.stereotype.Service;
  * 장점:
  * 1. Repository 인터페이스만 참조하여 구현체 교체 가능
  * 2. 단일 책임: 유저 조회만 담당
+ *
+ * 유저를 저장하면 UserChangedEvent를 발행합니다. (유저 정보 캐시 무효화용)
  */
 @Service
 @RequiredArgsConstructor
 public class UserService {
     
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 유저 ID로 유저 정보 조회
+     * 같은 요청에서 이미 조회한 유저(소유권 검증 등)는 다시 조회하지 않습니다.
      */
     public User getUserById(Long id) {
-        return userRepository.findById(id);
+        return RequestScopedResourceCache.getOrLoad(User.class, id, userRepository::findById);
+    }
+    
+    /**
+     * 유저가 있으면 ID를 반환합니다. (소유권 검증용, 유저 ID가 소유권 ID)
+     */
+    public Long getUserIdById(Long id) {
+        return userRepository.findIdById(id);
+    }
+    
+    /**
+     * 유저 ID 목록으로 유저 정보를 한 번에 조회
+     */
+    public List<User> getUsersByIds(Collection<Long> ids) {
+        return userRepository.findAllByIds(ids);
+    }
+    
+    /**
+     * 존재하는 유저 ID를 한 번에 조회합니다. (소유권 검증용, 없는 ID가 있으면 예외)
+     */
+    public List<Long> getUserIdsByIds(Collection<Long> ids) {
+        return userRepository.findIdsByIds(ids);
     }
     
     /**
@@ -39,6 +70,8 @@ public class UserService {
      */
     public User createUser(String email, String name, String password, String phoneNumber) {
         User user = new User(null, email, name, password, phoneNumber);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getEmail()));
+        return savedUser;
     }
 }